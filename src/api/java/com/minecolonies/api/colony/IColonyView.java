@@ -194,6 +194,13 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handleColonyViewMessage(@NotNull FriendlyByteBuf buf, @NotNull Level world, boolean isNewSubscription);
 
+    /**
+     * Check if update packets of this view are still being decoded, windows can show a loading state until they arrive.
+     *
+     * @return true if so.
+     */
+    boolean isLoading();
+
     /**
      * Update permissions.
      *
@@ -204,7 +211,8 @@ public interface IColonyView extends IColony
     IMessage handlePermissionsViewMessage(@NotNull FriendlyByteBuf buf);
 
     /**
-     * Update a ColonyView's workOrders given a network data ColonyView update packet. This uses a full-replacement - workOrders do not get updated and are instead overwritten.
+     * Update a ColonyView's workOrders given a network data ColonyView update packet. A full list replaces all known workOrders, otherwise only the listed
+     * workOrders are added or overwritten.
      *
      * @param buf Network data.
      * @return null == no response.
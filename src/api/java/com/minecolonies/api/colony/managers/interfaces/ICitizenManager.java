@@ -159,6 +159,41 @@ public interface ICitizenManager extends IEntityManager
      */
     void updateModifier(final String id);
 
+    /**
+     * Called when the happiness modifiers of a citizen changed, so its happiness is evaluated again for the colony.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    void onCitizenHappinessChanged(final int citizenId);
+
+    /**
+     * Evaluate the citizens whose happiness changed, so the next read is cheap. Only touches the state of this colony.
+     */
+    void updateHappiness();
+
+    /**
+     * Check if the happiness of any citizen changed since the last evaluation.
+     *
+     * @return true if {@link #updateHappiness()} has work to do.
+     */
+    boolean hasHappinessChanges();
+
+    /**
+     * Get the average happiness over all citizens.
+     *
+     * @param fallback the happiness of a colony without citizens.
+     * @return the average happiness.
+     */
+    double getOverallHappiness(final double fallback);
+
+    /**
+     * Get the average factor of a happiness modifier over all citizens.
+     *
+     * @param id the name of the modifier.
+     * @return the average factor, 1 if no citizen has the modifier.
+     */
+    double getAverageHappinessFactor(final String id);
+
     /**
      * Call this when citizens sleep
      */
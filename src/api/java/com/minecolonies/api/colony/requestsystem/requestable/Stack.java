@@ -310,6 +310,15 @@ public class Stack implements IConcreteDeliverable
         return matchDamage;
     }
 
+    /**
+     * Check if any stack sharing a tag matches.
+     * @return true if so.
+     */
+    public boolean matchOreDic()
+    {
+        return matchOreDic;
+    }
+
     @Override
     public IDeliverable copyWithCount(final int newCount)
     {
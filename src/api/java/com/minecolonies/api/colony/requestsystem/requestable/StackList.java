@@ -336,6 +336,16 @@ public class StackList implements IConcreteDeliverable, INonExhaustiveDeliverabl
         return theStacks;
     }
 
+    /**
+     * Check if any stack sharing a tag matches.
+     *
+     * @return true if so.
+     */
+    public boolean matchOreDic()
+    {
+        return matchOreDic;
+    }
+
     @Override
     public void setResult(@NotNull final ItemStack result)
     {
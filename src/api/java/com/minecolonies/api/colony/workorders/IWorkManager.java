@@ -134,12 +134,20 @@ public interface IWorkManager
     boolean isDirty();
 
     /**
-     * Sets if changes has been made.
+     * Sets if changes has been made. Marking dirty from outside makes the next view sync send all work orders, resetting drops the recorded changes.
      *
      * @param dirty true if so. False to reset.
      */
     void setDirty(boolean dirty);
 
+    /**
+     * Get the work orders which changed since the manager was last reset, removed ones are left out.
+     *
+     * @return the changed work orders, or null if the manager was marked dirty without knowing which work orders changed.
+     */
+    @Nullable
+    List<IWorkOrder> getChangedWorkOrders();
+
     /**
      * Get the colony where this work order has been made.
      *
@@ -4,7 +4,10 @@ import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.compatibility.dynmap.area.AreaGenerator;
 import com.minecolonies.api.compatibility.dynmap.area.ColonyArea;
+import com.minecolonies.api.util.ChunkOutline;
+import com.minecolonies.api.util.Log;
 import net.minecraft.ChatFormatting;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.storage.ServerLevelData;
 import org.dynmap.markers.AreaMarker;
@@ -13,7 +16,9 @@ import org.dynmap.markers.MarkerSet;
 
 import java.awt.*;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.minecolonies.api.compatibility.dynmap.DynmapConstants.*;
@@ -25,6 +30,16 @@ public class DynmapIntegration
 {
     private final MarkerSet colonySet;
 
+    /**
+     * The claimed chunk outline per colony id, updated with the chunks that changed since the last border update.
+     */
+    private final Map<Integer, ChunkOutline> outlines = new HashMap<>();
+
+    /**
+     * The latest border update per colony id, older traces finishing late are dropped.
+     */
+    private final Map<Integer, Integer> borderUpdates = new HashMap<>();
+
     /**
      * Constructor containing the {@link MarkerAPI} which is received from the {@link DynmapApiListener}.
      *
@@ -118,7 +133,8 @@ public class DynmapIntegration
     }
 
     /**
-     * Updates the borders for the given colony. This will recalculate the borders by using the {@link AreaGenerator}.
+     * Updates the borders for the given colony. Only the chunks which changed since the last update touch the colony outline, the outline is then traced on
+     * a background thread and turned into corners by the {@link AreaGenerator} back on the server thread.
      *
      * @param colony The colony.
      */
@@ -126,12 +142,40 @@ public class DynmapIntegration
     {
         String colonyId = getColonyId(colony);
         AreaMarker colonyMarker = colonySet.findAreaMarker(colonyId);
+        final MinecraftServer server = colony.getWorld().getServer();
 
-        if (colonyMarker != null)
+        if (colonyMarker != null && server != null)
         {
             Collection<ChunkPos> claimedChunks = ColonyChunkClaimCalculator.getAllClaimedChunks(colony);
-            ColonyArea area = AreaGenerator.generateAreaFromChunks(claimedChunks);
-            colonyMarker.setCornerLocations(area.toXArray(), area.toZArray());
+            final ChunkOutline outline = outlines.computeIfAbsent(colony.getID(), k -> new ChunkOutline());
+            if (!outline.setChunks(claimedChunks) && borderUpdates.containsKey(colony.getID()))
+            {
+                return;
+            }
+
+            final int update = borderUpdates.merge(colony.getID(), 1, Integer::sum);
+            outline.traceAsync().whenComplete((shapes, throwable) -> server.execute(() -> {
+                if (throwable != null)
+                {
+                    Log.getLogger().error("Failed to trace the dynmap border of colony " + colony.getID(), throwable);
+                    return;
+                }
+
+                final AreaMarker marker = colonySet.findAreaMarker(colonyId);
+                if (marker == null || borderUpdates.getOrDefault(colony.getID(), 0) != update)
+                {
+                    return;
+                }
+
+                if (shapes.isEmpty())
+                {
+                    marker.setCornerLocations(new double[0], new double[0]);
+                    return;
+                }
+
+                ColonyArea area = AreaGenerator.generateAreaFromShapes(shapes);
+                marker.setCornerLocations(area.toXArray(), area.toZArray());
+            }));
         }
     }
 
@@ -163,5 +207,7 @@ public class DynmapIntegration
         {
             colonyMarker.deleteMarker();
         }
+        outlines.remove(colony.getID());
+        borderUpdates.remove(colony.getID());
     }
 }
\ No newline at end of file
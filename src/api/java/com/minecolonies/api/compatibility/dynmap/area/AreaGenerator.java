@@ -1,5 +1,6 @@
 package com.minecolonies.api.compatibility.dynmap.area;
 
+import com.minecolonies.api.util.ChunkOutline;
 import net.minecraft.world.level.ChunkPos;
 
 import java.awt.*;
@@ -7,6 +8,7 @@ import java.awt.geom.Area;
 import java.awt.geom.PathIterator;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * The Dynmap area generator, responsible for turning a collection of chunks into an
@@ -65,6 +67,50 @@ public class AreaGenerator
         return colonyArea;
     }
 
+    /**
+     * Generate an area from an already traced {@link ChunkOutline}.
+     * The largest shape forms the area, its holes and any further shapes are linked into it the same way holes are.
+     *
+     * @param shapes The traced shapes, must not be empty.
+     * @return A {@link ColonyArea} instance containing an array of X and Z coordinates.
+     */
+    public static ColonyArea generateAreaFromShapes(List<ChunkOutline.Shape> shapes)
+    {
+        final ChunkOutline.Shape largest = ChunkOutline.getLargest(shapes);
+        if (largest == null)
+        {
+            throw new IllegalArgumentException("Generator could not create an area, did you pass an empty list of shapes?");
+        }
+
+        final ColonyArea colonyArea = toArea(largest.getHull());
+        for (final ChunkOutline.Loop hole : largest.getHoles())
+        {
+            colonyArea.addHole(toArea(hole));
+        }
+
+        for (final ChunkOutline.Shape shape : shapes)
+        {
+            if (shape != largest)
+            {
+                colonyArea.addHole(toArea(shape.getHull()));
+            }
+        }
+
+        colonyArea.close();
+
+        return colonyArea;
+    }
+
+    private static ColonyArea toArea(ChunkOutline.Loop loop)
+    {
+        final ColonyArea area = new ColonyArea();
+        for (int i = 0; i < loop.size(); i++)
+        {
+            area.addPoint(loop.getBlockX(i), loop.getBlockZ(i));
+        }
+        return area;
+    }
+
     private static Area createArea(Collection<ChunkPos> chunks)
     {
         final Area area = new Area();
@@ -33,6 +33,12 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     allowGlobalNameChanges;
     public final ForgeConfigSpec.BooleanValue holidayFeatures;
     public final ForgeConfigSpec.IntValue     updateRate;
+    public final ForgeConfigSpec.BooleanValue aiLodEnabled;
+    public final ForgeConfigSpec.IntValue     aiLodNearDistance;
+    public final ForgeConfigSpec.IntValue     aiLodFarDistance;
+    public final ForgeConfigSpec.IntValue     aiLodMidMultiplier;
+    public final ForgeConfigSpec.IntValue     aiLodFarMultiplier;
+    public final ForgeConfigSpec.IntValue     blueprintCacheSize;
     public final ForgeConfigSpec.IntValue     dirtFromCompost;
     public final ForgeConfigSpec.IntValue     luckyBlockChance;
     public final ForgeConfigSpec.IntValue     minThLevelToTeleport;
@@ -41,6 +47,11 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     diseaseModifier;
     public final ForgeConfigSpec.BooleanValue forceLoadColony;
     public final ForgeConfigSpec.IntValue     colonyLoadStrictness;
+    public final ForgeConfigSpec.IntValue     colonyLoadThreads;
+    public final ForgeConfigSpec.BooleanValue parallelColonyTicking;
+    public final ForgeConfigSpec.IntValue     colonyTickThreads;
+    public final ForgeConfigSpec.BooleanValue colonyFileStorage;
+    public final ForgeConfigSpec.BooleanValue colonyFileCompression;
     public final ForgeConfigSpec.IntValue     badVisitorsChance;
     public final ForgeConfigSpec.IntValue     maxTreeSize;
     public final ForgeConfigSpec.BooleanValue noSupplyPlacementRestrictions;
@@ -142,6 +153,10 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     delayBetweenRetries;
     public final ForgeConfigSpec.BooleanValue creativeResolve;
     public final ForgeConfigSpec.BooleanValue canPlayerUseResetCommand;
+    public final ForgeConfigSpec.BooleanValue courierDispatchEnabled;
+    public final ForgeConfigSpec.IntValue     courierDispatchInterval;
+    public final ForgeConfigSpec.IntValue     courierDispatchBudget;
+    public final ForgeConfigSpec.IntValue     requestSystemTickBudget;
 
     /**
      * Builds server configuration.
@@ -168,6 +183,12 @@ public class ServerConfiguration extends AbstractConfiguration
         allowGlobalNameChanges = defineInteger(builder, "allowglobalnamechanges", 1, -1, 1);
         holidayFeatures = defineBoolean(builder, "holidayfeatures", true);
         updateRate = defineInteger(builder, "updaterate", 1, 1, 100);
+        aiLodEnabled = defineBoolean(builder, "ailodenabled", false);
+        aiLodNearDistance = defineInteger(builder, "ailodneardistance", 48, 8, 512);
+        aiLodFarDistance = defineInteger(builder, "ailodfardistance", 128, 8, 1024);
+        aiLodMidMultiplier = defineInteger(builder, "ailodmidmultiplier", 2, 1, 20);
+        aiLodFarMultiplier = defineInteger(builder, "ailodfarmultiplier", 4, 1, 20);
+        blueprintCacheSize = defineInteger(builder, "blueprintcachesize", 64, 0, 2048);
         dirtFromCompost = defineInteger(builder, "dirtfromcompost", 1, 0, 100);
         luckyBlockChance = defineInteger(builder, "luckyblockchance", 1, 0, 100);
         minThLevelToTeleport = defineInteger(builder, "minthleveltoteleport", 3, 0, 5);
@@ -176,6 +197,11 @@ public class ServerConfiguration extends AbstractConfiguration
         diseaseModifier = defineInteger(builder, "diseasemodifier", 5, 1, 100);
         forceLoadColony = defineBoolean(builder, "forceloadcolony", false);
         colonyLoadStrictness = defineInteger(builder, "colonyloadstrictness", 3, 1, 15);
+        colonyLoadThreads = defineInteger(builder, "colonyloadthreads", 4, 0, 32);
+        parallelColonyTicking = defineBoolean(builder, "parallelcolonyticking", false);
+        colonyTickThreads = defineInteger(builder, "colonytickthreads", 4, 1, 32);
+        colonyFileStorage = defineBoolean(builder, "colonyfilestorage", false);
+        colonyFileCompression = defineBoolean(builder, "colonyfilecompression", true);
         badVisitorsChance = defineInteger(builder, "badvisitorchance", 2, 1, 100);
         maxTreeSize = defineInteger(builder, "maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean(builder, "nosupplyplacementrestrictions", false);
@@ -306,6 +332,10 @@ public class ServerConfiguration extends AbstractConfiguration
         delayBetweenRetries = defineInteger(builder, "delaybetweenretries", 1200, 30, 10000);
         creativeResolve = defineBoolean(builder, "creativeresolve", false);
         canPlayerUseResetCommand = defineBoolean(builder, "canplayeruseresetcommand", false);
+        courierDispatchEnabled = defineBoolean(builder, "courierdispatchenabled", false);
+        courierDispatchInterval = defineInteger(builder, "courierdispatchinterval", 1200, 200, 24000);
+        courierDispatchBudget = defineInteger(builder, "courierdispatchbudget", 500, 50, 10000);
+        requestSystemTickBudget = defineInteger(builder, "requestsystemtickbudget", 1000, 50, 50000);
 
         finishCategory(builder);
     }
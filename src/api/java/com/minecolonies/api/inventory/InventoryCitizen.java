@@ -2,6 +2,13 @@ package com.minecolonies.api.inventory;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
@@ -17,7 +24,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_INV_SLOTS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SIZE;
@@ -48,6 +58,22 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
      */
     private NonNullList<ItemStack> mainInventory = NonNullList.withSize(DEFAULT_INV_SIZE, ItemStackUtils.EMPTY);
 
+    /**
+     * The item each slot held when it was last indexed, null for empty slots.
+     */
+    private Item[] slotItems = new Item[DEFAULT_INV_SIZE];
+
+    /**
+     * The slots which may hold each item. Callers shrink and damage stacks in place, so a slot can be emptied without the index noticing; lookups verify
+     * the slot contents. A slot only ever changes to another item through this inventory, which keeps the index a superset of the real contents.
+     */
+    private final Map<Item, IntSortedSet> itemSlots = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * The slots holding a tool of each tool type, built lazily and dropped whenever a slot gets another item.
+     */
+    private final Map<IToolType, IntList> toolSlots = new Reference2ObjectOpenHashMap<>();
+
     /**
      * The index of the currently held items (0-8).
      */
@@ -206,6 +232,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
             }
 
             mainInventory = inv;
+            slotItems = Arrays.copyOf(slotItems, futureSize);
             freeSlots += futureSize - size;
         }
     }
@@ -278,6 +305,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                updateIndex(slot);
             }
         }
 
@@ -300,6 +328,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                updateIndex(slot);
             }
         }
 
@@ -329,6 +358,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 markDirty();
                 freeSlots--;
                 mainInventory.set(slot, copy);
+                updateIndex(slot);
                 return ItemStack.EMPTY;
             }
             else
@@ -375,6 +405,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 markDirty();
                 freeSlots++;
                 mainInventory.set(slot, ItemStack.EMPTY);
+                updateIndex(slot);
             }
             return inSlot;
         }
@@ -390,6 +421,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 if (ItemStackUtils.isEmpty(inSlot))
                 {
                     freeSlots++;
+                    updateIndex(slot);
                 }
             }
             return copy;
@@ -498,6 +530,8 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 }
             }
         }
+
+        rebuildIndex();
     }
 
     @Override
@@ -516,5 +550,151 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
         }
 
         mainInventory.set(slot, stack);
+        updateIndex(slot);
+    }
+
+    /**
+     * Returns the first slot holding the given item.
+     *
+     * @param item the item.
+     * @return the slot, or -1 if none holds it.
+     */
+    public int findFirstSlot(@NotNull final Item item)
+    {
+        return findFirstSlot(item, stack -> true);
+    }
+
+    /**
+     * Returns the first slot holding the given item and matching a predicate. Only the slots holding the item are tested.
+     *
+     * @param item      the item.
+     * @param predicate the predicate the stack has to match as well.
+     * @return the slot, or -1 if none matches.
+     */
+    public int findFirstSlot(@NotNull final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final IntSortedSet slots = itemSlots.get(item);
+        if (slots == null)
+        {
+            return NO_SLOT;
+        }
+
+        for (final int slot : slots)
+        {
+            final ItemStack stack = mainInventory.get(slot);
+            if (!stack.isEmpty() && stack.getItem() == item && predicate.test(stack))
+            {
+                return slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Count the given item in the inventory.
+     *
+     * @param item the item.
+     * @return the total count.
+     */
+    public int getItemCount(@NotNull final Item item)
+    {
+        return getItemCount(item, stack -> true);
+    }
+
+    /**
+     * Count the given item in the inventory, only counting stacks matching a predicate. Only the slots holding the item are tested.
+     *
+     * @param item      the item.
+     * @param predicate the predicate the stack has to match as well.
+     * @return the total count.
+     */
+    public int getItemCount(@NotNull final Item item, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final IntSortedSet slots = itemSlots.get(item);
+        if (slots == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (final int slot : slots)
+        {
+            final ItemStack stack = mainInventory.get(slot);
+            if (!stack.isEmpty() && stack.getItem() == item && predicate.test(stack))
+            {
+                count += stack.getCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the slots holding a tool of the given type. The stacks still have to be checked, a tool may have broken since the list was built.
+     *
+     * @param toolType the tool type.
+     * @return the slots, in ascending order. Must not be modified.
+     */
+    public IntList getToolSlots(@NotNull final IToolType toolType)
+    {
+        IntList slots = toolSlots.get(toolType);
+        if (slots == null)
+        {
+            slots = new IntArrayList();
+            for (int slot = 0; slot < mainInventory.size(); slot++)
+            {
+                final ItemStack stack = mainInventory.get(slot);
+                if (!stack.isEmpty() && ItemStackUtils.getMiningLevel(stack, toolType) > -1)
+                {
+                    slots.add(slot);
+                }
+            }
+            toolSlots.put(toolType, slots);
+        }
+        return slots;
+    }
+
+    /**
+     * Bring the index of a slot up to date after its stack changed through this inventory.
+     *
+     * @param slot the slot.
+     */
+    private void updateIndex(final int slot)
+    {
+        final ItemStack stack = mainInventory.get(slot);
+        final Item item = stack.isEmpty() ? null : stack.getItem();
+        final Item previous = slotItems[slot];
+        if (item == previous)
+        {
+            return;
+        }
+
+        if (previous != null)
+        {
+            final IntSortedSet slots = itemSlots.get(previous);
+            if (slots != null && slots.remove(slot) && slots.isEmpty())
+            {
+                itemSlots.remove(previous);
+            }
+        }
+        if (item != null)
+        {
+            itemSlots.computeIfAbsent(item, key -> new IntRBTreeSet()).add(slot);
+        }
+        slotItems[slot] = item;
+        toolSlots.clear();
+    }
+
+    /**
+     * Rebuild the whole index, after the inventory was replaced.
+     */
+    private void rebuildIndex()
+    {
+        slotItems = new Item[mainInventory.size()];
+        itemSlots.clear();
+        toolSlots.clear();
+        for (int slot = 0; slot < mainInventory.size(); slot++)
+        {
+            updateIndex(slot);
+        }
     }
 }
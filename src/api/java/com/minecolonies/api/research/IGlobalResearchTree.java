@@ -109,6 +109,13 @@ public interface IGlobalResearchTree
      */
     void reset();
 
+    /**
+     * Get the version of the tree, which changes whenever research or branches are added or removed.
+     *
+     * @return the version.
+     */
+    int getVersion();
+
     /**
      * Get the primary research of a certain branch.
      *
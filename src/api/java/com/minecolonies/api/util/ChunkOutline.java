@@ -0,0 +1,506 @@
+package com.minecolonies.api.util;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.Util;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The outline of a set of chunks, as polygons with holes, kept up to date under single chunk additions and removals.
+ * <p>
+ * The outline is stored as the set of directed border edges between chunk corners, walking each border with the chunks on the right. Adding or removing a
+ * chunk only touches its four edges, an edge shared with a neighbour cancels out. The polygons are traced from the edges on demand, which only costs the
+ * length of the border instead of the area, and can be done off-thread from a snapshot of the edges.
+ */
+public class ChunkOutline
+{
+    /**
+     * Edge directions, turning right walks through them in order.
+     */
+    private static final int EAST  = 0;
+    private static final int SOUTH = 1;
+    private static final int WEST  = 2;
+    private static final int NORTH = 3;
+
+    /**
+     * Corner offsets per direction.
+     */
+    private static final int[] DIR_X = {1, 0, -1, 0};
+    private static final int[] DIR_Z = {0, 1, 0, -1};
+
+    /**
+     * Bits per corner coordinate in an edge key.
+     */
+    private static final int COORD_BITS = 28;
+    private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+
+    /**
+     * The chunks in the set, as chunk pos longs.
+     */
+    private final LongOpenHashSet chunks = new LongOpenHashSet();
+
+    /**
+     * The directed border edges.
+     */
+    private final LongOpenHashSet edges = new LongOpenHashSet();
+
+    /**
+     * Add a chunk to the set.
+     *
+     * @param chunk the chunk.
+     * @return true if it was not in the set yet.
+     */
+    public boolean add(@NotNull final ChunkPos chunk)
+    {
+        if (!chunks.add(chunk.toLong()))
+        {
+            return false;
+        }
+
+        for (final long edge : getChunkEdges(chunk.x, chunk.z))
+        {
+            if (!edges.remove(reverse(edge)))
+            {
+                edges.add(edge);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove a chunk from the set.
+     *
+     * @param chunk the chunk.
+     * @return true if it was in the set.
+     */
+    public boolean remove(@NotNull final ChunkPos chunk)
+    {
+        if (!chunks.remove(chunk.toLong()))
+        {
+            return false;
+        }
+
+        for (final long edge : getChunkEdges(chunk.x, chunk.z))
+        {
+            if (!edges.remove(edge))
+            {
+                edges.add(reverse(edge));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bring the set to the given chunks, only adding and removing the difference.
+     *
+     * @param newChunks the chunks which should be in the set.
+     * @return true if anything changed.
+     */
+    public boolean setChunks(@NotNull final Collection<ChunkPos> newChunks)
+    {
+        final LongOpenHashSet wanted = new LongOpenHashSet(newChunks.size());
+        boolean changed = false;
+        for (final ChunkPos chunk : newChunks)
+        {
+            wanted.add(chunk.toLong());
+            changed |= add(chunk);
+        }
+
+        for (final long chunk : chunks.toLongArray())
+        {
+            if (!wanted.contains(chunk))
+            {
+                changed |= remove(new ChunkPos(chunk));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Check if the set holds no chunks.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Copy the current border edges, to trace them on another thread.
+     *
+     * @return the edges.
+     */
+    public long[] snapshotEdges()
+    {
+        return edges.toLongArray();
+    }
+
+    /**
+     * Trace the current outline.
+     *
+     * @return the polygons, in block coordinates.
+     */
+    public List<Shape> trace()
+    {
+        return trace(snapshotEdges());
+    }
+
+    /**
+     * Trace the current outline on a background thread.
+     *
+     * @return the future polygons, in block coordinates.
+     */
+    public CompletableFuture<List<Shape>> traceAsync()
+    {
+        final long[] snapshot = snapshotEdges();
+        return CompletableFuture.supplyAsync(() -> trace(snapshot), Util.backgroundExecutor());
+    }
+
+    /**
+     * Trace polygons from border edges. Does not touch any shared state, so it can run on any thread.
+     *
+     * @param edgeKeys the border edges.
+     * @return the polygons, in block coordinates.
+     */
+    public static List<Shape> trace(@NotNull final long[] edgeKeys)
+    {
+        if (edgeKeys.length == 0)
+        {
+            return Collections.emptyList();
+        }
+
+        final LongOpenHashSet remaining = new LongOpenHashSet(edgeKeys);
+        final List<Loop> hulls = new ArrayList<>();
+        final List<Loop> holes = new ArrayList<>();
+        for (final long start : edgeKeys)
+        {
+            if (!remaining.contains(start))
+            {
+                continue;
+            }
+
+            final Loop loop = traceLoop(start, remaining);
+            if (loop.area > 0)
+            {
+                hulls.add(loop);
+            }
+            else
+            {
+                holes.add(loop);
+            }
+        }
+
+        final List<Shape> shapes = new ArrayList<>(hulls.size());
+        for (final Loop hull : hulls)
+        {
+            shapes.add(new Shape(hull));
+        }
+
+        for (final Loop hole : holes)
+        {
+            // The chunk right of the first edge of a hole belongs to the hull around it.
+            final double testX = hole.x[0] + DIR_X[hole.firstDir] * 0.5 - DIR_Z[hole.firstDir] * 0.25;
+            final double testZ = hole.z[0] + DIR_Z[hole.firstDir] * 0.5 + DIR_X[hole.firstDir] * 0.25;
+
+            Shape owner = null;
+            for (final Shape shape : shapes)
+            {
+                if ((owner == null || shape.hull.area < owner.hull.area) && shape.hull.contains(testX, testZ))
+                {
+                    owner = shape;
+                }
+            }
+
+            if (owner != null)
+            {
+                owner.holes.add(hole);
+            }
+        }
+
+        return shapes;
+    }
+
+    /**
+     * Follow the edges from a start edge until the loop closes, consuming them.
+     *
+     * @param start     the start edge.
+     * @param remaining the edges not traced yet.
+     * @return the loop.
+     */
+    private static Loop traceLoop(final long start, final LongOpenHashSet remaining)
+    {
+        final List<int[]> corners = new ArrayList<>();
+        long edge = start;
+        int previousDir = -1;
+        do
+        {
+            remaining.remove(edge);
+            final int x = getX(edge);
+            final int z = getZ(edge);
+            final int dir = getDir(edge);
+            if (dir != previousDir)
+            {
+                corners.add(new int[] {x, z, dir});
+            }
+            previousDir = dir;
+
+            final int endX = x + DIR_X[dir];
+            final int endZ = z + DIR_Z[dir];
+
+            // Where two chunks only touch at a corner, turning right keeps hugging the current chunk, which keeps the two apart.
+            long next = start;
+            for (final int turn : new int[] {1, 0, 3})
+            {
+                final long candidate = edgeKey(endX, endZ, (dir + turn) & 3);
+                if (candidate == start || remaining.contains(candidate))
+                {
+                    next = candidate;
+                    break;
+                }
+            }
+            edge = next;
+        }
+        while (edge != start);
+
+        if (corners.size() > 1 && previousDir == getDir(start))
+        {
+            // The loop started in the middle of a straight stretch.
+            corners.remove(0);
+        }
+
+        return new Loop(corners);
+    }
+
+    /**
+     * Get the four border edges of a single chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the edges.
+     */
+    private static long[] getChunkEdges(final int chunkX, final int chunkZ)
+    {
+        return new long[] {
+          edgeKey(chunkX, chunkZ, EAST),
+          edgeKey(chunkX + 1, chunkZ, SOUTH),
+          edgeKey(chunkX + 1, chunkZ + 1, WEST),
+          edgeKey(chunkX, chunkZ + 1, NORTH)};
+    }
+
+    /**
+     * Get the same edge walked the other way.
+     *
+     * @param edge the edge.
+     * @return the reversed edge.
+     */
+    private static long reverse(final long edge)
+    {
+        final int dir = getDir(edge);
+        return edgeKey(getX(edge) + DIR_X[dir], getZ(edge) + DIR_Z[dir], (dir + 2) & 3);
+    }
+
+    private static long edgeKey(final int x, final int z, final int dir)
+    {
+        return ((long) (x & COORD_MASK) << (COORD_BITS + 2)) | ((long) (z & COORD_MASK) << 2) | dir;
+    }
+
+    private static int getX(final long edge)
+    {
+        return ((int) (edge >>> (COORD_BITS + 2)) & COORD_MASK) << (32 - COORD_BITS) >> (32 - COORD_BITS);
+    }
+
+    private static int getZ(final long edge)
+    {
+        return ((int) (edge >>> 2) & COORD_MASK) << (32 - COORD_BITS) >> (32 - COORD_BITS);
+    }
+
+    private static int getDir(final long edge)
+    {
+        return (int) (edge & 3);
+    }
+
+    /**
+     * One closed border, as its corners in block coordinates.
+     */
+    public static final class Loop
+    {
+        /**
+         * The corner coordinates, without repeating the first corner.
+         */
+        private final int[] x;
+        private final int[] z;
+
+        /**
+         * Twice the signed area in chunks, positive for hulls and negative for holes.
+         */
+        private final long area;
+
+        /**
+         * The direction of the edge leaving the first corner.
+         */
+        private final int firstDir;
+
+        /**
+         * Create a loop from chunk corners.
+         *
+         * @param corners the corners in chunk coordinates, each with the direction of the edge leaving it.
+         */
+        private Loop(final List<int[]> corners)
+        {
+            this.x = new int[corners.size()];
+            this.z = new int[corners.size()];
+            long doubleArea = 0;
+            for (int i = 0; i < corners.size(); i++)
+            {
+                final int[] corner = corners.get(i);
+                final int[] nextCorner = corners.get((i + 1) % corners.size());
+                x[i] = corner[0];
+                z[i] = corner[1];
+                doubleArea += (long) corner[0] * nextCorner[1] - (long) nextCorner[0] * corner[1];
+            }
+            this.area = doubleArea;
+            this.firstDir = corners.get(0)[2];
+        }
+
+        /**
+         * Get the number of corners.
+         *
+         * @return the number.
+         */
+        public int size()
+        {
+            return x.length;
+        }
+
+        /**
+         * Get the block x of a corner.
+         *
+         * @param index the corner index.
+         * @return the block x.
+         */
+        public int getBlockX(final int index)
+        {
+            return x[index] << 4;
+        }
+
+        /**
+         * Get the block z of a corner.
+         *
+         * @param index the corner index.
+         * @return the block z.
+         */
+        public int getBlockZ(final int index)
+        {
+            return z[index] << 4;
+        }
+
+        /**
+         * Check if a point in chunk coordinates lies inside the loop, by counting crossings of a ray towards positive x.
+         *
+         * @param pointX the chunk x.
+         * @param pointZ the chunk z.
+         * @return true if so.
+         */
+        private boolean contains(final double pointX, final double pointZ)
+        {
+            boolean inside = false;
+            for (int i = 0, j = x.length - 1; i < x.length; j = i++)
+            {
+                if ((z[i] > pointZ) != (z[j] > pointZ) && pointX < x[i] + (double) (x[j] - x[i]) * (pointZ - z[i]) / (z[j] - z[i]))
+                {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+
+    /**
+     * One connected area, its hull and the holes inside it.
+     */
+    public static final class Shape
+    {
+        /**
+         * The outer border.
+         */
+        private final Loop hull;
+
+        /**
+         * The inner borders.
+         */
+        private final List<Loop> holes = new ArrayList<>();
+
+        /**
+         * Create a shape without holes.
+         *
+         * @param hull the outer border.
+         */
+        private Shape(@NotNull final Loop hull)
+        {
+            this.hull = hull;
+        }
+
+        /**
+         * Get the outer border.
+         *
+         * @return the loop.
+         */
+        public Loop getHull()
+        {
+            return hull;
+        }
+
+        /**
+         * Get the inner borders.
+         *
+         * @return the loops, empty if none.
+         */
+        public List<Loop> getHoles()
+        {
+            return holes;
+        }
+
+        /**
+         * Get the enclosed area without holes, in chunks.
+         *
+         * @return the area.
+         */
+        public long getChunkArea()
+        {
+            long area = hull.area;
+            for (final Loop hole : holes)
+            {
+                area += hole.area;
+            }
+            return area / 2;
+        }
+    }
+
+    /**
+     * Pick the shape with the largest area.
+     *
+     * @param shapes the shapes.
+     * @return the largest, or null if there are none.
+     */
+    @Nullable
+    public static Shape getLargest(@NotNull final List<Shape> shapes)
+    {
+        Shape largest = null;
+        for (final Shape shape : shapes)
+        {
+            if (largest == null || shape.getChunkArea() > largest.getChunkArea())
+            {
+                largest = shape;
+            }
+        }
+        return largest;
+    }
+}
@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
@@ -155,9 +156,29 @@ public class InventoryUtils
      */
     public static int findFirstSlotInItemHandlerWith(@NotNull final IItemHandler itemHandler, @NotNull final Item targetItem)
     {
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).findFirstSlot(targetItem);
+        }
         return findFirstSlotInItemHandlerWith(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem));
     }
 
+    /**
+     * Returns the index of the first occurrence of an item matching a predicate in a citizen inventory. Only the slots holding the item are tested.
+     *
+     * @param inventory                   the citizen inventory to check.
+     * @param targetItem                  the item the stack has.
+     * @param itemStackSelectionPredicate the predicate the stack has to match as well.
+     * @return Index of the first occurrence
+     */
+    public static int findFirstSlotInItemHandlerWith(
+      @NotNull final InventoryCitizen inventory,
+      @NotNull final Item targetItem,
+      @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        return inventory.findFirstSlot(targetItem, itemStackSelectionPredicate);
+    }
+
     /**
      * Returns the index of the first occurrence of an ItemStack that matches the given predicate in the {@link IItemHandler}.
      *
@@ -251,9 +272,29 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("getItemCountInItemHandler got a null itemHandler"));
         }
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).getItemCount(targetItem);
+        }
         return itemHandler == null ? 0 : getItemCountInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, targetItem));
     }
 
+    /**
+     * Returns the amount of occurrences of an item matching a predicate in a citizen inventory. Only the slots holding the item are tested.
+     *
+     * @param inventory                   the citizen inventory to scan.
+     * @param targetItem                  the item every matching stack has.
+     * @param itemStackSelectionPredicate the predicate the stacks have to match as well.
+     * @return Amount of occurrences of stacks that match the given item and predicate.
+     */
+    public static int getItemCountInItemHandler(
+      @NotNull final InventoryCitizen inventory,
+      @NotNull final Item targetItem,
+      @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        return inventory.getItemCount(targetItem, itemStackSelectionPredicate);
+    }
+
     /**
      * Returns the amount of occurrences in the {@link IItemHandler}.
      *
@@ -318,6 +359,10 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("hasItemInItemHandler got a null itemHandler"));
         }
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).findFirstSlot(item) != -1;
+        }
         return itemHandler != null && hasItemInItemHandler(itemHandler, (ItemStack stack) -> compareItems(stack, item));
     }
 
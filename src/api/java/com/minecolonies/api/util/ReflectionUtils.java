@@ -5,6 +5,7 @@ import org.apache.logging.log4j.core.config.AppenderControl;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class with methods regarding reflection.
@@ -12,9 +13,9 @@ import java.util.*;
 public final class ReflectionUtils
 {
     /**
-     * Caching the reflection calls.
+     * Caching the reflection calls, concurrent as colonies are loaded on several threads at once.
      */
-    private static Map<TypeToken<?>, Set<TypeToken<?>>> cache = new HashMap<>();
+    private static final Map<TypeToken<?>, Set<TypeToken<?>>> cache = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to hide the implicit public one.
@@ -32,23 +33,18 @@ public final class ReflectionUtils
      */
     public static <T> Set<TypeToken<?>> getSuperClasses(final TypeToken<T> token)
     {
-        final Set<TypeToken<?>> cachedSet = cache.get(token);
-        if (cachedSet != null)
+        return cache.computeIfAbsent(token, key ->
         {
-            return cachedSet;
-        }
-
-        final Set<TypeToken<?>> directSet = new LinkedHashSet<>(token.getTypes());
-        final Set<TypeToken<?>> resultingSet = new LinkedHashSet<>();
-
-        directSet.forEach(t ->
-        {
-            resultingSet.add(t);
-            resultingSet.add(TypeToken.of(t.getRawType()));
+            final Set<TypeToken<?>> directSet = new LinkedHashSet<>(key.getTypes());
+            final Set<TypeToken<?>> resultingSet = new LinkedHashSet<>();
+
+            directSet.forEach(t ->
+            {
+                resultingSet.add(t);
+                resultingSet.add(TypeToken.of(t.getRawType()));
+            });
+            return resultingSet;
         });
-
-        cache.put(token, resultingSet);
-        return resultingSet;
     }
 
     public static void setFMLLoggingLevelOnConsoleToDebug(final AppenderControl control)
@@ -71,6 +71,11 @@ public final class CitizenConstants
      */
     public static final int    TICKS_20                   = 20;
 
+    /**
+     * Interval in ticks at which the AI level of detail tier of a citizen is recalculated.
+     */
+    public static final int    AI_LOD_UPDATE_INTERVAL     = 100;
+
     /**
      * This times the citizen id is the personal offset of the citizen.
      */
@@ -50,6 +50,10 @@ public final class ColonyConstants
      * How often the colony updates day/nighttime in ticks.
      */
     public static final int UPDATE_DAYTIME_INTERVAL = 20;
+    /**
+     * How often the colony searches the next raid spawn point in ticks.
+     */
+    public static final int UPDATE_RAID_SPAWN_INTERVAL = 200;
 
     /**
      * Max amount of permission/colony events to store in the colony.
@@ -36,6 +36,7 @@ public final class NbtTagConstants
     public static final String TAG_PRIO_STATE             = "prioState";
     public static final String TAG_COLONIES               = "colonies";
     public static final String TAG_COLONY_MANAGER         = "colonymanager";
+    public static final String TAG_COLONY_FILES           = "colonyfiles";
     public static final String TAG_UUID                   = "uuid";
     public static final String TAG_NEW_FIELDS             = "newFields";
     public static final String TAG_LEISURE                = "leisureSites";
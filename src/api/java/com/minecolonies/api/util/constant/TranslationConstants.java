@@ -242,6 +242,8 @@ public final class TranslationConstants
     @NonNls
     public static final String CMC_GUI_TOWNHALL_BUILDING_LEVEL                                      = "com.minecolonies.coremod.gui.townhall.buildinglevel";
     @NonNls
+    public static final String CMC_GUI_COLONY_LOADING                                               = "com.minecolonies.coremod.gui.colony.loading";
+    @NonNls
     public static final String PIRATES_SAILING_OFF_MESSAGE                                          = "com.minecolonies.coremod.pirates.sailing.away";
     @NonNls
     public static final String ALL_PIRATE_SPAWNERS_DESTROYED_MESSAGE                                = "com.minecolonies.coremod.pirates.spawners.destroyed";
@@ -86,6 +86,28 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_COLONY_EXPORT_SUCCESS            = "com.minecolonies.command.export.success";
     @NonNls
+    public static final String COMMAND_COLONY_PROFILE_START             = "com.minecolonies.command.profile.start";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_STOP              = "com.minecolonies.command.profile.stop";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_HEADER            = "com.minecolonies.command.profile.header";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_SECTION           = "com.minecolonies.command.profile.section";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_ENTRY             = "com.minecolonies.command.profile.entry";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_LOD               = "com.minecolonies.command.profile.lod";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_BLUEPRINTS        = "com.minecolonies.command.profile.blueprints";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_REQUESTS          = "com.minecolonies.command.profile.requests";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_COURIERS          = "com.minecolonies.command.profile.couriers";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_DUMP_SUCCESS      = "com.minecolonies.command.profile.dump.success";
+    @NonNls
+    public static final String COMMAND_COLONY_PROFILE_DUMP_FAILED       = "com.minecolonies.command.profile.dump.failed";
+    @NonNls
     public static final String COMMAND_COLONY_LOAD_BACKUP_SUCCESS       = "com.minecolonies.command.loadbackup.success";
     @NonNls
     public static final String COMMAND_RAID_NOW_SUCCESS                 = "com.minecolonies.command.raidnow.success";
@@ -0,0 +1,38 @@
+package com.minecolonies.coremod.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Bootstraps the vanilla registries once, so benchmarks can create blocks, items and stacks without a running client or server.
+ */
+public final class BenchmarkBootstrap
+{
+    /**
+     * Whether the registries were bootstrapped already.
+     */
+    private static boolean bootstrapped = false;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BenchmarkBootstrap()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Bootstrap the vanilla registries if that did not happen yet.
+     */
+    public static synchronized void bootstrap()
+    {
+        if (!bootstrapped)
+        {
+            SharedConstants.tryDetectVersion();
+            Bootstrap.bootStrap();
+            bootstrapped = true;
+        }
+    }
+}
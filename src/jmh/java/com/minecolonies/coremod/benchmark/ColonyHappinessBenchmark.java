@@ -0,0 +1,138 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.coremod.colony.managers.ColonyHappinessAggregate;
+import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.util.constant.HappinessConstants.SATURATION;
+import static com.minecolonies.api.util.constant.HappinessConstants.TAG_HAPPINESS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_VALUE;
+
+/**
+ * Benchmarks for the overall colony happiness, summing up all citizens on each call compared to the incrementally kept aggregate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColonyHappinessBenchmark
+{
+    /**
+     * Research bonus used for all evaluations.
+     */
+    private static final double RESEARCH_BONUS = 0.1;
+
+    @Param({"500"})
+    public int citizens;
+
+    private CitizenHappinessHandler[] handlers;
+    private ColonyHappinessAggregate  aggregate;
+    private int                       next = 0;
+
+    @Setup
+    public void setup()
+    {
+        handlers = new CitizenHappinessHandler[citizens];
+        for (int i = 0; i < citizens; i++)
+        {
+            final CitizenHappinessHandler handler = new CitizenHappinessHandler();
+            final List<String> modifiers = handler.getModifiers();
+            final CompoundTag factors = new CompoundTag();
+            for (int m = 0; m < modifiers.size(); m++)
+            {
+                final CompoundTag factor = new CompoundTag();
+                factor.putDouble(TAG_VALUE, 0.5 + ((i + m) % 4) * 0.25);
+                factors.put(modifiers.get(m), factor);
+            }
+
+            final CompoundTag compound = new CompoundTag();
+            compound.put(TAG_HAPPINESS, factors);
+            handler.read(compound);
+            handlers[i] = handler;
+        }
+
+        aggregate = new ColonyHappinessAggregate(id -> id < handlers.length ? handlers[id] : null, () -> RESEARCH_BONUS);
+        for (int i = 0; i < citizens; i++)
+        {
+            aggregate.markChanged(i);
+        }
+        aggregate.getOverallHappiness(5.5);
+    }
+
+    @Benchmark
+    public double sumAllUnchanged()
+    {
+        return sumAll();
+    }
+
+    @Benchmark
+    public double aggregateUnchanged()
+    {
+        return aggregate.getOverallHappiness(5.5);
+    }
+
+    @Benchmark
+    public double sumAllOneChanged()
+    {
+        handlers[nextCitizen()].resetModifier(SATURATION);
+        return sumAll();
+    }
+
+    @Benchmark
+    public double aggregateOneChanged()
+    {
+        final int citizen = nextCitizen();
+        handlers[citizen].resetModifier(SATURATION);
+        aggregate.markChanged(citizen);
+        return aggregate.getOverallHappiness(5.5);
+    }
+
+    @Benchmark
+    public double aggregateAllChanged()
+    {
+        for (final CitizenHappinessHandler handler : handlers)
+        {
+            handler.resetModifier(SATURATION);
+        }
+        aggregate.markAllChanged();
+        return aggregate.getOverallHappiness(5.5);
+    }
+
+    @Benchmark
+    public double averageModifierFactor()
+    {
+        return aggregate.getAverageFactor(SATURATION);
+    }
+
+    /**
+     * Sum up the happiness of all citizens, the way the colony did before the aggregate.
+     *
+     * @return the average happiness.
+     */
+    private double sumAll()
+    {
+        double sum = 0;
+        for (final CitizenHappinessHandler handler : handlers)
+        {
+            sum += handler.getHappiness(RESEARCH_BONUS);
+        }
+        return sum / handlers.length;
+    }
+
+    /**
+     * Get the next citizen to change, cycling through all of them.
+     *
+     * @return the citizen id.
+     */
+    private int nextCitizen()
+    {
+        next = (next + 1) % citizens;
+        return next;
+    }
+}
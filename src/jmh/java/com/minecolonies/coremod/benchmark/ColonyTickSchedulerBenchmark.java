@@ -0,0 +1,331 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.managers.interfaces.IRegisteredStructureManager;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.colony.managers.ColonyHappinessAggregate;
+import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.colony.workorders.WorkOrderBuilding;
+import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.util.constant.HappinessConstants.TAG_HAPPINESS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_VALUE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Stress test and benchmark of the colony tick preparation, comparing the single threaded fallback with the parallel worker pool.
+ * <p>
+ * The setup runs two identical sets of colonies through randomly changing citizen happiness and randomly removed buildings, one set on the calling thread
+ * and one in parallel. Each round prepares all colonies through the scheduler like {@code Colony.prepareTick}, with the real work manager validation, and
+ * then applies the validation on the calling thread like {@code Colony.onWorldTick}. It fails if any colony ends up with a different happiness or different
+ * work orders. The benchmarks then measure a full re-evaluation of all colonies in both modes.
+ * <p>
+ * The colonies themselves are mocks, only answering which buildings exist, as a real colony needs a started mod.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColonyTickSchedulerBenchmark
+{
+    /**
+     * Research bonus used for all evaluations.
+     */
+    private static final double RESEARCH_BONUS = 0.1;
+
+    /**
+     * Rounds of random changes compared between both modes.
+     */
+    private static final int ROUNDS = 50;
+
+    /**
+     * Seed of the random changes.
+     */
+    private static final long SEED = 4_711L;
+
+    @Param({"300"})
+    public int colonies;
+
+    @Param({"50"})
+    public int citizens;
+
+    @Param({"20"})
+    public int orders;
+
+    @Param({"4"})
+    public int threads;
+
+    private List<ColonyState> sequential;
+    private List<ColonyState> parallel;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.bootstrap();
+        sequential = createColonies();
+        parallel = createColonies();
+
+        final Random random = new Random(SEED);
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            for (int colony = 0; colony < colonies; colony++)
+            {
+                final int changes = random.nextInt(citizens);
+                for (int change = 0; change < changes; change++)
+                {
+                    final int citizen = random.nextInt(citizens);
+                    final int seed = random.nextInt();
+                    sequential.get(colony).change(citizen, seed);
+                    parallel.get(colony).change(citizen, seed);
+                }
+
+                final int removals = random.nextInt(orders / 2 + 1);
+                for (int removal = 0; removal < removals; removal++)
+                {
+                    final int order = random.nextInt(orders);
+                    sequential.get(colony).removeBuilding(order);
+                    parallel.get(colony).removeBuilding(order);
+                }
+            }
+
+            ColonyTickScheduler.run(sequential, ColonyState::prepare, 1);
+            ColonyTickScheduler.run(parallel, ColonyState::prepare, threads);
+            sequential.forEach(ColonyState::apply);
+            parallel.forEach(ColonyState::apply);
+            compare(round);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        ColonyTickScheduler.shutdown();
+    }
+
+    @Benchmark
+    public double singleThread()
+    {
+        ColonyTickScheduler.run(sequential, ColonyState::prepareAll, 1);
+        sequential.forEach(ColonyState::apply);
+        return sequential.get(0).happiness;
+    }
+
+    @Benchmark
+    public double parallel()
+    {
+        ColonyTickScheduler.run(parallel, ColonyState::prepareAll, threads);
+        parallel.forEach(ColonyState::apply);
+        return parallel.get(0).happiness;
+    }
+
+    /**
+     * Check that both modes came to the same result for every colony, and that all invalid work orders were removed.
+     *
+     * @param round the current round.
+     */
+    private void compare(final int round)
+    {
+        for (int colony = 0; colony < colonies; colony++)
+        {
+            final ColonyState expected = sequential.get(colony);
+            final ColonyState actual = parallel.get(colony);
+            if (Double.doubleToLongBits(expected.happiness) != Double.doubleToLongBits(actual.happiness))
+            {
+                throw new IllegalStateException(
+                  "Colony " + colony + " differs in round " + round + ": " + expected.happiness + " single threaded, " + actual.happiness + " parallel");
+            }
+
+            final Set<Integer> expectedOrders = expected.workManager.getWorkOrders().keySet();
+            final Set<Integer> actualOrders = actual.workManager.getWorkOrders().keySet();
+            if (expectedOrders.size() != orders)
+            {
+                throw new IllegalStateException("Colony " + colony + " kept " + (expectedOrders.size() - orders) + " invalid work orders in round " + round);
+            }
+            if (!expectedOrders.equals(actualOrders))
+            {
+                throw new IllegalStateException(
+                  "Colony " + colony + " differs in round " + round + ": work orders " + expectedOrders + " single threaded, " + actualOrders + " parallel");
+            }
+        }
+    }
+
+    /**
+     * Create a set of colonies, all with the same starting happiness and work orders.
+     *
+     * @return the colonies.
+     */
+    private List<ColonyState> createColonies()
+    {
+        final IBuilding building = mock(IBuilding.class, withSettings().stubOnly());
+        final List<ColonyState> states = new ArrayList<>(colonies);
+        for (int colony = 0; colony < colonies; colony++)
+        {
+            final ColonyState state = new ColonyState(citizens, building);
+            for (int citizen = 0; citizen < citizens; citizen++)
+            {
+                state.change(citizen, colony * citizens + citizen);
+            }
+            for (int order = 0; order < orders; order++)
+            {
+                final BlockPos pos = new BlockPos(order, 64, colony);
+                state.orderPositions.add(pos);
+                state.addOrder(pos);
+            }
+            states.add(state);
+        }
+        return states;
+    }
+
+    /**
+     * The happiness and work order bookkeeping of one colony.
+     */
+    private static class ColonyState
+    {
+        /**
+         * The happiness handlers by citizen id.
+         */
+        private final CitizenHappinessHandler[] handlers;
+
+        /**
+         * The happiness aggregate of the colony.
+         */
+        private final ColonyHappinessAggregate aggregate;
+
+        /**
+         * The positions of the existing buildings, only changed between the rounds.
+         */
+        private final Set<BlockPos> buildings = new HashSet<>();
+
+        /**
+         * The position of the current work order of each index.
+         */
+        private final List<BlockPos> orderPositions = new ArrayList<>();
+
+        /**
+         * The real work manager of the mocked colony.
+         */
+        private final WorkManager workManager;
+
+        /**
+         * The happiness after the last preparation.
+         */
+        private double happiness;
+
+        /**
+         * Create a colony.
+         *
+         * @param citizens the amount of citizens.
+         * @param building the building answered for every existing building position.
+         */
+        private ColonyState(final int citizens, final IBuilding building)
+        {
+            handlers = new CitizenHappinessHandler[citizens];
+            for (int i = 0; i < citizens; i++)
+            {
+                handlers[i] = new CitizenHappinessHandler();
+            }
+            aggregate = new ColonyHappinessAggregate(id -> id < handlers.length ? handlers[id] : null, () -> RESEARCH_BONUS);
+
+            final IRegisteredStructureManager buildingManager = mock(IRegisteredStructureManager.class, withSettings().stubOnly());
+            when(buildingManager.getBuilding(any(BlockPos.class)))
+              .thenAnswer(invocation -> buildings.contains(invocation.<BlockPos>getArgument(0)) ? building : null);
+            final Colony colony = mock(Colony.class, withSettings().stubOnly());
+            when(colony.getBuildingManager()).thenReturn(buildingManager);
+            workManager = new WorkManager(colony);
+        }
+
+        /**
+         * Add a building and a work order for it, like loading a colony.
+         *
+         * @param pos the position of the building.
+         */
+        private void addOrder(final BlockPos pos)
+        {
+            final CompoundTag compound = new CompoundTag();
+            compound.putString("structureName", "benchmark/building");
+            compound.putString("workOrderName", "benchmark");
+            BlockPosUtil.write(compound, "location", pos);
+
+            final WorkOrderBuilding order = new WorkOrderBuilding();
+            order.read(compound, workManager);
+            workManager.addWorkOrder(order, true);
+            buildings.add(pos);
+        }
+
+        /**
+         * Remove the building of a work order, which makes the order invalid, and add a new building with a new order above it, so the amount of valid orders
+         * stays the same.
+         *
+         * @param order the index of the order.
+         */
+        private void removeBuilding(final int order)
+        {
+            final BlockPos pos = orderPositions.get(order);
+            buildings.remove(pos);
+            orderPositions.set(order, pos.above());
+            addOrder(pos.above());
+        }
+
+        /**
+         * Set new modifier factors of a citizen.
+         *
+         * @param citizen the citizen id.
+         * @param seed    the seed of the new factors.
+         */
+        private void change(final int citizen, final int seed)
+        {
+            final CitizenHappinessHandler handler = handlers[citizen];
+            final List<String> modifiers = handler.getModifiers();
+            final CompoundTag factors = new CompoundTag();
+            for (int m = 0; m < modifiers.size(); m++)
+            {
+                final CompoundTag factor = new CompoundTag();
+                factor.putDouble(TAG_VALUE, 0.5 + Math.floorMod(seed + m, 4) * 0.25);
+                factors.put(modifiers.get(m), factor);
+            }
+
+            final CompoundTag compound = new CompoundTag();
+            compound.put(TAG_HAPPINESS, factors);
+            handler.read(compound);
+            aggregate.markChanged(citizen);
+        }
+
+        /**
+         * Evaluate the changed citizens and find the invalid work orders, like a colony preparing its tick.
+         */
+        private void prepare()
+        {
+            aggregate.update();
+            happiness = aggregate.getOverallHappiness(5.5);
+            workManager.validateWorkOrders();
+        }
+
+        /**
+         * Remove the invalid work orders on the calling thread, like a colony starting its tick.
+         */
+        private void apply()
+        {
+            workManager.applyWorkOrderValidation();
+        }
+
+        /**
+         * Evaluate all citizens again.
+         */
+        private void prepareAll()
+        {
+            aggregate.markAllChanged();
+            prepare();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.util.InventoryUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for counting, searching and transferring items over large item handlers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryUtilsBenchmark
+{
+    /**
+     * Items used to fill the handlers.
+     */
+    private static final Item[] FILL_ITEMS = new Item[] {Items.COBBLESTONE, Items.DIRT, Items.OAK_LOG, Items.WHEAT_SEEDS, Items.BREAD};
+
+    @Param({"27", "108", "1000"})
+    public int slots;
+
+    private ItemStackHandler source;
+    private ItemStackHandler target;
+    private ItemStack        toInsert;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.bootstrap();
+
+        source = new ItemStackHandler(slots);
+        target = new ItemStackHandler(slots);
+        for (int i = 0; i < slots; i++)
+        {
+            if (i % 4 != 3)
+            {
+                source.setStackInSlot(i, new ItemStack(FILL_ITEMS[i % FILL_ITEMS.length], 1 + i % 64));
+            }
+
+            if (i < slots - 1)
+            {
+                target.setStackInSlot(i, new ItemStack(FILL_ITEMS[i % FILL_ITEMS.length], 64));
+            }
+        }
+        source.setStackInSlot(slots - 1, new ItemStack(Items.IRON_INGOT, 16));
+        toInsert = new ItemStack(Items.IRON_INGOT, 8);
+    }
+
+    @Benchmark
+    public int countByItem()
+    {
+        return InventoryUtils.getItemCountInItemHandler(source, Items.IRON_INGOT);
+    }
+
+    @Benchmark
+    public int countByPredicate()
+    {
+        return InventoryUtils.getItemCountInItemHandler(source, stack -> stack.getItem() == Items.BREAD);
+    }
+
+    @Benchmark
+    public int findFirstSlotMiss()
+    {
+        return InventoryUtils.findFirstSlotInItemHandlerWith(source, Items.DIAMOND);
+    }
+
+    @Benchmark
+    public ItemStack transferIntoNextBestSlot()
+    {
+        final ItemStack result = InventoryUtils.transferItemStackIntoNextBestSlotInItemHandlerWithResult(toInsert.copy(), target);
+        target.setStackInSlot(slots - 1, ItemStack.EMPTY);
+        return result;
+    }
+}
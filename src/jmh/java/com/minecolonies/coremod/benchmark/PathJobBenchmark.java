@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.configuration.Configuration;
+import com.minecolonies.api.configuration.ServerConfiguration;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraftforge.common.ForgeConfigSpec;
+import org.mockito.invocation.InvocationOnMock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Benchmark of a path job walking across synthetic terrain, from one corner of the area to the opposite one.
+ * <p>
+ * The terrain is a stone ground of random height between one and three blocks with random two block high pillars, held in real chunks. The level only
+ * hands out these chunks, the height accessor defaults run for real and everything else answers defaults. The config comes from a mocked API instance
+ * holding an unloaded server spec, which answers the default values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathJobBenchmark
+{
+    /**
+     * The y of the lowest ground block.
+     */
+    private static final int GROUND_Y = 64;
+
+    /**
+     * Seed of the terrain.
+     */
+    private static final long SEED = 4_711L;
+
+    @Param({"64", "128"})
+    public int size;
+
+    @Param({"10"})
+    public int pillarPercent;
+
+    private Level    level;
+    private BlockPos start;
+    private BlockPos end;
+    private int      range;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkBootstrap.bootstrap();
+
+        final Configuration config = mock(Configuration.class, withSettings().stubOnly());
+        final ServerConfiguration server = new ForgeConfigSpec.Builder().configure(ServerConfiguration::new).getLeft();
+        when(config.getServer()).thenReturn(server);
+        final IMinecoloniesAPI api = mock(IMinecoloniesAPI.class, withSettings().stubOnly());
+        when(api.getConfig()).thenReturn(config);
+        MinecoloniesAPIProxy.getInstance().setApiInstance(api);
+
+        final Long2ObjectMap<LevelChunk> chunks = new Long2ObjectOpenHashMap<>();
+        level = mock(Level.class, withSettings().stubOnly().defaultAnswer(PathJobBenchmark::callInterfaceDefaults));
+        doReturn(DimensionType.DEFAULT_OVERWORLD).when(level).dimensionType();
+        doReturn(DimensionType.DEFAULT_OVERWORLD.minY()).when(level).getMinBuildHeight();
+        doReturn(DimensionType.DEFAULT_OVERWORLD.height()).when(level).getHeight();
+        doReturn(DimensionType.DEFAULT_OVERWORLD.minY() + DimensionType.DEFAULT_OVERWORLD.height()).when(level).getMaxBuildHeight();
+        doReturn(RegistryAccess.BUILTIN.get()).when(level).registryAccess();
+        doAnswer(invocation -> chunks.get(ChunkPos.asLong(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1))))
+          .when(level).getChunk(anyInt(), anyInt(), any(ChunkStatus.class), anyBoolean());
+
+        final int chunkCount = (size + 15) >> 4;
+        for (int x = 0; x < chunkCount; x++)
+        {
+            for (int z = 0; z < chunkCount; z++)
+            {
+                chunks.put(ChunkPos.asLong(x, z), new LevelChunk(level, new ChunkPos(x, z)));
+            }
+        }
+
+        final Random random = new Random(SEED);
+        final int[][] heights = new int[size][size];
+        for (int x = 0; x < size; x++)
+        {
+            for (int z = 0; z < size; z++)
+            {
+                heights[x][z] = GROUND_Y + random.nextInt(3);
+                for (int y = GROUND_Y; y < heights[x][z]; y++)
+                {
+                    setBlock(chunks, x, y, z, Blocks.STONE.defaultBlockState());
+                }
+                setBlock(chunks, x, heights[x][z], z, Blocks.GRASS_BLOCK.defaultBlockState());
+            }
+        }
+
+        for (int x = 2; x < size - 2; x++)
+        {
+            for (int z = 2; z < size - 2; z++)
+            {
+                if (random.nextInt(100) < pillarPercent)
+                {
+                    setBlock(chunks, x, heights[x][z] + 1, z, Blocks.STONE.defaultBlockState());
+                    setBlock(chunks, x, heights[x][z] + 2, z, Blocks.STONE.defaultBlockState());
+                }
+            }
+        }
+
+        start = new BlockPos(1, heights[1][1] + 1, 1);
+        end = new BlockPos(size - 2, heights[size - 2][size - 2] + 1, size - 2);
+        range = size * 2;
+
+        final PathJobMoveToLocation job = new PathJobMoveToLocation(level, start, end, range, null);
+        final Path path = job.call();
+        if (path == null || !job.getResult().isPathReachingDestination())
+        {
+            throw new IllegalStateException("No path found across the terrain from " + start + " to " + end);
+        }
+    }
+
+    @Benchmark
+    public Path moveToLocation()
+    {
+        return new PathJobMoveToLocation(level, start, end, range, null).call();
+    }
+
+    /**
+     * Place a block straight into the chunk section, without any of the level updates of a real placement.
+     *
+     * @param chunks the chunks by position.
+     * @param x      the x.
+     * @param y      the y.
+     * @param z      the z.
+     * @param state  the state.
+     */
+    private static void setBlock(final Long2ObjectMap<LevelChunk> chunks, final int x, final int y, final int z, final BlockState state)
+    {
+        final LevelChunk chunk = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+        chunk.getSection(chunk.getSectionIndex(y)).setBlockState(x & 15, y & 15, z & 15, state, false);
+    }
+
+    /**
+     * Answer of the mocked level, running interface default methods like the section math for real.
+     *
+     * @param invocation the invocation.
+     * @return the real result for default methods, the mock default otherwise.
+     * @throws Throwable if the real method throws.
+     */
+    private static Object callInterfaceDefaults(final InvocationOnMock invocation) throws Throwable
+    {
+        if (invocation.getMethod().isDefault())
+        {
+            return invocation.callRealMethod();
+        }
+        return RETURNS_DEFAULTS.answer(invocation);
+    }
+}
@@ -0,0 +1,138 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
+import com.minecolonies.api.colony.requestsystem.data.IRequestResolverIdentitiesDataStore;
+import com.minecolonies.api.colony.requestsystem.data.IRequestResolverRequestAssignmentDataStore;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.*;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.ReflectionUtils;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.handlers.RequestHandler;
+import com.minecolonies.coremod.colony.requestsystem.management.handlers.ResolverHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Benchmark of the resolver lookup of {@code RequestHandler.assignRequestDefault} for a stack request with many registered resolvers.
+ * <p>
+ * The request handler and resolver handler are the real ones, working on real data store maps. The manager only hands those out, and the request and
+ * resolvers are mocks. Resolvers are spread over the request types a colony registers them for, including one the request does not match, and only
+ * some of them can resolve the request, so the lookup has to collect, sort and try them like in a colony.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestResolverBenchmark
+{
+    /**
+     * The request types the resolvers are registered for.
+     */
+    private static final List<TypeToken<?>> RESOLVER_TYPES = Arrays.asList(
+      TypeToken.of(Stack.class),
+      TypeToken.of(IConcreteDeliverable.class),
+      TypeToken.of(IDeliverable.class),
+      TypeToken.of(Tool.class));
+
+    /**
+     * Seed of the resolver priorities.
+     */
+    private static final long SEED = 4_711L;
+
+    /**
+     * Highest resolver priority, exclusive.
+     */
+    private static final int PRIORITIES = 5;
+
+    @Param({"10", "100", "1000"})
+    public int resolvers;
+
+    @Param({"10"})
+    public int resolvableEvery;
+
+    private RequestHandler requestHandler;
+    private IRequest<?>    request;
+
+    @Setup
+    public void setup()
+    {
+        final IStandardRequestManager manager = mock(IStandardRequestManager.class, withSettings().stubOnly());
+        when(manager.getLogger()).thenReturn(Log.getLogger());
+
+        final BiMap<IToken<?>, IRequest<?>> requests = HashBiMap.create();
+        final IRequestIdentitiesDataStore requestStore = mock(IRequestIdentitiesDataStore.class, withSettings().stubOnly());
+        when(requestStore.getIdentities()).thenReturn(requests);
+        when(manager.getRequestIdentitiesDataStore()).thenReturn(requestStore);
+
+        final BiMap<IToken<?>, IRequestResolver<?>> resolverIdentities = HashBiMap.create();
+        final IRequestResolverIdentitiesDataStore resolverStore = mock(IRequestResolverIdentitiesDataStore.class, withSettings().stubOnly());
+        when(resolverStore.getIdentities()).thenReturn(resolverIdentities);
+        when(manager.getRequestResolverIdentitiesDataStore()).thenReturn(resolverStore);
+
+        final Map<IToken<?>, Collection<IToken<?>>> resolverRequests = new HashMap<>();
+        final IRequestResolverRequestAssignmentDataStore resolverRequestStore = mock(IRequestResolverRequestAssignmentDataStore.class, withSettings().stubOnly());
+        when(resolverRequestStore.getAssignments()).thenReturn(resolverRequests);
+        when(manager.getRequestResolverRequestAssignmentDataStore()).thenReturn(resolverRequestStore);
+
+        final Map<TypeToken<?>, Collection<IToken<?>>> typeResolvers = new HashMap<>();
+        final IRequestableTypeRequestResolverAssignmentDataStore typeStore = mock(IRequestableTypeRequestResolverAssignmentDataStore.class, withSettings().stubOnly());
+        when(typeStore.getAssignments()).thenReturn(typeResolvers);
+        when(manager.getRequestableTypeRequestResolverAssignmentDataStore()).thenReturn(typeStore);
+
+        final ResolverHandler resolverHandler = new ResolverHandler(manager);
+        when(manager.getResolverHandler()).thenReturn(resolverHandler);
+        requestHandler = new RequestHandler(manager);
+        when(manager.getRequestHandler()).thenReturn(requestHandler);
+
+        final Random random = new Random(SEED);
+        for (int i = 0; i < resolvers; i++)
+        {
+            final TypeToken<?> type = RESOLVER_TYPES.get(i % RESOLVER_TYPES.size());
+            final IToken<?> token = new StandardToken();
+            final IRequestResolver<?> resolver = mock(IRequestResolver.class, withSettings().stubOnly());
+            doReturn(token).when(resolver).getId();
+            doReturn(type).when(resolver).getRequestType();
+            doReturn(random.nextInt(PRIORITIES)).when(resolver).getPriority();
+            doReturn(i % resolvableEvery == resolvableEvery - 1).when(resolver).canResolveRequest(any(), any());
+            doReturn(Collections.emptyList()).when(resolver).attemptResolveRequest(any(), any());
+
+            resolverIdentities.put(token, resolver);
+            typeResolvers.computeIfAbsent(type, key -> new ArrayList<>()).add(token);
+        }
+
+        final Set<TypeToken<?>> requestTypes = new HashSet<>(ReflectionUtils.getSuperClasses(TypeToken.of(Stack.class)));
+        final IToken<?> requestToken = new StandardToken();
+        request = mock(IRequest.class, withSettings().stubOnly());
+        doReturn(requestToken).when(request).getId();
+        doReturn(requestTypes).when(request).getSuperClasses();
+        doReturn(RequestState.IN_PROGRESS).when(request).getState();
+        requests.put(requestToken, request);
+
+        if (resolvers >= resolvableEvery && assign() == null)
+        {
+            throw new IllegalStateException("No resolver was assigned although " + resolvers / resolvableEvery + " can resolve the request");
+        }
+    }
+
+    @Benchmark
+    public IToken<?> assign()
+    {
+        return requestHandler.assignRequestDefault(request, Collections.emptyList());
+    }
+}
@@ -0,0 +1,63 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.coremod.colony.managers.StatisticTimeline;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for colony statistics queries and their network serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticTimelineBenchmark
+{
+    @Param({"100", "1000", "5000"})
+    public int days;
+
+    private StatisticTimeline timeline;
+    private FriendlyByteBuf   buffer;
+
+    @Setup
+    public void setup()
+    {
+        timeline = new StatisticTimeline();
+        for (int day = 0; day < days; day++)
+        {
+            timeline.add(day, day % 7);
+        }
+        buffer = new FriendlyByteBuf(Unpooled.buffer());
+    }
+
+    @Benchmark
+    public int lastHundredDays()
+    {
+        return timeline.getInPeriod(days - 100, days);
+    }
+
+    @Benchmark
+    public int allTime()
+    {
+        return timeline.getInPeriod(0, days);
+    }
+
+    @Benchmark
+    public void increment()
+    {
+        timeline.add(days, 1);
+    }
+
+    @Benchmark
+    public int serialize()
+    {
+        buffer.clear();
+        timeline.serialize(buffer);
+        return buffer.writerIndex();
+    }
+}
@@ -36,6 +36,11 @@ public abstract class AbstractWindowModuleBuilding<B extends IBuildingView> exte
     private final   Text   title;
     private final   Button buttonBuild;
 
+    /**
+     * If the title shows that colony data is still loading.
+     */
+    private boolean showsLoading = false;
+
     /**
      * Constructor for the windows that are associated with buildings.
      *
@@ -130,6 +135,12 @@ public abstract class AbstractWindowModuleBuilding<B extends IBuildingView> exte
     {
         super.onUpdate();
         updateButtonBuild(building);
+
+        if (building.getColony().isLoading() != showsLoading)
+        {
+            showsLoading = !showsLoading;
+            updateTitle();
+        }
     }
 
     /**
@@ -185,12 +196,21 @@ public abstract class AbstractWindowModuleBuilding<B extends IBuildingView> exte
         super.onOpened();
         setPage(false, 0);
 
+        showsLoading = building.getColony().isLoading();
+        updateTitle();
+    }
+
+    /**
+     * Set the title to the building name, marked while colony data is still loading.
+     */
+    private void updateTitle()
+    {
         final MutableComponent component =
           building.getCustomName().isEmpty() ? new TranslatableComponent(getBuildingName()) : new TextComponent(building.getCustomName());
         if (switchView != null && switchView.getID().equals(GUI_LIST_BUTTON_SWITCH + PAGE_ACTIONS))
         {
             // Town hall does not need level in colony name
-            title.setText(component);
+            title.setText(withLoadingState(component));
 
             final Component levelComponent = new TranslatableComponent(CMC_GUI_TOWNHALL_BUILDING_LEVEL)
                                                     .append(": " + buildingView.getBuildingLevel());
@@ -199,7 +219,18 @@ public abstract class AbstractWindowModuleBuilding<B extends IBuildingView> exte
         else if (title != null)
         {
             final MutableComponent componentWithLevel = component.append(" ").append(String.valueOf(buildingView.getBuildingLevel()));
-            title.setText(componentWithLevel);
+            title.setText(withLoadingState(componentWithLevel));
         }
     }
+
+    /**
+     * Append the loading state to a title while colony data is still loading.
+     *
+     * @param component the title.
+     * @return the title to show.
+     */
+    private MutableComponent withLoadingState(final MutableComponent component)
+    {
+        return showsLoading ? component.append(" ").append(new TranslatableComponent(CMC_GUI_COLONY_LOADING)) : component;
+    }
 }
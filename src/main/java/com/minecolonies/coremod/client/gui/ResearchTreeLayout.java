@@ -0,0 +1,281 @@
+package com.minecolonies.coremod.client.gui;
+
+import com.minecolonies.api.research.IGlobalResearch;
+import com.minecolonies.api.research.IGlobalResearchTree;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.research.util.ResearchConstants.*;
+
+/**
+ * Positions of all research of a branch in the research tree window.
+ * <p>
+ * The layout only depends on the global research tree and on which research is left out for the colony, so it is computed once per branch and kept until
+ * the global tree changes or a different set of research is left out.
+ */
+public final class ResearchTreeLayout
+{
+    /**
+     * Computed layouts per branch.
+     */
+    private static final Map<ResourceLocation, ResearchTreeLayout> CACHE = new HashMap<>();
+
+    /**
+     * The global tree version the layout was computed for.
+     */
+    private final int version;
+
+    /**
+     * The research left out of the layout.
+     */
+    private final Set<ResourceLocation> skipped;
+
+    /**
+     * All placed research, parents before their children.
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * The largest row used.
+     */
+    private int maxHeight;
+
+    /**
+     * Create an empty layout.
+     *
+     * @param version the global tree version.
+     * @param skipped the research left out.
+     */
+    private ResearchTreeLayout(final int version, final Set<ResourceLocation> skipped)
+    {
+        this.version = version;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Get the layout of a branch, computing it if the cached one is outdated.
+     *
+     * @param branch  the branch.
+     * @param skipped the research left out, including their children.
+     * @return the layout.
+     */
+    public static ResearchTreeLayout get(final ResourceLocation branch, final Set<ResourceLocation> skipped)
+    {
+        final int version = IGlobalResearchTree.getInstance().getVersion();
+        final ResearchTreeLayout cached = CACHE.get(branch);
+        if (cached != null && cached.version == version && cached.skipped.equals(skipped))
+        {
+            return cached;
+        }
+
+        final ResearchTreeLayout layout = new ResearchTreeLayout(version, new HashSet<>(skipped));
+        layout.maxHeight = layout.place(branch, 0, 0, IGlobalResearchTree.getInstance().getPrimaryResearch(branch), null);
+        CACHE.put(branch, layout);
+        return layout;
+    }
+
+    /**
+     * Place a list of sibling research and their children, the same way the tree was drawn before.
+     *
+     * @param branch       the branch.
+     * @param height       the start row.
+     * @param depth        the current depth.
+     * @param researchList the siblings.
+     * @param parent       the node of their parent, null for primary research.
+     * @return the next row.
+     */
+    private int place(final ResourceLocation branch, final int height, final int depth, final List<ResourceLocation> researchList, @Nullable final Node parent)
+    {
+        // Data Pack items load non-deterministically, and the underlying researchTree hashmap doesn't guarantee return of items in any specific order.
+        // Sort by the number on the "sortOrder" tag if present to allow control of display order.
+        final List<ResourceLocation> sorted = new ArrayList<>(researchList);
+        sorted.sort(Comparator.comparing(unsortedResearch -> IGlobalResearchTree.getInstance().getResearch(branch, unsortedResearch).getSortOrder()));
+
+        int nextHeight = height;
+        for (int i = 0; i < sorted.size(); i++)
+        {
+            if (i > 0)
+            {
+                nextHeight++;
+            }
+
+            if (skipped.contains(sorted.get(i)))
+            {
+                continue;
+            }
+
+            final IGlobalResearch research = IGlobalResearchTree.getInstance().getResearch(branch, sorted.get(i));
+            final Node node = new Node(research.getId(), parent, depth, nextHeight, height, i, sorted.size());
+            nodes.add(node);
+            if (!research.getChildren().isEmpty())
+            {
+                nextHeight = place(branch, nextHeight, depth + 1, research.getChildren(), node);
+            }
+        }
+        return nextHeight;
+    }
+
+    /**
+     * Get all placed research, parents before their children.
+     *
+     * @return the nodes.
+     */
+    public List<Node> getNodes()
+    {
+        return nodes;
+    }
+
+    /**
+     * Get the largest row used.
+     *
+     * @return the row.
+     */
+    public int getMaxHeight()
+    {
+        return maxHeight;
+    }
+
+    /**
+     * The position of one research.
+     */
+    public static final class Node
+    {
+        private final ResourceLocation id;
+        private final Node             parent;
+        private final int              depth;
+        private final int              row;
+        private final int              parentRow;
+        private final int              siblingIndex;
+        private final int              siblingCount;
+
+        /**
+         * Create a node.
+         *
+         * @param id           the research id.
+         * @param parent       the parent node, null for primary research.
+         * @param depth        the depth.
+         * @param row          the row.
+         * @param parentRow    the row of the parent.
+         * @param siblingIndex the index among its siblings.
+         * @param siblingCount the number of siblings.
+         */
+        private Node(
+          final ResourceLocation id,
+          @Nullable final Node parent,
+          final int depth,
+          final int row,
+          final int parentRow,
+          final int siblingIndex,
+          final int siblingCount)
+        {
+            this.id = id;
+            this.parent = parent;
+            this.depth = depth;
+            this.row = row;
+            this.parentRow = parentRow;
+            this.siblingIndex = siblingIndex;
+            this.siblingCount = siblingCount;
+        }
+
+        /**
+         * Get the research id.
+         *
+         * @return the research id.
+         */
+        public ResourceLocation getId()
+        {
+            return id;
+        }
+
+        /**
+         * Get the parent node.
+         *
+         * @return the parent node, null for primary research.
+         */
+        @Nullable
+        public Node getParent()
+        {
+            return parent;
+        }
+
+        /**
+         * Get the row.
+         *
+         * @return the row.
+         */
+        public int getRow()
+        {
+            return row;
+        }
+
+        /**
+         * Get the row of the parent.
+         *
+         * @return the row of the parent.
+         */
+        public int getParentRow()
+        {
+            return parentRow;
+        }
+
+        /**
+         * Get the index among its siblings.
+         *
+         * @return the index among its siblings.
+         */
+        public int getSiblingIndex()
+        {
+            return siblingIndex;
+        }
+
+        /**
+         * Get the number of siblings.
+         *
+         * @return the number of siblings.
+         */
+        public int getSiblingCount()
+        {
+            return siblingCount;
+        }
+
+        /**
+         * Get the horizontal offset of the left side of the research block.
+         *
+         * @return the offset.
+         */
+        public int getOffsetX()
+        {
+            return (depth * (GRADIENT_WIDTH + X_SPACING)) + INITIAL_X_OFFSET + ICON_X_OFFSET;
+        }
+
+        /**
+         * Get the vertical offset of the top side of the research block.
+         *
+         * @return the offset.
+         */
+        public int getOffsetY()
+        {
+            return row * (GRADIENT_HEIGHT + Y_SPACING) + Y_SPACING + TIMELABEL_Y_POSITION;
+        }
+
+        /**
+         * Check if the research block or its arrows overlap an area.
+         *
+         * @param minX the left side of the area.
+         * @param minY the top side of the area.
+         * @param maxX the right side of the area.
+         * @param maxY the bottom side of the area.
+         * @return true if so.
+         */
+        public boolean overlaps(final double minX, final double minY, final double maxX, final double maxY)
+        {
+            final int left = getOffsetX() - X_SPACING - ICON_X_OFFSET;
+            final int right = getOffsetX() + RESEARCH_WIDTH;
+            final int top = parentRow * (GRADIENT_HEIGHT + Y_SPACING) + TIMELABEL_Y_POSITION;
+            final int bottom = getOffsetY() + GRADIENT_HEIGHT + Y_SPACING;
+            return left <= maxX && right >= minX && top <= maxY && bottom >= minY;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.minecolonies.coremod.client.gui;
 
 import com.ldtteam.blockui.PaneBuilders;
 import com.ldtteam.blockui.controls.*;
+import com.ldtteam.blockui.Pane;
+import com.ldtteam.blockui.views.View;
 import com.ldtteam.blockui.views.ZoomDragView;
 import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.MinecoloniesAPIProxy;
@@ -14,6 +16,7 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.client.gui.map.ZoomDragMap;
 import com.minecolonies.coremod.client.gui.modules.UniversityModuleWindow;
 import com.minecolonies.coremod.colony.buildings.views.EmptyView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingUniversity;
@@ -21,6 +24,7 @@ import com.minecolonies.coremod.network.messages.server.colony.building.universi
 import com.minecolonies.coremod.research.AlternateBuildingResearchRequirement;
 import com.minecolonies.coremod.research.BuildingResearchRequirement;
 import com.minecolonies.coremod.research.GlobalResearchEffect;
+import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -28,6 +32,7 @@ import net.minecraft.world.item.Items;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -42,6 +47,17 @@ import net.minecraft.network.chat.TranslatableComponent;
  */
 public class WindowResearchTree extends AbstractWindowSkeleton
 {
+    /**
+     * Distance around the visible area of the tree in which research is drawn ahead of scrolling.
+     */
+    private static final int VIRTUAL_MARGIN = 100;
+
+    /**
+     * Id prefixes of the progress gradients of in-progress research, to update them in place.
+     */
+    private static final String NAME_GRADIENT_ID = "progress_name:";
+    private static final String SUB_GRADIENT_ID  = "progress_sub:";
+
     /**
      * The branch of this research.
      */
@@ -82,6 +98,26 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      */
     private ItemIcon[] undoCostIcons = new ItemIcon[0];
 
+    /**
+     * The view holding the tree, only research close to its visible area is drawn.
+     */
+    private final VirtualTreeView view;
+
+    /**
+     * The layout of the branch.
+     */
+    private final ResearchTreeLayout layout;
+
+    /**
+     * The drawn research by id.
+     */
+    private final Map<ResourceLocation, DrawnResearch> drawn = new HashMap<>();
+
+    /**
+     * Abandoned status of research, computed when first needed.
+     */
+    private final Map<ResourceLocation, Boolean> abandonedCache = new HashMap<>();
+
     /**
      * The current state of a research button's display status.
      */
@@ -115,13 +151,30 @@ public class WindowResearchTree extends AbstractWindowSkeleton
         this.hasMax = false;
         this.branchType = IGlobalResearchTree.getInstance().getBranchData(branch).getType();
 
-        final List<ResourceLocation> researchList = IGlobalResearchTree.getInstance().getPrimaryResearch(branch);
         this.hasMax = building.getColony().getResearchManager().getResearchTree().branchFinishedHighestLevel(branch);
 
-        final ZoomDragView view = findPaneOfTypeByID(DRAG_VIEW_ID, ZoomDragView.class);
+        final ZoomDragView parent = findPaneOfTypeByID(DRAG_VIEW_ID, ZoomDragView.class);
+        view = new VirtualTreeView(this::updateVisibleNodes);
+        view.setSize(parent.getWidth(), parent.getHeight());
+        view.setPosition(parent.getX(), parent.getY());
+        view.enable();
+        view.setVisible(true);
+        view.setFocus();
+        view.setWindow(this);
+        parent.addChild(view);
+
+        this.layout = ResearchTreeLayout.get(branch, getSkippedResearch());
+        view.beginBatch();
+        drawTreeBackground(view, layout.getMaxHeight());
+        view.endBatch();
+        updateVisibleNodes();
+    }
 
-        final int maxHeight = drawTree(0, 0, view, researchList, false);
-        drawTreeBackground(view, maxHeight);
+    @Override
+    public void onUpdate()
+    {
+        super.onUpdate();
+        refreshChangedNodes();
     }
 
     @Override
@@ -275,64 +328,224 @@ public class WindowResearchTree extends AbstractWindowSkeleton
     }
 
     /**
-     * Draw the tree of research.
+     * Collect the research which is not shown for this colony, their children are not shown either.
      *
-     * @param height       the start y offset.
-     * @param depth        the current depth.
-     * @param view         the view to append it to.
-     * @param researchList the list of research to go through.
-     * @param abandoned    if abandoned child.
-     * @return the next y offset.
+     * @return the ids of the research.
      */
-    private int drawTree(
-      final int height,
-      final int depth,
-      final ZoomDragView view,
-      final List<ResourceLocation> researchList,
-      final boolean abandoned)
+    private Set<ResourceLocation> getSkippedResearch()
     {
-        // Data Pack items load non-deterministically, and the underlying researchTree hashmap doesn't guarantee return of items in any specific order.
-        // Sort by the number on the "sortOrder" tag if present to allow control of display order.
-        researchList.sort(Comparator.comparing(unsortedResearch -> IGlobalResearchTree.getInstance().getResearch(branch, unsortedResearch).getSortOrder()));
-
-        int nextHeight = height;
-        for (int i = 0; i < researchList.size(); i++)
+        final Set<ResourceLocation> skipped = new HashSet<>();
+        final Deque<ResourceLocation> open = new ArrayDeque<>(IGlobalResearchTree.getInstance().getPrimaryResearch(branch));
+        while (!open.isEmpty())
         {
-            if (i > 0)
-            {
-                nextHeight++;
-            }
-
-            final IGlobalResearch research = IGlobalResearchTree.getInstance().getResearch(branch, researchList.get(i));
+            final ResourceLocation id = open.poll();
+            final IGlobalResearch research = IGlobalResearchTree.getInstance().getResearch(branch, id);
             if (research.isHidden() && !IGlobalResearchTree.getInstance().isResearchRequirementsFulfilled(research.getResearchRequirement(), this.building.getColony()))
             {
+                skipped.add(id);
                 continue;
             }
             // WORKING_IN_RAIN does nothing if the server config equivalent is already on, and it blocks other research of the same tier.
             // I'd rather remove it at the initial ResearchListener, but JsonReloadListeners only fire long before the config files are read,
             // and colonies that already bought the research before changing configs do need the ability to cancel or undo it.
-            if(IMinecoloniesAPI.getInstance().getConfig().getServer().workersAlwaysWorkInRain.get() && research.getEffects().size() == 1 &&
-                 research.getEffects().get(0).getId().equals(WORKING_IN_RAIN) && building.getColony().getResearchManager().getResearchTree().getResearch(branch, researchList.get(i)) == null)
+            if (IMinecoloniesAPI.getInstance().getConfig().getServer().workersAlwaysWorkInRain.get() && research.getEffects().size() == 1 &&
+                  research.getEffects().get(0).getId().equals(WORKING_IN_RAIN) && building.getColony().getResearchManager().getResearchTree().getResearch(branch, id) == null)
             {
+                skipped.add(id);
                 continue;
             }
+            open.addAll(research.getChildren());
+        }
+        return skipped;
+    }
+
+    /**
+     * Draw all research close to the visible area of the view which is not drawn yet.
+     */
+    private void updateVisibleNodes()
+    {
+        final double scale = view.getScale();
+        final double minX = view.scrollX / scale - VIRTUAL_MARGIN;
+        final double minY = view.scrollY / scale - VIRTUAL_MARGIN;
+        final double maxX = (view.scrollX + view.getWidth()) / scale + VIRTUAL_MARGIN;
+        final double maxY = (view.scrollY + view.getHeight()) / scale + VIRTUAL_MARGIN;
+
+        final List<ResearchTreeLayout.Node> visible = new ArrayList<>();
+        for (final ResearchTreeLayout.Node node : layout.getNodes())
+        {
+            if (!drawn.containsKey(node.getId()) && node.overlaps(minX, minY, maxX, maxY))
+            {
+                visible.add(node);
+            }
+        }
+        drawNodes(visible);
+    }
+
+    /**
+     * Draw several research, computing the size of the view only once afterwards.
+     *
+     * @param nodes the research nodes.
+     */
+    private void drawNodes(final List<ResearchTreeLayout.Node> nodes)
+    {
+        if (nodes.isEmpty())
+        {
+            return;
+        }
+
+        view.beginBatch();
+        nodes.forEach(this::drawNode);
+        view.endBatch();
+    }
+
+    /**
+     * Draw a research with its arrows and remember its panes and local state.
+     *
+     * @param node the research node.
+     */
+    private void drawNode(final ResearchTreeLayout.Node node)
+    {
+        final IGlobalResearch research = IGlobalResearchTree.getInstance().getResearch(branch, node.getId());
+        final int firstPane = view.getChildren().size();
+
+        drawResearchItem(view, node.getOffsetX(), node.getOffsetY(), research, isAbandoned(node));
+        if (node.getParent() != null)
+        {
+            drawArrows(view,
+              node.getOffsetX() - X_SPACING,
+              node.getOffsetY() - NAME_LABEL_HEIGHT,
+              node.getSiblingCount(),
+              research.getParent(),
+              node.getSiblingIndex(),
+              node.getRow(),
+              node.getParentRow());
+        }
+
+        final List<Pane> panes = new ArrayList<>(view.getChildren().subList(firstPane, view.getChildren().size()));
+        drawn.put(node.getId(), new DrawnResearch(node, panes, building.getColony().getResearchManager().getResearchTree().getResearch(branch, node.getId())));
+    }
+
+    /**
+     * Update the progress bars of drawn research which only progressed, and redraw drawn research whose local state changed, together with their siblings
+     * and all their children. Siblings and children depend on the state of a research for their own availability.
+     */
+    private void refreshChangedNodes()
+    {
+        final ILocalResearchTree tree = building.getColony().getResearchManager().getResearchTree();
+        final Set<ResearchTreeLayout.Node> changedRoots = new HashSet<>();
+        for (final DrawnResearch drawnResearch : drawn.values())
+        {
+            final ILocalResearch research = tree.getResearch(branch, drawnResearch.node.getId());
+            if (drawnResearch.hasStateChanged(research) || (drawnResearch.hasProgressChanged(research) && !updateProgress(drawnResearch, research)))
+            {
+                changedRoots.add(drawnResearch.node.getParent() == null ? drawnResearch.node : drawnResearch.node.getParent());
+            }
+        }
 
-            final int offsetX = (depth * (GRADIENT_WIDTH + X_SPACING)) + INITIAL_X_OFFSET + ICON_X_OFFSET;
-            final int offsetY = nextHeight * (GRADIENT_HEIGHT + Y_SPACING) + Y_SPACING + TIMELABEL_Y_POSITION;
+        if (changedRoots.isEmpty())
+        {
+            return;
+        }
 
-            final boolean trueAbandoned = drawResearchItem(view, offsetX, offsetY, research, abandoned);
+        // The undo options belong to a research which may be redrawn with a different state.
+        view.removeChild(undoButton);
+        view.removeChild(undoText);
+        for (final ItemIcon icon : undoCostIcons)
+        {
+            view.removeChild(icon);
+        }
+
+        abandonedCache.clear();
+        final List<ResearchTreeLayout.Node> redraw = new ArrayList<>();
+        for (final Iterator<DrawnResearch> iterator = drawn.values().iterator(); iterator.hasNext(); )
+        {
+            final DrawnResearch drawnResearch = iterator.next();
+            for (ResearchTreeLayout.Node ancestor = drawnResearch.node; ancestor != null; ancestor = ancestor.getParent())
+            {
+                if (changedRoots.contains(ancestor))
+                {
+                    drawnResearch.panes.forEach(view::removeChild);
+                    redraw.add(drawnResearch.node);
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+        drawNodes(redraw);
+    }
 
-            if (!research.getParent().getPath().isEmpty())
+    /**
+     * Update the progress bar and remaining time of a drawn in-progress research in place.
+     *
+     * @param drawnResearch the drawn research.
+     * @param research      the local research.
+     * @return false if it has no progress bar to update and has to be redrawn.
+     */
+    private boolean updateProgress(final DrawnResearch drawnResearch, final ILocalResearch research)
+    {
+        final String id = drawnResearch.node.getId().toString();
+        Pane nameGradient = null;
+        Pane subGradient = null;
+        Text progressLabel = null;
+        for (final Pane pane : drawnResearch.panes)
+        {
+            if ((NAME_GRADIENT_ID + id).equals(pane.getID()))
+            {
+                nameGradient = pane;
+            }
+            else if ((SUB_GRADIENT_ID + id).equals(pane.getID()))
+            {
+                subGradient = pane;
+            }
+            else if (pane instanceof Text && id.equals(pane.getID()))
             {
-                drawArrows(view, offsetX - X_SPACING, offsetY - NAME_LABEL_HEIGHT, researchList.size(), research.getParent(), i, nextHeight, height);
+                progressLabel = (Text) pane;
             }
-            if (!research.getChildren().isEmpty())
+        }
+
+        if (nameGradient == null || subGradient == null || progressLabel == null)
+        {
+            return false;
+        }
+
+        final IGlobalResearch globalResearch = IGlobalResearchTree.getInstance().getResearch(branch, drawnResearch.node.getId());
+        final double progressRatio = getProgressRatio(globalResearch, research.getProgress());
+        nameGradient.setSize((int) (progressRatio * NAME_LABEL_WIDTH), NAME_LABEL_HEIGHT);
+        subGradient.setSize((int) (progressRatio * (RESEARCH_WIDTH - ICON_X_OFFSET * 2 - TEXT_X_OFFSET)), TIME_HEIGHT - 1);
+        progressLabel.setText(new TranslatableComponent("com.minecolonies.coremod.gui.research.time", getTimeRemaining(globalResearch, research.getProgress())));
+        drawnResearch.progress = research.getProgress();
+        return true;
+    }
+
+    /**
+     * Check if a research is abandoned, because a sibling of it or of one of its ancestors was chosen over it.
+     *
+     * @param node the research node.
+     * @return true if abandoned.
+     */
+    private boolean isAbandoned(final ResearchTreeLayout.Node node)
+    {
+        final Boolean cached = abandonedCache.get(node.getId());
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        boolean abandoned = node.getParent() != null && isAbandoned(node.getParent());
+        final IGlobalResearch research = IGlobalResearchTree.getInstance().getResearch(branch, node.getId());
+        final ILocalResearchTree tree = building.getColony().getResearchManager().getResearchTree();
+        final ResearchState state = tree.getResearch(branch, research.getId()) == null ? ResearchState.NOT_STARTED : tree.getResearch(branch, research.getId()).getState();
+        if (research.getDepth() != 1 && (state != ResearchState.FINISHED && state != ResearchState.IN_PROGRESS))
+        {
+            final IGlobalResearch parentResearch = IGlobalResearchTree.getInstance().getResearch(branch, research.getParent());
+            if (parentResearch.hasOnlyChild() && parentResearch.hasResearchedChild(tree))
             {
-                nextHeight =
-                  drawTree(nextHeight, depth + 1, view, research.getChildren(), trueAbandoned);
+                abandoned = true;
             }
         }
-        return nextHeight;
+
+        abandonedCache.put(node.getId(), abandoned);
+        return abandoned;
     }
 
     /**
@@ -341,7 +554,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param view          the view to append it to.
      * @param maxHeight     the largest height value of research on the view.
      */
-    private void drawTreeBackground(final ZoomDragView view, final int maxHeight)
+    private void drawTreeBackground(final ZoomDragMap view, final int maxHeight)
     {
         if(branchType == ResearchBranchType.UNLOCKABLES && IGlobalResearchTree.getInstance().getBranchData(branch).getBaseTime(1) < 1)
         {
@@ -375,7 +588,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
                     // Draw the last gradient beyond the edge of the displayed area, to avoid blank spot on the right.
                     gradient.setSize(i == MAX_DEPTH ? 400 : GRADIENT_WIDTH + X_SPACING, (maxHeight + 4) * (GRADIENT_HEIGHT + Y_SPACING) + Y_SPACING + TIMELABEL_Y_POSITION);
                     gradient.setPosition((i - 1) * (GRADIENT_WIDTH + X_SPACING), 0);
-                    view.getChildren().add(0, gradient);
+                    view.addChildFirst(gradient);
                     timeLabel.setColors(COLOR_TEXT_NEGATIVE);
                 }
                 else
@@ -449,14 +662,12 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param offsetX   the horizontal offset of the left side of the research block.
      * @param offsetY   the vertical offset of the top side of the research block.
      * @param research  the global research characteristics to draw.
-     * @param abandoned the abandoned status of the parent of the research, if one is present.
-     * @return abandoned status, true if the research is blocked in the local colony the completion of a sibling research, or an ancestor's sibling's research.
+     * @param abandoned true if the research is blocked in the local colony the completion of a sibling research, or an ancestor's sibling's research.
      */
-    private boolean drawResearchItem(final ZoomDragView view, final int offsetX, final int offsetY, final IGlobalResearch research, boolean abandoned)
+    private void drawResearchItem(final View view, final int offsetX, final int offsetY, final IGlobalResearch research, final boolean abandoned)
     {
         final ILocalResearchTree tree = building.getColony().getResearchManager().getResearchTree();
         final boolean parentResearched = tree.hasCompletedResearch(research.getParent());
-        final IGlobalResearch parentResearch = IGlobalResearchTree.getInstance().getResearch(branch, research.getParent());
         final ResearchState state = tree.getResearch(branch, research.getId()) == null ? ResearchState.NOT_STARTED : tree.getResearch(branch, research.getId()).getState();
         final int progress = tree.getResearch(branch, research.getId()) == null ? 0 : tree.getResearch(branch, research.getId()).getProgress();
 
@@ -466,20 +677,12 @@ public class WindowResearchTree extends AbstractWindowSkeleton
             Network.getNetwork().sendToServer(new TryResearchMessage(building, research.getId(), research.getBranch(), false));
         }
 
-        if (research.getDepth() != 1 && (state != ResearchState.FINISHED && state != ResearchState.IN_PROGRESS)
-              && parentResearch.hasOnlyChild() && parentResearch.hasResearchedChild(tree))
-        {
-            abandoned = true;
-        }
-
         final ResearchButtonState researchState = getResearchButtonState(abandoned, parentResearched, research, state);
 
         drawResearchBoxes(view, offsetX, offsetY, research, researchState, progress);
         drawResearchReqsAndCosts(view, offsetX, offsetY, research, researchState);
         drawResearchIcons(view, offsetX, offsetY, research, researchState);
         drawResearchTexts(view, offsetX, offsetY, research, researchState, progress);
-
-        return abandoned;
     }
 
     /**
@@ -493,7 +696,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param progress         the progress toward research completion.
      */
     private void drawResearchBoxes(
-      final ZoomDragView view,
+      final View view,
       final int offsetX,
       final int offsetY,
       final IGlobalResearch research,
@@ -588,9 +791,10 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param progress      the numeric absolute progress for the research for the colony.
      * @param subBar        the bar to overlay the gradient over.
      */
-    private void drawProgressBar(final ZoomDragView view, final int offsetX, final int offsetY, final IGlobalResearch research, final int progress, final Image subBar)
+    private void drawProgressBar(final View view, final int offsetX, final int offsetY, final IGlobalResearch research, final int progress, final Image subBar)
     {
         final Gradient nameGradient = new Gradient();
+        nameGradient.setID(NAME_GRADIENT_ID + research.getId());
         nameGradient.setSize(NAME_LABEL_WIDTH, NAME_LABEL_HEIGHT - ICON_X_OFFSET);
         nameGradient.setPosition(offsetX, offsetY);
         view.addChild(nameGradient);
@@ -598,11 +802,12 @@ public class WindowResearchTree extends AbstractWindowSkeleton
         nameGradient.setGradientEnd(102, 225, 80, 60);
 
         // scale down subBar to fit smaller progress text, and make gradients of scale to match progress.
-        final double progressRatio = (progress + 1) / (double)IGlobalResearchTree.getInstance().getBranchData(branch).getBaseTime(research.getDepth());
+        final double progressRatio = getProgressRatio(research, progress);
         subBar.setSize(RESEARCH_WIDTH - ICON_X_OFFSET * 2 - TEXT_X_OFFSET, TIME_HEIGHT);
         nameGradient.setSize((int) (progressRatio * NAME_LABEL_WIDTH), NAME_LABEL_HEIGHT);
 
         final Gradient subGradient = new Gradient();
+        subGradient.setID(SUB_GRADIENT_ID + research.getId());
         subGradient.setPosition(offsetX + (ICON_WIDTH / 2), offsetY + NAME_LABEL_HEIGHT);
         subGradient.setSize(subBar.getWidth(), subBar.getHeight());
         // remove a little bit of size from the subGradient height to avoid overlapping onto the shadows of subBar.
@@ -612,6 +817,18 @@ public class WindowResearchTree extends AbstractWindowSkeleton
         view.addChild(subGradient);
     }
 
+    /**
+     * Get how far an in-progress research is done.
+     *
+     * @param research the global research.
+     * @param progress the numeric absolute progress for the research for the colony.
+     * @return the done fraction.
+     */
+    private double getProgressRatio(final IGlobalResearch research, final int progress)
+    {
+        return (progress + 1) / (double) IGlobalResearchTree.getInstance().getBranchData(branch).getBaseTime(research.getDepth());
+    }
+
     /**
      * Generates and attaches tooltips for a given research to input tipItem.
      *
@@ -710,7 +927,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param state    the research's state in the view context.
      * @param progress the progress toward research completion.
      */
-    private void drawResearchTexts(final ZoomDragView view, final int offsetX, final int offsetY, final IGlobalResearch research, final ResearchButtonState state, final int progress)
+    private void drawResearchTexts(final View view, final int offsetX, final int offsetY, final IGlobalResearch research, final ResearchButtonState state, final int progress)
     {
         final Text nameText = new Text();
         nameText.setSize(NAME_LABEL_WIDTH, NAME_LABEL_HEIGHT);
@@ -723,36 +940,9 @@ public class WindowResearchTree extends AbstractWindowSkeleton
 
         if (state == ResearchButtonState.IN_PROGRESS)
         {
-            final double progressToGo;
-            if(research.isInstant() || (mc.player.isCreative() && MinecoloniesAPIProxy.getInstance().getConfig().getServer().researchCreativeCompletion.get()))
-            {
-                progressToGo = 0;
-            }
-            else
-            {
-                progressToGo = IGlobalResearchTree.getInstance().getBranchData(branch).getBaseTime(research.getDepth()) - progress;
-            }
-            // Write out the rough remaining time for the research.
-            // This will necessarily be an estimate, since adjusting for
-            // daytime cycles or simple worker travel time would be a nightmare.
-            // With those caveats, treat BASE_RESEARCH_TIME as _roughly_ equal to
-            // one half-hour, and we're going to round up to increments of fifteen minutes.
-            final int hours = (int) (progressToGo / (BASE_RESEARCH_TIME * 2));
-            final int increments = (int) Math.ceil(progressToGo % (BASE_RESEARCH_TIME * 2) / (BASE_RESEARCH_TIME / 2d));
-            // TranslatableComponents don't play well with advanced Java format() tricks,
-            // so we'll map just the numeric parts of the string.
-            final String timeRemaining;
-            if (increments == 4)
-            {
-                timeRemaining = String.format("%d:%02d", hours + 1, 0);
-            }
-            else
-            {
-                timeRemaining = String.format("%d:%02d", hours, increments * 15);
-            }
             final Text progressLabel = new Text();
             progressLabel.setSize(NAME_LABEL_WIDTH, INITIAL_Y_OFFSET);
-            progressLabel.setText(new TranslatableComponent("com.minecolonies.coremod.gui.research.time", timeRemaining));
+            progressLabel.setText(new TranslatableComponent("com.minecolonies.coremod.gui.research.time", getTimeRemaining(research, progress)));
             progressLabel.setPosition(offsetX + ICON_WIDTH + TEXT_X_OFFSET, offsetY + NAME_LABEL_HEIGHT);
             progressLabel.setColors(COLOR_TEXT_DARK);
             progressLabel.setTextScale(0.7f);
@@ -761,6 +951,43 @@ public class WindowResearchTree extends AbstractWindowSkeleton
         }
     }
 
+    /**
+     * Get the rough remaining time of an in-progress research.
+     *
+     * @param research the global research.
+     * @param progress the numeric absolute progress for the research for the colony.
+     * @return the remaining time as hours and minutes.
+     */
+    private String getTimeRemaining(final IGlobalResearch research, final int progress)
+    {
+        final double progressToGo;
+        if(research.isInstant() || (mc.player.isCreative() && MinecoloniesAPIProxy.getInstance().getConfig().getServer().researchCreativeCompletion.get()))
+        {
+            progressToGo = 0;
+        }
+        else
+        {
+            progressToGo = IGlobalResearchTree.getInstance().getBranchData(branch).getBaseTime(research.getDepth()) - progress;
+        }
+        // Write out the rough remaining time for the research.
+        // This will necessarily be an estimate, since adjusting for
+        // daytime cycles or simple worker travel time would be a nightmare.
+        // With those caveats, treat BASE_RESEARCH_TIME as _roughly_ equal to
+        // one half-hour, and we're going to round up to increments of fifteen minutes.
+        final int hours = (int) (progressToGo / (BASE_RESEARCH_TIME * 2));
+        final int increments = (int) Math.ceil(progressToGo % (BASE_RESEARCH_TIME * 2) / (BASE_RESEARCH_TIME / 2d));
+        // TranslatableComponents don't play well with advanced Java format() tricks,
+        // so we'll map just the numeric parts of the string.
+        if (increments == 4)
+        {
+            return String.format("%d:%02d", hours + 1, 0);
+        }
+        else
+        {
+            return String.format("%d:%02d", hours, increments * 15);
+        }
+    }
+
     /**
      * Draw an undo button in the middle of the parent research, and manages associated tooltips for in-progress research. This function sets normal button and tooltip information
      * into the displacedButton fields, to allow switch back to normal functionality without having to redraw the entire tree.
@@ -848,7 +1075,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param state     the research's current state.
      */
     private void drawResearchReqsAndCosts(
-      final ZoomDragView view,
+      final View view,
       final int offsetX,
       final int offsetY,
       final IGlobalResearch research,
@@ -990,7 +1217,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param state             State of the local research, if begun.
      */
     private void drawResearchIcons(
-      final ZoomDragView view,
+      final View view,
       final int offsetX,
       final int offsetY,
       final IGlobalResearch research,
@@ -1093,7 +1320,7 @@ public class WindowResearchTree extends AbstractWindowSkeleton
      * @param parentHeight     height of the parent arrow target.
      */
     private void drawArrows(
-      final ZoomDragView view,
+      final View view,
       final int offsetX,
       final int offsetY,
       final int researchListSize,
@@ -1184,4 +1411,105 @@ public class WindowResearchTree extends AbstractWindowSkeleton
             }
         }
     }
+
+    /**
+     * The drag view of the tree, reporting when it was scrolled or zoomed.
+     */
+    private static class VirtualTreeView extends ZoomDragMap
+    {
+        /**
+         * Called when the visible area changed.
+         */
+        private final Runnable onViewportChanged;
+
+        /**
+         * The visible area the listener was last called for.
+         */
+        private double lastScrollX = Double.NaN;
+        private double lastScrollY = Double.NaN;
+        private double lastScale   = Double.NaN;
+
+        /**
+         * Create the view.
+         *
+         * @param onViewportChanged called when the visible area changed.
+         */
+        private VirtualTreeView(final Runnable onViewportChanged)
+        {
+            super();
+            this.onViewportChanged = onViewportChanged;
+        }
+
+        @Override
+        public void drawSelf(final PoseStack ms, final double mx, final double my)
+        {
+            if (scrollX != lastScrollX || scrollY != lastScrollY || getScale() != lastScale)
+            {
+                lastScrollX = scrollX;
+                lastScrollY = scrollY;
+                lastScale = getScale();
+                onViewportChanged.run();
+            }
+            super.drawSelf(ms, mx, my);
+        }
+    }
+
+    /**
+     * A drawn research, with its panes and the local state it was drawn for.
+     */
+    private static class DrawnResearch
+    {
+        /**
+         * The research node.
+         */
+        private final ResearchTreeLayout.Node node;
+
+        /**
+         * The panes drawn for it, including its arrows.
+         */
+        private final List<Pane> panes;
+
+        /**
+         * The local state it was drawn for, and the progress it shows.
+         */
+        private final ResearchState state;
+        private       int           progress;
+
+        /**
+         * Create a drawn research.
+         *
+         * @param node     the research node.
+         * @param panes    the drawn panes.
+         * @param research the local research, null if not started.
+         */
+        private DrawnResearch(final ResearchTreeLayout.Node node, final List<Pane> panes, @Nullable final ILocalResearch research)
+        {
+            this.node = node;
+            this.panes = panes;
+            this.state = research == null ? ResearchState.NOT_STARTED : research.getState();
+            this.progress = research == null ? 0 : research.getProgress();
+        }
+
+        /**
+         * Check if the state of the local research changed since it was drawn.
+         *
+         * @param research the local research, null if not started.
+         * @return true if so.
+         */
+        private boolean hasStateChanged(@Nullable final ILocalResearch research)
+        {
+            return (research == null ? ResearchState.NOT_STARTED : research.getState()) != state;
+        }
+
+        /**
+         * Check if the local research progressed since it was last shown, with the same state.
+         *
+         * @param research the local research, null if not started.
+         * @return true if so.
+         */
+        private boolean hasProgressChanged(@Nullable final ILocalResearch research)
+        {
+            return research != null && research.getProgress() != progress;
+        }
+    }
 }
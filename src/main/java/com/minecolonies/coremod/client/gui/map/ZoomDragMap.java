@@ -33,6 +33,11 @@ public class ZoomDragMap extends View
     private double  minScale    = 0.02d;
     private double  maxScale    = 6d;
 
+    /**
+     * While true, added children do not update the content size, it is computed once in {@link #endBatch()}.
+     */
+    private boolean batching = false;
+
     /**
      * Required default constructor.
      */
@@ -107,7 +112,10 @@ public class ZoomDragMap extends View
     public void addChild(final Pane child)
     {
         super.addChild(child);
-        computeContentSize();
+        if (!batching)
+        {
+            computeContentSize();
+        }
     }
 
     public void addChildFirst(final Pane child)
@@ -116,6 +124,26 @@ public class ZoomDragMap extends View
         children.add(0, child);
         adjustChild(child);
         child.setParentView(this);
+        if (!batching)
+        {
+            computeContentSize();
+        }
+    }
+
+    /**
+     * Start adding many children, the content size is only computed once when the batch ends instead of once per child.
+     */
+    public void beginBatch()
+    {
+        batching = true;
+    }
+
+    /**
+     * Finish adding children and compute the content size.
+     */
+    public void endBatch()
+    {
+        batching = false;
         computeContentSize();
     }
 
@@ -10,17 +10,15 @@ import com.ldtteam.structurize.items.ModItems;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.network.messages.SchematicRequestMessage;
-import com.ldtteam.structurize.placement.structure.IStructureHandler;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.ldtteam.structurize.util.WorldRenderMacros;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.buildings.ModBuildings;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.util.BlockPosUtil;
-import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.coremod.colony.buildings.views.EmptyView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.PostBox;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.Stash;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -143,12 +141,10 @@ public class NearColonyBuildingsRenderer
                 final String structureName = sn.toString();
                 final String md5 = Structures.getMD5(structureName);
 
-                final IStructureHandler wrapper = new LoadOnlyStructureHandler(ctx.clientLevel,
-                  buildingView.getID(),
-                    structureName,
-                    new PlacementSettings(),
-                    true);
-                if (!wrapper.hasBluePrint() || !wrapper.isCorrectMD5(md5))
+                final Mirror mirror = buildingView.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE;
+                final Blueprint blueprint = BlueprintCache.get(ctx.clientLevel)
+                                              .getBlueprint(ctx.clientLevel, structureName, BlockPosUtil.getRotationFromRotations(buildingView.getRotation()), mirror, md5);
+                if (blueprint == null)
                 {
                     if (alreadyRequestedStructures.contains(structureName))
                     {
@@ -164,10 +160,6 @@ public class NearColonyBuildingsRenderer
                     continue;
                 }
 
-                final Blueprint blueprint = wrapper.getBluePrint();
-                final Mirror mirror = buildingView.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE;
-                blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(buildingView.getRotation()), mirror, ctx.clientLevel);
-
                 final BlockPos primaryOffset = blueprint.getPrimaryBlockOffset();
                 final BlockPos boxStartPos = currentPosition.subtract(primaryOffset);
                 final BlockPos size = new BlockPos(blueprint.getSizeX(), blueprint.getSizeY(), blueprint.getSizeZ());
@@ -2,7 +2,6 @@ package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.ICitizenDataView;
-import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
@@ -18,7 +17,6 @@ import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.colony.interactionhandling.ServerCitizenInteraction;
 import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
 import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenSkillHandler;
-import net.minecraft.client.Minecraft;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -69,6 +67,11 @@ public class CitizenDataView implements ICitizenDataView
      */
     protected int colonyId;
 
+    /**
+     * The view of the colony the citizen belongs to.
+     */
+    private final IColonyView colonyView;
+
     /**
      * Placeholder skills.
      */
@@ -149,11 +152,13 @@ public class CitizenDataView implements ICitizenDataView
     /**
      * Set View id.
      *
-     * @param id the id to set.
+     * @param id         the id to set.
+     * @param colonyView the view of the colony the citizen belongs to.
      */
-    protected CitizenDataView(final int id)
+    protected CitizenDataView(final int id, final IColonyView colonyView)
     {
         this.id = id;
+        this.colonyView = colonyView;
         this.citizenSkillHandler = new CitizenSkillHandler();
         this.citizenHappinessHandler = new CitizenHappinessHandler();
     }
@@ -324,7 +329,6 @@ public class CitizenDataView implements ICitizenDataView
 
         if (buf.readBoolean())
         {
-            final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, Minecraft.getInstance().level.dimension());
             jobView = IJobDataManager.getInstance().createViewFrom(colonyView, this, buf);
         }
         else
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.*;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.managers.interfaces.*;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.colony.permissions.Rank;
@@ -24,6 +25,7 @@ import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
 import com.minecolonies.coremod.colony.managers.*;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
@@ -32,6 +34,7 @@ import com.minecolonies.coremod.colony.workorders.WorkManager;
 import com.minecolonies.coremod.datalistener.CitizenNameListener;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
+import com.minecolonies.coremod.util.ColonyTickProfiler;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
@@ -59,6 +62,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.minecolonies.api.colony.ColonyState.*;
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -145,7 +152,7 @@ public class Colony implements IColony
     /**
      * Barbarian manager of the colony.
      */
-    private final IRaiderManager raidManager = new RaidManager(this);
+    private final RaidManager raidManager = new RaidManager(this);
 
     /**
      * Event manager of the colony.
@@ -254,6 +261,16 @@ public class Colony implements IColony
      */
     private CompoundTag colonyTag;
 
+    /**
+     * The decoding of the colony data started by {@link #readAsync(CompoundTag, Executor)}, null once it has been attached.
+     */
+    private volatile CompletableFuture<Void> pendingLoad = null;
+
+    /**
+     * The data being decoded asynchronously, kept to decode it on the server thread if the asynchronous decoding fails.
+     */
+    private CompoundTag pendingCompound = null;
+
     /**
      * List of players visiting the colony.
      */
@@ -274,6 +291,11 @@ public class Colony implements IColony
      */
     private boolean isActive = true;
 
+    /**
+     * If the colony changed since its own file was last written.
+     */
+    private boolean fileDirty = true;
+
     /**
      * The colony team color.
      */
@@ -376,6 +398,7 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateRaidSpawnCandidates, () -> ACTIVE, UPDATE_RAID_SPAWN_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
@@ -396,12 +419,14 @@ public class Colony implements IColony
         if (!packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
         {
             isActive = true;
+            fileDirty = true;
             return ACTIVE;
         }
 
         if (!packageManager.getImportantColonyPlayers().isEmpty() || forceLoadTimer > 0)
         {
             isActive = true;
+            fileDirty = true;
             return UNLOADED;
         }
 
@@ -429,6 +454,14 @@ public class Colony implements IColony
         if (getRequestManager() != null)
         {
             getRequestManager().tick();
+
+            for (final IWareHouse wareHouse : buildingManager.getWareHouses())
+            {
+                if (wareHouse instanceof BuildingWareHouse)
+                {
+                    ((BuildingWareHouse) wareHouse).getCourierDispatcher().tick(world.getGameTime());
+                }
+            }
         }
         return false;
     }
@@ -447,7 +480,6 @@ public class Colony implements IColony
         eventManager.onColonyTick(this);
         buildingManager.onColonyTick(this);
         graveManager.onColonyTick(this);
-        workManager.onColonyTick(this);
         reproductionManager.onColonyTick(this);
 
         final long currTime = System.currentTimeMillis();
@@ -678,6 +710,35 @@ public class Colony implements IColony
      */
     @Nullable
     public static Colony loadColony(@NotNull final CompoundTag compound, @Nullable final Level world)
+    {
+        final Colony c = loadColonyHeader(compound, world);
+        if (c == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            c.readContent(compound);
+            return c;
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Something went wrong loading a colony, please report this to the administrators", e);
+        }
+        return null;
+    }
+
+    /**
+     * Create a colony from saved data, only reading its header: id, name, center, dimension, permissions and the other plain settings.
+     * The rest has to be read by {@link #readContent(CompoundTag)} or {@link #readAsync(CompoundTag, Executor)} before the colony is used.
+     *
+     * @param compound compound to read from.
+     * @param world    the world the colony is in, may be null while the world loads.
+     * @return the colony, or null if the header could not be read.
+     */
+    @Nullable
+    public static Colony loadColonyHeader(@NotNull final CompoundTag compound, @Nullable final Level world)
     {
         try
         {
@@ -688,7 +749,7 @@ public class Colony implements IColony
             c.dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(compound.getString(TAG_DIMENSION)));
 
             c.setRequestManager();
-            c.read(compound);
+            c.readHeader(compound);
 
             return c;
         }
@@ -699,6 +760,70 @@ public class Colony implements IColony
         return null;
     }
 
+    /**
+     * Start decoding the colony data on the given executor, after the header has been read.
+     * The colony must not be used until {@link #awaitLoad()} returned.
+     *
+     * @param compound compound to read from.
+     * @param executor the executor to decode on.
+     * @return the future completing when the data is decoded.
+     */
+    public CompletableFuture<Void> readAsync(@NotNull final CompoundTag compound, @NotNull final Executor executor)
+    {
+        pendingCompound = compound;
+        pendingLoad = CompletableFuture.runAsync(() -> readContent(compound), executor);
+        return pendingLoad;
+    }
+
+    /**
+     * Wait for the data decoded by {@link #readAsync(CompoundTag, Executor)}, called before the colony is handed out.
+     * If the asynchronous decoding failed, the data is decoded again on the calling thread.
+     *
+     * @return false if the colony could not be loaded and has to be dropped, like {@link #loadColony(CompoundTag, Level)} does.
+     */
+    public boolean awaitLoad()
+    {
+        // Fast path without locking once the data is attached, this is called for every colony on every tick.
+        return pendingLoad == null || attachPendingLoad();
+    }
+
+    /**
+     * Wait for the asynchronous decoding and attach its result, or decode again on failure.
+     *
+     * @return false if the colony could not be loaded and has to be dropped.
+     */
+    private synchronized boolean attachPendingLoad()
+    {
+        final CompletableFuture<Void> load = pendingLoad;
+        if (load == null)
+        {
+            return true;
+        }
+
+        boolean loaded = true;
+        try
+        {
+            load.join();
+        }
+        catch (final CompletionException | CancellationException e)
+        {
+            Log.getLogger().warn("Decoding colony " + id + " in parallel failed, decoding it on the server thread", e);
+            try
+            {
+                readContent(pendingCompound);
+            }
+            catch (final Exception ex)
+            {
+                Log.getLogger().warn("Something went wrong loading a colony, please report this to the administrators", ex);
+                loaded = false;
+            }
+        }
+
+        pendingCompound = null;
+        pendingLoad = null;
+        return loaded;
+    }
+
     /**
      * Sets the request manager on colony load.
      */
@@ -713,6 +838,17 @@ public class Colony implements IColony
      * @param compound compound to read from.
      */
     public void read(@NotNull final CompoundTag compound)
+    {
+        readHeader(compound);
+        readContent(compound);
+    }
+
+    /**
+     * Read the plain settings and permissions of the colony, which are cheap to decode and needed to look colonies up by owner.
+     *
+     * @param compound compound to read from.
+     */
+    private void readHeader(@NotNull final CompoundTag compound)
     {
         manualHiring = compound.getBoolean(TAG_MANUAL_HIRING);
         dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(compound.getString(TAG_DIMENSION)));
@@ -722,7 +858,15 @@ public class Colony implements IColony
 
         // Permissions
         permissions.loadPermissions(compound);
+    }
 
+    /**
+     * Read the managers and all other data of the colony. Only touches this colony, so different colonies may be read in parallel.
+     *
+     * @param compound compound to read from.
+     */
+    private void readContent(@NotNull final CompoundTag compound)
+    {
         citizenManager.read(compound.getCompound(TAG_CITIZEN_MANAGER));
         visitorManager.read(compound);
         buildingManager.read(compound.getCompound(TAG_BUILDING_MANAGER));
@@ -1113,7 +1257,45 @@ public class Colony implements IColony
             return;
         }
 
+        final long start = ColonyTickProfiler.begin();
+        workManager.applyWorkOrderValidation();
         colonyStateMachine.tick();
+        if (start != 0)
+        {
+            ColonyTickProfiler.end(ColonyTickProfiler.Section.COLONY, getDimension().location() + " #" + id, start);
+        }
+    }
+
+    /**
+     * Prepare the colony local bookkeeping before the world tick: evaluate changed citizen happiness and, every {@code MAX_TICKRATE} ticks,
+     * find invalid work orders, which are removed at the start of {@link #onWorldTick}. Only reads and writes the state of this colony and never the world, so
+     * the colonies of a world can prepare in parallel.
+     *
+     * @param gameTime the game time of the colony world.
+     */
+    public void prepareTick(final long gameTime)
+    {
+        if (colonyStateMachine.getState() != ACTIVE)
+        {
+            return;
+        }
+
+        citizenManager.updateHappiness();
+        if ((gameTime + id) % MAX_TICKRATE == 0)
+        {
+            workManager.validateWorkOrders();
+        }
+    }
+
+    /**
+     * Check if {@link #prepareTick} has any work to do this tick, so worlds without changed citizens or due validations skip the preparation altogether.
+     *
+     * @param gameTime the game time of the colony world.
+     * @return true if the colony has to prepare its tick.
+     */
+    public boolean needsTickPreparation(final long gameTime)
+    {
+        return colonyStateMachine.getState() == ACTIVE && (citizenManager.hasHappinessChanges() || (gameTime + id) % MAX_TICKRATE == 0);
     }
 
     /**
@@ -1128,6 +1310,17 @@ public class Colony implements IColony
         return world.getGameTime() % (world.random.nextInt(averageTicks * 2) + 1) == 0;
     }
 
+    /**
+     * Search the next raid spawn point ahead of time.
+     *
+     * @return false
+     */
+    private boolean updateRaidSpawnCandidates()
+    {
+        raidManager.updateSpawnCandidates();
+        return false;
+    }
+
     /**
      * Update the waypoints after worldTicks.
      *
@@ -1299,6 +1492,35 @@ public class Colony implements IColony
     {
         packageManager.setDirty();
         isActive = true;
+        fileDirty = true;
+    }
+
+    /**
+     * Mark the own file of the colony to be written again, without syncing the colony to its views.
+     * Called by the managers whose changes do not go through {@link #markDirty()}, like buildings, their modules and statistics.
+     */
+    public void markFileDirty()
+    {
+        fileDirty = true;
+    }
+
+    /**
+     * Check if the colony may have changed since its own file was last written.
+     * Like the colony data before, a colony which was active or kept loaded since the last write always counts as changed.
+     *
+     * @return true if so.
+     */
+    public boolean isDirty()
+    {
+        return fileDirty;
+    }
+
+    /**
+     * Called after the own file of the colony was written successfully.
+     */
+    public void onFileWritten()
+    {
+        fileDirty = false;
     }
 
     @Override
@@ -1419,10 +1641,7 @@ public class Colony implements IColony
     public void removeWorkOrderInView(final int orderId)
     {
         //  Inform Subscribers of removed workOrder
-        for (final ServerPlayer player : packageManager.getCloseSubscribers())
-        {
-            Network.getNetwork().sendToPlayer(new ColonyViewRemoveWorkOrderMessage(this, orderId), player);
-        }
+        Network.getNetwork().sendToPlayers(new ColonyViewRemoveWorkOrderMessage(this, orderId), packageManager.getCloseSubscribers());
     }
 
     /**
@@ -1445,17 +1664,7 @@ public class Colony implements IColony
     @Override
     public double getOverallHappiness()
     {
-        if (citizenManager.getCitizens().size() <= 0)
-        {
-            return 5.5;
-        }
-
-        double happinessSum = 0;
-        for (final ICitizenData citizen : citizenManager.getCitizens())
-        {
-            happinessSum += citizen.getCitizenHappinessHandler().getHappiness(citizen.getColony());
-        }
-        return happinessSum / citizenManager.getCitizens().size();
+        return citizenManager.getOverallHappiness(5.5);
     }
 
     /**
@@ -0,0 +1,237 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_COLONY;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_COLONY_DELETED;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Stores every colony in its own file, next to the world instead of inside the colony manager capability of the level.
+ * <p>
+ * A file holds a small header (magic, version, compression, payload length and CRC32 of the payload) followed by the colony NBT, deflated if enabled.
+ * Files are written to a temporary file first and then moved over the old one, so a crash during a save never leaves a half written colony behind.
+ */
+public final class ColonyFileStorage
+{
+    /**
+     * Folder inside the minecolonies folder holding the colony files.
+     */
+    private static final String FOLDER = "colonydata";
+
+    /**
+     * File header.
+     */
+    private static final int  MAGIC   = 0x4D434F4C;
+    private static final byte VERSION = 1;
+
+    /**
+     * Payload compression.
+     */
+    private static final byte COMPRESSION_NONE    = 0;
+    private static final byte COMPRESSION_DEFLATE = 1;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyFileStorage()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Check if colonies should be stored in their own files.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return MineColonies.getConfig().getServer().colonyFileStorage.get();
+    }
+
+    /**
+     * Check if the file of a colony exists.
+     *
+     * @param id        the colony id.
+     * @param dimension the colony dimension.
+     * @return true if so.
+     */
+    public static boolean exists(final int id, @NotNull final ResourceKey<Level> dimension)
+    {
+        return getFile(id, dimension).exists();
+    }
+
+    /**
+     * Write a colony file, atomically replacing the previous one.
+     *
+     * @param id        the colony id.
+     * @param dimension the colony dimension.
+     * @param compound  the colony data.
+     * @return true if written.
+     */
+    public static boolean write(final int id, @NotNull final ResourceKey<Level> dimension, @NotNull final CompoundTag compound)
+    {
+        final File file = getFile(id, dimension);
+        final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try
+        {
+            final boolean compress = MineColonies.getConfig().getServer().colonyFileCompression.get();
+            final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(compress ? new DeflaterOutputStream(payload, new Deflater(Deflater.BEST_SPEED)) : payload))
+            {
+                NbtIo.write(compound, out);
+            }
+            final byte[] bytes = payload.toByteArray();
+            final CRC32 crc = new CRC32();
+            crc.update(bytes);
+
+            file.getParentFile().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+            {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeByte(compress ? COMPRESSION_DEFLATE : COMPRESSION_NONE);
+                out.writeInt(bytes.length);
+                out.writeLong(crc.getValue());
+                out.write(bytes);
+            }
+
+            move(tmp.toPath(), file.toPath());
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when saving colony " + id + " to " + file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Read a colony file.
+     *
+     * @param id        the colony id.
+     * @param dimension the colony dimension.
+     * @return the colony data, or null if the file is missing, damaged or unreadable.
+     */
+    @Nullable
+    public static CompoundTag read(final int id, @NotNull final ResourceKey<Level> dimension)
+    {
+        final File file = getFile(id, dimension);
+        if (!file.exists())
+        {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION)
+            {
+                Log.getLogger().error("Colony file " + file + " has an unknown format");
+                return null;
+            }
+
+            final byte compression = in.readByte();
+            final byte[] bytes = new byte[in.readInt()];
+            final long checksum = in.readLong();
+            in.readFully(bytes);
+
+            final CRC32 crc = new CRC32();
+            crc.update(bytes);
+            if (crc.getValue() != checksum)
+            {
+                Log.getLogger().error("Colony file " + file + " is damaged, the checksum does not match");
+                return null;
+            }
+
+            final InputStream payload = new ByteArrayInputStream(bytes);
+            try (DataInputStream data = new DataInputStream(compression == COMPRESSION_DEFLATE ? new InflaterInputStream(payload) : payload))
+            {
+                return NbtIo.read(data, NbtAccounter.UNLIMITED);
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when loading colony " + id + " from " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Mark the file of a deleted colony, so it is not loaded again but can still be restored by hand.
+     *
+     * @param id        the colony id.
+     * @param dimension the colony dimension.
+     */
+    public static void markDeleted(final int id, @NotNull final ResourceKey<Level> dimension)
+    {
+        final File file = getFile(id, dimension);
+        if (!file.exists())
+        {
+            return;
+        }
+
+        try
+        {
+            move(file.toPath(), new File(file.getParentFile(), String.format(FILENAME_COLONY_DELETED, id)).toPath());
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when marking colony file " + file + " deleted", e);
+        }
+    }
+
+    /**
+     * Move a file, atomically where the file system supports it.
+     *
+     * @param from the source.
+     * @param to   the target, replaced if it exists.
+     * @throws IOException if the move failed.
+     */
+    private static void move(final Path from, final Path to) throws IOException
+    {
+        try
+        {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Get the file of a colony.
+     *
+     * @param id        the colony id.
+     * @param dimension the colony dimension.
+     * @return the file.
+     */
+    private static File getFile(final int id, @NotNull final ResourceKey<Level> dimension)
+    {
+        final File root = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        final File folder = new File(root, FOLDER + File.separator + dimension.location().getNamespace() + File.separator + dimension.location().getPath());
+        return new File(folder, String.format(FILENAME_COLONY, id));
+    }
+}
@@ -0,0 +1,117 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.nbt.CompoundTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the colonies of a world in two stages.
+ * <p>
+ * The headers of all colonies (id, name, center, dimension and permissions) are read on the calling thread, so the colonies can be registered right away.
+ * Their citizens, buildings, request system, research and other managers are decoded in parallel on a temporary pool, each colony waits for its own data
+ * the first time it is handed out by the colony manager capability. All colonies are still decoded right away when the world loads, only not on the server
+ * thread, nothing is deferred until a colony is first needed.
+ */
+public final class ColonyLoader
+{
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyLoader()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Load colonies from their saved data.
+     *
+     * @param compounds the saved colonies.
+     * @return the loaded colonies, their data may still be decoding.
+     */
+    public static List<Colony> load(@NotNull final List<CompoundTag> compounds)
+    {
+        final long start = System.nanoTime();
+        final int threads = Math.min(MineColonies.getConfig().getServer().colonyLoadThreads.get(), Runtime.getRuntime().availableProcessors());
+        final List<Colony> colonies = new ArrayList<>(compounds.size());
+
+        if (threads <= 0 || compounds.size() < 2)
+        {
+            for (final CompoundTag compound : compounds)
+            {
+                final Colony colony = Colony.loadColony(compound, null);
+                if (colony != null)
+                {
+                    colonies.add(colony);
+                }
+            }
+            Log.getLogger().info("Loaded " + colonies.size() + " colonies in " + (System.nanoTime() - start) / NANOS_PER_MILLI + " ms");
+            return colonies;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new LoaderThreadFactory());
+        final List<CompletableFuture<Void>> loads = new ArrayList<>(compounds.size());
+        final AtomicInteger failed = new AtomicInteger();
+        for (final CompoundTag compound : compounds)
+        {
+            final Colony colony = Colony.loadColonyHeader(compound, null);
+            if (colony != null)
+            {
+                loads.add(colony.readAsync(compound, executor).handle((result, throwable) -> {
+                    if (throwable != null)
+                    {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                }));
+                colonies.add(colony);
+            }
+        }
+        executor.shutdown();
+
+        Log.getLogger()
+          .info("Loaded the headers of " + colonies.size() + " colonies in " + (System.nanoTime() - start) / NANOS_PER_MILLI + " ms, decoding them on " + threads + " threads");
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+          .thenRun(() -> Log.getLogger()
+            .info("Decoded " + (loads.size() - failed.get()) + " colonies in parallel, " + failed.get() + " failed and are decoded again on the server thread, "
+                    + (System.nanoTime() - start) / NANOS_PER_MILLI + " ms after loading started"));
+
+        return colonies;
+    }
+
+    /**
+     * Thread factory of the loading pool.
+     */
+    private static class LoaderThreadFactory implements ThreadFactory
+    {
+        /**
+         * Ongoing thread IDs.
+         */
+        private int id;
+
+        @Override
+        public Thread newThread(@NotNull final Runnable runnable)
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Colony Loader #" + (id++));
+            thread.setDaemon(true);
+
+            thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony Loader Thread errored! ", throwable));
+            return thread;
+        }
+    }
+}
@@ -34,6 +34,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
@@ -53,7 +55,12 @@ public final class ColonyManager implements IColonyManager
      * The list of colony views.
      */
     @NotNull
-    private final Map<ResourceKey<Level>, ColonyList<IColonyView>> colonyViews = new HashMap<>();
+    private final Map<ResourceKey<Level>, ColonyList<IColonyView>> colonyViews = new ConcurrentHashMap<>();
+
+    /**
+     * The colony view updates which are decoding or waiting for earlier ones. Client only.
+     */
+    private final ColonyViewUpdateQueue viewUpdates = new ColonyViewUpdateQueue();
 
     /**
      * Recipemanager of this server.
@@ -200,6 +207,7 @@ public final class ColonyManager implements IColonyManager
 
             cap.deleteColony(id);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
+            ColonyFileStorage.markDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayer) player));
             Log.getLogger().info("Successfully deleted colony: " + id);
@@ -213,6 +221,7 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void removeColonyView(final int id, final ResourceKey<Level> dimension)
     {
+        //  Not queued, pending updates of the removed view are applied to the detached view.
         if (colonyViews.containsKey(dimension))
         {
             colonyViews.get(dimension).remove(id);
@@ -641,11 +650,23 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void onClientTick(@NotNull final TickEvent.ClientTickEvent event)
     {
-        if (event.phase == TickEvent.Phase.END && Minecraft.getInstance().level == null && !colonyViews.isEmpty())
+        if (event.phase != TickEvent.Phase.END)
+        {
+            return;
+        }
+
+        if (Minecraft.getInstance().level == null)
         {
-            //  Player has left the game, clear the Colony View cache
-            colonyViews.clear();
+            if (!colonyViews.isEmpty())
+            {
+                //  Player has left the game, clear the Colony View cache
+                viewUpdates.clear();
+                colonyViews.clear();
+            }
+            return;
         }
+
+        viewUpdates.drain();
     }
 
     @Override
@@ -653,7 +674,23 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            final List<IColony> colonies = getColonies(event.world);
+            final long gameTime = event.world.getGameTime();
+            final List<Colony> due = new ArrayList<>();
+            for (final IColony colony : colonies)
+            {
+                if (((Colony) colony).needsTickPreparation(gameTime))
+                {
+                    due.add((Colony) colony);
+                }
+            }
+
+            if (!due.isEmpty())
+            {
+                final int threads = getConfig().getServer().parallelColonyTicking.get() ? getConfig().getServer().colonyTickThreads.get() : 1;
+                ColonyTickScheduler.run(due, colony -> colony.prepareTick(gameTime), threads);
+            }
+            colonies.forEach(c -> c.onWorldTick(event));
         }
     }
 
@@ -737,9 +774,62 @@ public final class ColonyManager implements IColonyManager
                 colonyViews.put(dim, list);
             }
         }
-        view.handleColonyViewMessage(colonyData, world, isNewSubscription);
 
-        MinecraftForge.EVENT_BUS.post(new ColonyViewUpdatedEvent(view));
+        final ColonyView colonyView = (ColonyView) view;
+        decodeInOrder(colonyView, colonyData, () ->
+        {
+            final Runnable apply = colonyView.decodeColonyViewMessage(colonyData, world, isNewSubscription);
+            return () ->
+            {
+                apply.run();
+                MinecraftForge.EVENT_BUS.post(new ColonyViewUpdatedEvent(colonyView));
+            };
+        });
+    }
+
+    /**
+     * Decode a colony view update packet on a worker, it is applied on the main thread after all earlier updates.
+     *
+     * @param view    the view the update is for.
+     * @param buf     the packet data, retained until it is decoded.
+     * @param decoder decodes the packet and returns the action which applies it, null if there is nothing to apply.
+     */
+    private void decodeInOrder(@NotNull final ColonyView view, @NotNull final FriendlyByteBuf buf, @NotNull final Supplier<Runnable> decoder)
+    {
+        buf.retain();
+        viewUpdates.submit(view, () ->
+        {
+            try
+            {
+                return decoder.get();
+            }
+            finally
+            {
+                buf.release();
+            }
+        });
+    }
+
+    /**
+     * Apply a colony view update on the main thread after all earlier updates.
+     *
+     * @param buf    the packet data, retained until it is applied.
+     * @param action the update.
+     */
+    private void runInOrder(@NotNull final FriendlyByteBuf buf, @NotNull final Runnable action)
+    {
+        buf.retain();
+        viewUpdates.run(() ->
+        {
+            try
+            {
+                action.run();
+            }
+            finally
+            {
+                buf.release();
+            }
+        });
     }
 
     @Override
@@ -762,7 +852,7 @@ public final class ColonyManager implements IColonyManager
         }
         else
         {
-            view.handlePermissionsViewMessage(data);
+            runInOrder(data, () -> view.handlePermissionsViewMessage(data));
         }
     }
 
@@ -774,7 +864,17 @@ public final class ColonyManager implements IColonyManager
         {
             return;
         }
-        view.handleColonyViewCitizensMessage(citizenId, buf);
+
+        if (view.getCitizen(citizenId) != null)
+        {
+            //  Known citizens are updated in place, as open windows hold on to them.
+            runInOrder(buf, () -> view.handleColonyViewCitizensMessage(citizenId, buf));
+        }
+        else
+        {
+            final ColonyView colonyView = (ColonyView) view;
+            decodeInOrder(colonyView, buf, () -> colonyView.decodeColonyViewCitizensMessage(citizenId, buf));
+        }
     }
 
     @Override
@@ -785,7 +885,7 @@ public final class ColonyManager implements IColonyManager
         {
             return;
         }
-        view.handleColonyViewWorkOrderMessage(buf);
+        runInOrder(buf, () -> view.handleColonyViewWorkOrderMessage(buf));
     }
 
     @Override
@@ -796,7 +896,7 @@ public final class ColonyManager implements IColonyManager
         {
             //  Can legitimately be NULL, because (to keep the code simple and fast), it is
             //  possible to receive a 'remove' notice before receiving the View.
-            view.handleColonyViewRemoveCitizenMessage(citizenId);
+            viewUpdates.run(() -> view.handleColonyViewRemoveCitizenMessage(citizenId));
         }
     }
 
@@ -804,13 +904,19 @@ public final class ColonyManager implements IColonyManager
     public void handleColonyBuildingViewMessage(final int colonyId, final BlockPos buildingId, @NotNull final FriendlyByteBuf buf, final ResourceKey<Level> dim)
     {
         final IColonyView view = getColonyView(colonyId, dim);
-        if (view != null)
+        if (view == null)
         {
-            view.handleColonyBuildingViewMessage(buildingId, buf);
+            Log.getLogger().error(String.format("Colony view does not exist for ID #%d", colonyId), new Exception());
+        }
+        else if (view.getBuilding(buildingId) != null)
+        {
+            //  Known buildings are updated in place, as open windows hold on to them.
+            runInOrder(buf, () -> view.handleColonyBuildingViewMessage(buildingId, buf));
         }
         else
         {
-            Log.getLogger().error(String.format("Colony view does not exist for ID #%d", colonyId), new Exception());
+            final ColonyView colonyView = (ColonyView) view;
+            decodeInOrder(colonyView, buf, () -> colonyView.decodeColonyBuildingViewMessage(buildingId, buf));
         }
     }
 
@@ -822,7 +928,7 @@ public final class ColonyManager implements IColonyManager
         {
             //  Can legitimately be NULL, because (to keep the code simple and fast), it is
             //  possible to receive a 'remove' notice before receiving the View.
-            view.handleColonyViewRemoveBuildingMessage(buildingId);
+            viewUpdates.run(() -> view.handleColonyViewRemoveBuildingMessage(buildingId));
         }
     }
 
@@ -834,7 +940,7 @@ public final class ColonyManager implements IColonyManager
         {
             //  Can legitimately be NULL, because (to keep the code simple and fast), it is
             //  possible to receive a 'remove' notice before receiving the View.
-            view.handleColonyViewRemoveWorkOrderMessage(workOrderId);
+            viewUpdates.run(() -> view.handleColonyViewRemoveWorkOrderMessage(workOrderId));
         }
     }
 
@@ -887,6 +993,7 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void resetColonyViews()
     {
+        viewUpdates.clear();
         colonyViews.clear();
     }
 }
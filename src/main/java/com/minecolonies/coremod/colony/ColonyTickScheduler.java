@@ -0,0 +1,143 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs the colony local bookkeeping of all colonies of a world before their main thread tick.
+ * <p>
+ * The colonies are split into one contiguous partition per worker and the calling thread waits until all partitions are done, so the main thread tick
+ * afterwards sees the finished results. A task may only touch the state of its own colony and never the world: loading a chunk from a worker hands the work
+ * to the blocked main thread and would never return. With a single thread the colonies are run in list order on the calling thread, which is the
+ * deterministic fallback.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Seconds an idle worker is kept alive.
+     */
+    private static final int KEEP_ALIVE_SECONDS = 10;
+
+    /**
+     * The worker pool, null until first used in parallel.
+     */
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyTickScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Run a task for every entry and wait until all are done.
+     *
+     * @param entries the entries, usually the colonies of a world.
+     * @param task    the task, only touching the state of its own entry.
+     * @param threads the amount of workers, 1 or less to run on the calling thread in list order.
+     * @param <T>     the type of the entries.
+     */
+    public static <T> void run(@NotNull final List<T> entries, @NotNull final Consumer<T> task, final int threads)
+    {
+        final int partitions = Math.min(threads, entries.size());
+        if (partitions <= 1)
+        {
+            runPartition(entries, task);
+            return;
+        }
+
+        final ThreadPoolExecutor pool = getExecutor(threads);
+        final List<CompletableFuture<Void>> running = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++)
+        {
+            final List<T> partition = entries.subList(entries.size() * i / partitions, entries.size() * (i + 1) / partitions);
+            running.add(CompletableFuture.runAsync(() -> runPartition(partition, task), pool));
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Stops all running threads of the pool.
+     */
+    public static void shutdown()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Run the task for all entries of a partition, one failing entry does not stop the others.
+     *
+     * @param partition the entries.
+     * @param task      the task.
+     * @param <T>       the type of the entries.
+     */
+    private static <T> void runPartition(@NotNull final List<T> partition, @NotNull final Consumer<T> task)
+    {
+        for (final T entry : partition)
+        {
+            try
+            {
+                task.accept(entry);
+            }
+            catch (final RuntimeException ex)
+            {
+                Log.getLogger().error("Failed to prepare the tick of " + entry, ex);
+            }
+        }
+    }
+
+    /**
+     * Get the worker pool, created again when the amount of threads changed.
+     *
+     * @param threads the amount of workers.
+     * @return the pool.
+     */
+    private static ThreadPoolExecutor getExecutor(final int threads)
+    {
+        if (executor == null || executor.getMaximumPoolSize() != threads)
+        {
+            shutdown();
+            executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new TickThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Thread factory of the tick pool.
+     */
+    private static class TickThreadFactory implements ThreadFactory
+    {
+        /**
+         * Ongoing thread IDs.
+         */
+        private int id;
+
+        @Override
+        public Thread newThread(@NotNull final Runnable runnable)
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Colony Tick Worker #" + (id++));
+            thread.setDaemon(true);
+
+            thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony Tick Thread errored! ", throwable));
+            return thread;
+        }
+    }
+}
@@ -242,6 +242,11 @@ public final class ColonyView implements IColonyView
      */
     private int day;
 
+    /**
+     * Number of decoded update packets which are not applied yet.
+     */
+    private int pendingUpdates = 0;
+
     /**
      * Base constructor for a colony.
      *
@@ -785,16 +790,42 @@ public final class ColonyView implements IColonyView
     @Override
     @Nullable
     public IMessage handleColonyViewMessage(@NotNull final FriendlyByteBuf buf, @NotNull final Level world, final boolean isNewSubscription)
+    {
+        applyNetworkSnapshot(new NetworkSnapshot(buf, this), world, isNewSubscription);
+        return null;
+    }
+
+    /**
+     * Decode a ColonyView update packet without touching the view, safe to call off the main thread.
+     *
+     * @param buf               {@link FriendlyByteBuf} to read from.
+     * @param world             the world it is in.
+     * @param isNewSubscription Whether this is a new subscription of not.
+     * @return the action applying the update, to be run on the main thread.
+     */
+    @NotNull
+    public Runnable decodeColonyViewMessage(@NotNull final FriendlyByteBuf buf, @NotNull final Level world, final boolean isNewSubscription)
+    {
+        final NetworkSnapshot snapshot = new NetworkSnapshot(buf, this);
+        return () -> applyNetworkSnapshot(snapshot, world, isNewSubscription);
+    }
+
+    /**
+     * Swap the decoded data of a ColonyView update packet into the view.
+     *
+     * @param snapshot          the decoded data.
+     * @param world             the world it is in.
+     * @param isNewSubscription Whether this is a new subscription of not.
+     */
+    private void applyNetworkSnapshot(@NotNull final NetworkSnapshot snapshot, @NotNull final Level world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
+        this.name = snapshot.name;
+        this.dimensionId = snapshot.dimensionId;
+        this.center = snapshot.center;
+        this.manualHiring = snapshot.manualHiring;
+        this.citizenCount = snapshot.citizenCount;
+        this.citizenCountWithEmptyGuardTowers = snapshot.citizenCountWithEmptyGuardTowers;
 
         if (isNewSubscription)
         {
@@ -803,107 +834,48 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
         freeBlocks.clear();
+        freeBlocks.addAll(snapshot.freeBlocks);
+        freePositions.clear();
+        freePositions.addAll(snapshot.freePositions);
+        this.overallHappiness = snapshot.overallHappiness;
+        this.hasColonyWarehouse = snapshot.hasColonyWarehouse;
         wayPoints.clear();
-        lastSpawnPoints.clear();
+        wayPoints.putAll(snapshot.wayPoints);
+        this.lastContactInHours = snapshot.lastContactInHours;
+        this.manualHousing = snapshot.manualHousing;
+        this.moveIn = snapshot.moveIn;
+        this.textureStyle = snapshot.textureStyle;
+        this.nameStyle = snapshot.nameStyle;
         nameFileIds.clear();
+        nameFileIds.addAll(snapshot.nameFileIds);
 
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
-        {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        if (snapshot.requestManager != null)
         {
-            freePositions.add(buf.readBlockPos());
+            this.requestManager = snapshot.requestManager;
         }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
-        this.textureStyle = buf.readUtf(32767);
-
-        this.nameStyle = buf.readUtf(32767);
-        final int nameFileIdSize = buf.readInt();
-        for (int i = 0; i < nameFileIdSize; i++)
-        {
-            nameFileIds.add(buf.readUtf(32767));
-        }
-
-        if (buf.readBoolean())
-        {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
-        }
-
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
-        }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readUtf(32767);
-
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
-
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
-
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
-        {
-            allies.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              buf.readBoolean(),
-              ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
-        }
-
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
+        lastSpawnPoints.clear();
+        lastSpawnPoints.addAll(snapshot.lastSpawnPoints);
+        this.teamColonyColor = snapshot.teamColonyColor;
+        this.colonyFlag = snapshot.colonyFlag;
+        this.printProgress = snapshot.printProgress;
+        this.mercenaryLastUseTime = snapshot.mercenaryLastUseTime;
+        this.style = snapshot.style;
+        this.isUnderRaid = snapshot.isUnderRaid;
+        this.spiesEnabled = snapshot.spiesEnabled;
+        this.allies = snapshot.allies;
+        this.feuds = snapshot.feuds;
+        this.manager.readFromNBT(snapshot.research);
+
+        if (snapshot.ticketedChunks != null)
         {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              false,
-              ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            this.ticketedChunks = snapshot.ticketedChunks;
         }
 
-        this.manager.readFromNBT(buf.readNbt());
-
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
-            {
-                ticketedChunks.add(buf.readLong());
-            }
-        }
-
-        this.graveManager.read(buf.readNbt());
-        this.statisticManager.deserialize(buf);
-        this.day = buf.readInt();
-        return null;
+        this.graveManager.read(snapshot.graves);
+        this.statisticManager = snapshot.statistics;
+        this.day = snapshot.day;
     }
 
     /**
@@ -921,7 +893,8 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Update a ColonyView's workOrders given a network data ColonyView update packet. This uses a full-replacement - workOrders do not get updated and are instead overwritten.
+     * Update a ColonyView's workOrders given a network data ColonyView update packet. A full list replaces all known workOrders, otherwise only the listed
+     * workOrders are added or overwritten.
      *
      * @param buf Network data.
      * @return null == no response.
@@ -930,7 +903,10 @@ public final class ColonyView implements IColonyView
     @Nullable
     public IMessage handleColonyViewWorkOrderMessage(final FriendlyByteBuf buf)
     {
-        workOrders.clear();
+        if (buf.readBoolean())
+        {
+            workOrders.clear();
+        }
         final int amount = buf.readInt();
         for (int i = 0; i < amount; i++)
         {
@@ -964,6 +940,31 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    /**
+     * Decode a citizen packet into a new citizen view without touching the view, safe to call off the main thread.
+     *
+     * @param id  ID of the citizen.
+     * @param buf Network data.
+     * @return the action adding the citizen, to be run on the main thread, or null if it could not be read.
+     */
+    @Nullable
+    public Runnable decodeColonyViewCitizensMessage(final int id, @NotNull final FriendlyByteBuf buf)
+    {
+        final ICitizenDataView citizen = new CitizenDataView(id, this);
+        try
+        {
+            citizen.deserialize(buf);
+        }
+        catch (final RuntimeException ex)
+        {
+            Log.getLogger().error(String.format("A CitizenData.View for #%d has thrown an exception during loading, its state cannot be restored. Report this to the mod author",
+              id), ex);
+            return null;
+        }
+
+        return () -> citizens.put(citizen.getId(), citizen);
+    }
+
     @Override
     public void handleColonyViewVisitorMessage(final FriendlyByteBuf visitorBuf, final boolean refresh)
     {
@@ -1072,6 +1073,33 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    /**
+     * Decode a packet of a building unknown to the view into a new building view without touching the view, safe to call off the main thread.
+     *
+     * @param buildingId location of the building.
+     * @param buf        buffer containing ColonyBuilding information.
+     * @return the action adding the building, to be run on the main thread, or null if it could not be read.
+     */
+    @Nullable
+    public Runnable decodeColonyBuildingViewMessage(final BlockPos buildingId, @NotNull final FriendlyByteBuf buf)
+    {
+        @Nullable final IBuildingView building = IBuildingDataManager.getInstance().createViewFrom(this, buildingId, buf);
+        if (building == null)
+        {
+            return null;
+        }
+
+        return () ->
+        {
+            buildings.put(building.getID(), building);
+
+            if (building instanceof BuildingTownHall.View)
+            {
+                townHall = (ITownHallView) building;
+            }
+        };
+    }
+
     /**
      * Update a players permissions.
      *
@@ -1579,4 +1607,181 @@ public final class ColonyView implements IColonyView
     {
         return this.day;
     }
+
+    @Override
+    public boolean isLoading()
+    {
+        return pendingUpdates > 0;
+    }
+
+    /**
+     * Count update packets which are decoding, or were applied.
+     *
+     * @param delta the change of the number of pending updates.
+     */
+    void addPendingUpdates(final int delta)
+    {
+        pendingUpdates += delta;
+    }
+
+    /**
+     * The decoded data of a ColonyView update packet. Only new objects are built while decoding, so it can be read off the main thread.
+     */
+    private static class NetworkSnapshot
+    {
+        private final String                       name;
+        private final ResourceKey<Level>           dimensionId;
+        private final BlockPos                     center;
+        private final boolean                      manualHiring;
+        private final int                          citizenCount;
+        private final int                          citizenCountWithEmptyGuardTowers;
+        private final List<Block>                  freeBlocks    = new ArrayList<>();
+        private final List<BlockPos>               freePositions = new ArrayList<>();
+        private final double                       overallHappiness;
+        private final boolean                      hasColonyWarehouse;
+        private final Map<BlockPos, BlockState>    wayPoints     = new HashMap<>();
+        private final int                          lastContactInHours;
+        private final boolean                      manualHousing;
+        private final boolean                      moveIn;
+        private final String                       textureStyle;
+        private final String                       nameStyle;
+        private final List<String>                 nameFileIds   = new ArrayList<>();
+        @Nullable
+        private final IRequestManager              requestManager;
+        private final List<BlockPos>               lastSpawnPoints = new ArrayList<>();
+        private final ChatFormatting               teamColonyColor;
+        private final ListTag                      colonyFlag;
+        private final boolean                      printProgress;
+        private final long                         mercenaryLastUseTime;
+        private final String                       style;
+        private final boolean                      isUnderRaid;
+        private final boolean                      spiesEnabled;
+        private final List<CompactColonyReference> allies = new ArrayList<>();
+        private final List<CompactColonyReference> feuds  = new ArrayList<>();
+        private final CompoundTag                  research;
+        @Nullable
+        private final Set<Long>                    ticketedChunks;
+        private final CompoundTag                  graves;
+        private final IStatisticsManager           statistics;
+        private final int                          day;
+
+        /**
+         * Decode the packet.
+         *
+         * @param buf  {@link FriendlyByteBuf} to read from.
+         * @param view the view the packet is for, owner of the new request and statistics managers.
+         */
+        private NetworkSnapshot(@NotNull final FriendlyByteBuf buf, @NotNull final ColonyView view)
+        {
+            //  General Attributes
+            name = buf.readUtf(32767);
+            dimensionId = ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+            center = buf.readBlockPos();
+            manualHiring = buf.readBoolean();
+            //  Citizenry
+            citizenCount = buf.readInt();
+            citizenCountWithEmptyGuardTowers = buf.readInt();
+
+            final int blockListSize = buf.readInt();
+            for (int i = 0; i < blockListSize; i++)
+            {
+                freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
+            }
+
+            final int posListSize = buf.readInt();
+            for (int i = 0; i < posListSize; i++)
+            {
+                freePositions.add(buf.readBlockPos());
+            }
+            overallHappiness = buf.readDouble();
+            hasColonyWarehouse = buf.readBoolean();
+
+            final int wayPointListSize = buf.readInt();
+            for (int i = 0; i < wayPointListSize; i++)
+            {
+                wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+            }
+            lastContactInHours = buf.readInt();
+            manualHousing = buf.readBoolean();
+            moveIn = buf.readBoolean();
+            textureStyle = buf.readUtf(32767);
+
+            nameStyle = buf.readUtf(32767);
+            final int nameFileIdSize = buf.readInt();
+            for (int i = 0; i < nameFileIdSize; i++)
+            {
+                nameFileIds.add(buf.readUtf(32767));
+            }
+
+            if (buf.readBoolean())
+            {
+                requestManager = new StandardRequestManager(view);
+                requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            }
+            else
+            {
+                requestManager = null;
+            }
+
+            final int barbSpawnListSize = buf.readInt();
+            for (int i = 0; i < barbSpawnListSize; i++)
+            {
+                lastSpawnPoints.add(buf.readBlockPos());
+            }
+            Collections.reverse(lastSpawnPoints);
+
+            teamColonyColor = ChatFormatting.values()[buf.readInt()];
+            colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+
+            printProgress = buf.readBoolean();
+
+            mercenaryLastUseTime = buf.readLong();
+
+            style = buf.readUtf(32767);
+
+            isUnderRaid = buf.readBoolean();
+            spiesEnabled = buf.readBoolean();
+
+            final int noOfAllies = buf.readInt();
+            for (int i = 0; i < noOfAllies; i++)
+            {
+                allies.add(new CompactColonyReference(buf.readUtf(32767),
+                  buf.readBlockPos(),
+                  buf.readInt(),
+                  buf.readBoolean(),
+                  ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            }
+
+            final int noOfFeuds = buf.readInt();
+            for (int i = 0; i < noOfFeuds; i++)
+            {
+                feuds.add(new CompactColonyReference(buf.readUtf(32767),
+                  buf.readBlockPos(),
+                  buf.readInt(),
+                  false,
+                  ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            }
+
+            research = buf.readNbt();
+
+            final int ticketChunkCount = buf.readInt();
+            if (ticketChunkCount != -1)
+            {
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
+            }
+            else
+            {
+                ticketedChunks = null;
+            }
+
+            graves = buf.readNbt();
+            statistics = new StatisticsManager(view);
+            statistics.deserialize(buf);
+            day = buf.readInt();
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.Util;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Client side queue of colony view updates, decoding large packets on a worker while applying all updates on the main thread in the order they arrived.
+ * <p>
+ * A decoded update only builds new objects, the returned action swaps them into the view. Updates which need no decoding are queued behind pending ones, so
+ * a removal never overtakes the packet which added the same entry.
+ */
+public class ColonyViewUpdateQueue
+{
+    /**
+     * The updates in arrival order.
+     */
+    private final Deque<Update> updates = new ArrayDeque<>();
+
+    /**
+     * Decode an update on a worker.
+     *
+     * @param view    the view the update is for, marked as loading until it is applied.
+     * @param decoder decodes the packet and returns the action which applies it, null if there is nothing to apply.
+     */
+    public void submit(@NotNull final ColonyView view, @NotNull final Supplier<Runnable> decoder)
+    {
+        view.addPendingUpdates(1);
+        updates.add(new Update(view, CompletableFuture.supplyAsync(decoder, Util.backgroundExecutor())));
+        drain();
+    }
+
+    /**
+     * Apply an update right away, or queue it behind the pending ones.
+     *
+     * @param action the update.
+     */
+    public void run(@NotNull final Runnable action)
+    {
+        if (updates.isEmpty())
+        {
+            action.run();
+        }
+        else
+        {
+            updates.add(new Update(null, CompletableFuture.completedFuture(action)));
+        }
+    }
+
+    /**
+     * Apply all decoded updates up to the first one which is still decoding, called on the main thread.
+     */
+    public void drain()
+    {
+        while (!updates.isEmpty() && updates.peek().decoded.isDone())
+        {
+            final Update update = updates.poll();
+            if (update.view != null)
+            {
+                update.view.addPendingUpdates(-1);
+            }
+
+            try
+            {
+                final Runnable action = update.decoded.join();
+                if (action != null)
+                {
+                    action.run();
+                }
+            }
+            catch (final RuntimeException ex)
+            {
+                Log.getLogger().error("Failed to apply a colony view update", ex);
+            }
+        }
+    }
+
+    /**
+     * Drop all pending updates, when the client left the game.
+     */
+    public void clear()
+    {
+        updates.clear();
+    }
+
+    /**
+     * A queued update.
+     */
+    private static class Update
+    {
+        /**
+         * The view which is loading until the update is applied, null if not tracked.
+         */
+        @Nullable
+        private final ColonyView view;
+
+        /**
+         * The action applying the update, once decoded.
+         */
+        private final CompletableFuture<Runnable> decoded;
+
+        /**
+         * Create a new update.
+         *
+         * @param view    the view which is loading until the update is applied.
+         * @param decoded the action applying the update, once decoded.
+         */
+        private Update(@Nullable final ColonyView view, @NotNull final CompletableFuture<Runnable> decoded)
+        {
+            this.view = view;
+            this.decoded = decoded;
+        }
+    }
+}
@@ -7,8 +7,12 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.coremod.util.BackUpHelper;
+import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.core.Direction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
@@ -16,11 +20,14 @@ import net.minecraftforge.common.capabilities.Capability;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONY_MANAGER;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * Capability for the colony tag for chunks
@@ -99,13 +106,29 @@ public interface IColonyManagerCapability
         @Override
         public IColony getColony(final int id)
         {
-            return colonies.get(id);
+            final IColony colony = colonies.get(id);
+            if (colony instanceof Colony && !((Colony) colony).awaitLoad())
+            {
+                colonies.remove(id);
+                return null;
+            }
+            return colony;
         }
 
         @Override
         public List<IColony> getColonies()
         {
-            return colonies.getCopyAsList();
+            final List<IColony> list = colonies.getCopyAsList();
+            list.removeIf(colony ->
+            {
+                if (colony instanceof Colony && !((Colony) colony).awaitLoad())
+                {
+                    colonies.remove(colony.getID());
+                    return true;
+                }
+                return false;
+            });
+            return list;
         }
 
         @Override
@@ -130,13 +153,92 @@ public interface IColonyManagerCapability
         public static Tag writeNBT(@NotNull final Capability<IColonyManagerCapability> capability, @NotNull final IColonyManagerCapability instance, @Nullable final Direction side)
         {
             final CompoundTag compound = new CompoundTag();
-            compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            if (ColonyFileStorage.isEnabled())
+            {
+                writeColonyFiles(instance, compound);
+            }
+            else
+            {
+                compound.put(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toListNBT()));
+            }
             final CompoundTag managerCompound = new CompoundTag();
             IColonyManager.getInstance().write(managerCompound);
             compound.put(TAG_COLONY_MANAGER, managerCompound);
             return compound;
         }
 
+        /**
+         * Write the colonies which changed to their own files and only list them in the capability data.
+         * Colonies whose file could not be written are kept in the capability data.
+         *
+         * @param instance the capability.
+         * @param compound the capability data.
+         */
+        private static void writeColonyFiles(@NotNull final IColonyManagerCapability instance, @NotNull final CompoundTag compound)
+        {
+            final ListTag files = new ListTag();
+            final ListTag inline = new ListTag();
+            for (final IColony colony : instance.getColonies())
+            {
+                final boolean dirty = !(colony instanceof Colony) || ((Colony) colony).isDirty();
+                if (dirty || !ColonyFileStorage.exists(colony.getID(), colony.getDimension()))
+                {
+                    final CompoundTag colonyTag = colony.getColonyTag();
+                    if (colonyTag == null)
+                    {
+                        continue;
+                    }
+
+                    if (!ColonyFileStorage.write(colony.getID(), colony.getDimension(), colonyTag))
+                    {
+                        inline.add(colonyTag);
+                        continue;
+                    }
+
+                    if (colony instanceof Colony)
+                    {
+                        ((Colony) colony).onFileWritten();
+                    }
+                }
+
+                final CompoundTag entry = new CompoundTag();
+                entry.putInt(TAG_ID, colony.getID());
+                entry.putString(TAG_DIMENSION, colony.getDimension().location().toString());
+                files.add(entry);
+            }
+
+            compound.put(TAG_COLONY_FILES, files);
+            if (!inline.isEmpty())
+            {
+                compound.put(TAG_COLONIES, inline);
+            }
+        }
+
+        /**
+         * Read the colonies listed in the capability data from their own files, in parallel.
+         *
+         * @param compound the capability data.
+         * @param skip     ids of colonies which are stored in the capability data itself.
+         * @return the colony data of all files which could be read.
+         */
+        private static List<CompoundTag> readColonyFiles(@NotNull final CompoundTag compound, @NotNull final Set<Integer> skip)
+        {
+            final List<CompoundTag> entries = new ArrayList<>();
+            for (final Tag tag : compound.getList(TAG_COLONY_FILES, Tag.TAG_COMPOUND))
+            {
+                if (!skip.contains(((CompoundTag) tag).getInt(TAG_ID)))
+                {
+                    entries.add((CompoundTag) tag);
+                }
+            }
+
+            return entries.parallelStream()
+                     .map(entry -> ColonyFileStorage.read(entry.getInt(TAG_ID),
+                       ResourceKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(entry.getString(TAG_DIMENSION)))))
+                     .filter(Objects::nonNull)
+                     .collect(Collectors.toList());
+        }
+
         public static void readNBT(
           @NotNull final Capability<IColonyManagerCapability> capability, @NotNull final IColonyManagerCapability instance,
           @Nullable final Direction side, @NotNull final Tag nbt)
@@ -147,26 +249,32 @@ public interface IColonyManagerCapability
             {
                 final CompoundTag compound = (CompoundTag) nbt;
 
-                if (!compound.contains(TAG_COLONIES) || !compound.contains(TAG_COLONY_MANAGER))
+                if ((!compound.contains(TAG_COLONIES) && !compound.contains(TAG_COLONY_FILES)) || !compound.contains(TAG_COLONY_MANAGER))
                 {
                     BackUpHelper.loadMissingColonies();
                     BackUpHelper.loadManagerBackup();
                     return;
                 }
 
-                // Load all colonies from Nbt
-                Multimap<BlockPos, IColony> tempColonies = ArrayListMultimap.create();
+                // Load all colonies from Nbt, their data is decoded in parallel and attached when they are first accessed
+                final List<CompoundTag> colonyCompounds = new ArrayList<>();
+                final Set<Integer> inlineIds = new HashSet<>();
                 for (final Tag tag : compound.getList(TAG_COLONIES, Tag.TAG_COMPOUND))
                 {
-                    final IColony colony = Colony.loadColony((CompoundTag) tag, null);
-                    if (colony != null)
-                    {
-                        tempColonies.put(colony.getCenter(), colony);
-                        instance.addColony(colony);
-                    }
+                    colonyCompounds.add((CompoundTag) tag);
+                    inlineIds.add(((CompoundTag) tag).getInt(TAG_ID));
+                }
+                // Colonies stored in their own files, missing or damaged ones are restored from the backups below
+                colonyCompounds.addAll(readColonyFiles(compound, inlineIds));
+
+                Multimap<BlockPos, IColony> tempColonies = ArrayListMultimap.create();
+                for (final Colony colony : ColonyLoader.load(colonyCompounds))
+                {
+                    tempColonies.put(colony.getCenter(), colony);
+                    instance.addColony(colony);
                 }
 
-                // Check if some colonies are missing
+                // Check if some colonies are missing, this waits for the colonies to be decoded.
                 BackUpHelper.loadMissingColonies();
 
                 // Check colonies for duplicates causing issues.
@@ -48,7 +48,7 @@ public class VisitorDataView extends CitizenDataView implements IVisitorViewData
      */
     public VisitorDataView(final int id, final IColonyView colony)
     {
-        super(id);
+        super(id, colony);
         this.colony = colony;
     }
 
@@ -46,6 +46,7 @@ import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
 import com.minecolonies.coremod.colony.buildings.modules.WorkerBuildingModule;
 import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
+import com.minecolonies.coremod.colony.buildings.utils.OutstandingRequestIndex;
 import com.minecolonies.coremod.colony.interactionhandling.RequestBasedInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
@@ -65,8 +66,10 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.TextComponent;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
 import net.minecraft.util.Tuple;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.AirBlock;
@@ -123,6 +126,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      */
     private IToken<?> rsDataStoreToken;
 
+    /**
+     * Index of the deliverable requests the citizens of this building wait on, derived from the data store.
+     */
+    private final OutstandingRequestIndex outstandingRequests = new OutstandingRequestIndex();
+
     /**
      * The ID of the building. Needed in the request system to identify it.
      */
@@ -755,7 +763,6 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
               if (building != null)
               {
                   f.setCustomName(building);
-                  this.colony.getWorkManager().setDirty(true);
               }
           });
     }
@@ -1268,6 +1275,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
 
     protected void setupRsDataStore()
     {
+        outstandingRequests.clear();
         this.rsDataStoreToken = colony.getRequestManager()
           .getDataStoreManager()
           .get(
@@ -1291,6 +1299,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         if (compound.getAllKeys().contains(TAG_RS_BUILDING_DATASTORE))
         {
             this.rsDataStoreToken = StandardFactoryController.getInstance().deserialize(compound.getCompound(TAG_RS_BUILDING_DATASTORE));
+            outstandingRequests.clear();
         }
         else
         {
@@ -1410,6 +1419,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
             getOpenRequestsByCitizen().put(citizenId, new ArrayList<>());
         }
         getOpenRequestsByCitizen().get(citizenId).add(requestToken);
+        outstandingRequests.invalidate(citizenId);
     }
 
     @Override
@@ -1564,6 +1574,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
                 {
                     getCompletedRequestsByCitizen().remove(data.getId());
                 }
+                outstandingRequests.invalidate(data.getId());
             }
         }
 
@@ -1594,6 +1605,54 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
           .iterator());
     }
 
+    /**
+     * Check if a citizen waits on a deliverable request matching a stack, either still open or completed and not picked up yet.
+     *
+     * @param citizenData the citizen.
+     * @param stack       the stack.
+     * @return true if such a request exists.
+     */
+    public boolean hasOutstandingRequestFor(@NotNull final ICitizenData citizenData, @NotNull final ItemStack stack)
+    {
+        return outstandingRequests.hasMatchingRequest(citizenData.getId(),
+          getOpenRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          getCompletedRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          colony.getRequestManager(),
+          stack);
+    }
+
+    /**
+     * Check if a citizen waits on a request for a tag, either still open or completed and not picked up yet.
+     *
+     * @param citizenData the citizen.
+     * @param tag         the tag.
+     * @return true if such a request exists.
+     */
+    public boolean hasOutstandingTagRequest(@NotNull final ICitizenData citizenData, @NotNull final TagKey<Item> tag)
+    {
+        return outstandingRequests.hasTagRequest(citizenData.getId(),
+          getOpenRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          getCompletedRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          colony.getRequestManager(),
+          tag);
+    }
+
+    /**
+     * Check if a citizen waits on a deliverable request of a given class, either still open or completed and not picked up yet.
+     *
+     * @param citizenData the citizen.
+     * @param type        the class of the deliverable.
+     * @return true if such a request exists.
+     */
+    public boolean hasOutstandingRequestOfClass(@NotNull final ICitizenData citizenData, @NotNull final Class<?> type)
+    {
+        return outstandingRequests.hasRequestOfClass(citizenData.getId(),
+          getOpenRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          getCompletedRequestsByCitizen().getOrDefault(citizenData.getId(), Collections.emptyList()),
+          colony.getRequestManager(),
+          type);
+    }
+
     @Override
     public void markRequestAsAccepted(@NotNull final ICitizenData data, @NotNull final IToken<?> token)
     {
@@ -1607,6 +1666,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         {
             getCompletedRequestsByCitizen().remove(data.getId());
         }
+        outstandingRequests.invalidate(data.getId());
 
         colony.getRequestManager().updateRequestState(token, RequestState.RECEIVED);
         markDirty();
@@ -1636,6 +1696,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         getOpenRequestsByCitizen().remove(data.getId());
 
         getCompletedRequestsByCitizen().remove(data.getId());
+        outstandingRequests.invalidate(data.getId());
 
         markDirty();
     }
@@ -1915,6 +1976,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
             getOpenRequestsByRequestableType().remove(TypeToken.of(request.getRequest().getClass()));
         }
 
+        outstandingRequests.invalidate(citizenThatRequested);
         if (citizenThatRequested >= 0)
         {
             getCompletedRequestsByCitizen().computeIfAbsent(citizenThatRequested, ArrayList::new).add(request.getId());
@@ -1941,6 +2003,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
                 openRequestsByCitizen.remove(citizenThatRequested);
             }
         }
+        outstandingRequests.invalidate(citizenThatRequested);
 
         if (getOpenRequestsByRequestableType().containsKey(TypeToken.of(request.getRequest().getClass())))
         {
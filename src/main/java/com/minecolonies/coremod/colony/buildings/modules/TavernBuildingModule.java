@@ -17,7 +17,6 @@ import com.minecolonies.coremod.colony.interactionhandling.RecruitmentInteractio
 import com.minecolonies.coremod.datalistener.CustomVisitorListener;
 import com.minecolonies.coremod.network.messages.client.colony.PlayMusicAtPosMessage;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -129,10 +128,7 @@ public class TavernBuildingModule extends AbstractBuildingModule implements IDef
 
             avg = new BlockPos(avg.getX() / count, avg.getY() / count, avg.getZ() / count);
             final PlayMusicAtPosMessage message = new PlayMusicAtPosMessage(TavernSounds.tavernTheme, avg, building.getColony().getWorld(), 0.7f, 1.0f);
-            for (final ServerPlayer curPlayer : building.getColony().getPackageManager().getCloseSubscribers())
-            {
-                Network.getNetwork().sendToPlayer(message, curPlayer);
-            }
+            Network.getNetwork().sendToPlayers(message, building.getColony().getPackageManager().getCloseSubscribers());
             musicCooldown = TWENTY_MINUTES;
         }
     }
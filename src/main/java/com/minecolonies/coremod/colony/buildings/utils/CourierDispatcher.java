@@ -0,0 +1,492 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.IDeliverymanRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.buildings.modules.CourierAssignmentModule;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Periodic batch dispatcher for the couriers of a warehouse.
+ * <p>
+ * Deliveries and pickups are placed greedily into the queue of a single courier when they are resolved and that assignment is never revisited.
+ * This dispatcher takes a snapshot of all queued tasks of all couriers which have not been started yet and re-plans them as a pickup and delivery routing problem:
+ * tasks are inserted one by one, highest priority first, at the cheapest position of any courier route, with a maximum queue length per courier as its capacity.
+ * Planning is spread over several request system ticks with a time budget per tick, and the result is only applied if it shortens the total route length.
+ */
+public class CourierDispatcher
+{
+    /**
+     * Minimum amount of working couriers to make re-planning worthwhile.
+     */
+    private static final int MIN_COURIERS = 2;
+
+    /**
+     * Amount of tasks a courier may take on top of an even share.
+     */
+    private static final int CAPACITY_SLACK = 2;
+
+    /**
+     * Fraction of the previous route length the new plan has to stay below to be applied.
+     */
+    private static final double MIN_IMPROVEMENT = 0.95;
+
+    /**
+     * Delay in ticks before trying again when a plan could not be applied.
+     */
+    private static final int RETRY_DELAY = 200;
+
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final long NANOS_PER_MICRO = 1000;
+
+    /**
+     * The warehouse whose couriers are planned.
+     */
+    private final IWareHouse wareHouse;
+
+    /**
+     * The plan currently being computed, null while idle.
+     */
+    private Plan plan = null;
+
+    /**
+     * Game time at which the next plan is started.
+     */
+    private long nextPlanTime = 0;
+
+    /**
+     * Route lengths of the last finished plan.
+     */
+    private double lastLengthBefore = 0;
+    private double lastLengthAfter  = 0;
+
+    /**
+     * Create a dispatcher for a warehouse.
+     *
+     * @param wareHouse the warehouse.
+     */
+    public CourierDispatcher(@NotNull final IWareHouse wareHouse)
+    {
+        this.wareHouse = wareHouse;
+    }
+
+    /**
+     * Advance the dispatcher, called on every request system tick of the colony.
+     *
+     * @param gameTime the current game time.
+     */
+    public void tick(final long gameTime)
+    {
+        if (!MineColonies.getConfig().getServer().courierDispatchEnabled.get())
+        {
+            plan = null;
+            return;
+        }
+
+        if (plan == null)
+        {
+            if (gameTime < nextPlanTime)
+            {
+                return;
+            }
+
+            nextPlanTime = gameTime + MineColonies.getConfig().getServer().courierDispatchInterval.get();
+            plan = createPlan();
+            if (plan == null)
+            {
+                return;
+            }
+        }
+
+        if (plan.step(System.nanoTime() + MineColonies.getConfig().getServer().courierDispatchBudget.get() * NANOS_PER_MICRO))
+        {
+            if (!apply(plan))
+            {
+                nextPlanTime = gameTime + RETRY_DELAY;
+            }
+            plan = null;
+        }
+    }
+
+    /**
+     * Get the total route length of all couriers before the last applied or rejected plan.
+     *
+     * @return the length in blocks.
+     */
+    public double getLastLengthBefore()
+    {
+        return lastLengthBefore;
+    }
+
+    /**
+     * Get the total route length of all couriers according to the last applied or rejected plan.
+     *
+     * @return the length in blocks.
+     */
+    public double getLastLengthAfter()
+    {
+        return lastLengthAfter;
+    }
+
+    /**
+     * Snapshot the queues of all couriers.
+     *
+     * @return the new plan, or null if there is nothing worth planning.
+     */
+    private Plan createPlan()
+    {
+        final List<ICitizenData> couriers = new ArrayList<>();
+        for (final ICitizenData citizen : wareHouse.getFirstModuleOccurance(CourierAssignmentModule.class).getAssignedCitizen())
+        {
+            if (citizen.isWorking() && citizen.getJob() instanceof JobDeliveryman)
+            {
+                couriers.add(citizen);
+            }
+        }
+
+        if (couriers.size() < MIN_COURIERS)
+        {
+            return null;
+        }
+
+        final IRequestManager requestManager = wareHouse.getColony().getRequestManager();
+        final Plan newPlan = new Plan(couriers);
+        for (final ICitizenData courier : couriers)
+        {
+            final JobDeliveryman job = (JobDeliveryman) courier.getJob();
+            final IRequest<IDeliverymanRequestable> current = job.getCurrentTask();
+            BlockPos start = current == null ? null : getTaskTarget(current);
+            if (start == null)
+            {
+                start = courier.getEntity().map(Entity::blockPosition).orElse(wareHouse.getPosition());
+            }
+
+            final List<Task> route = new ArrayList<>();
+            for (final IToken<?> token : job.getPlannableTasks())
+            {
+                final Task task = createTask(requestManager.getRequestForToken(token));
+                if (task != null)
+                {
+                    route.add(task);
+                }
+            }
+
+            newPlan.starts.add(start);
+            newPlan.lengthBefore += getRouteLength(start, route);
+            newPlan.pending.addAll(route);
+            newPlan.routes.add(new ArrayList<>());
+        }
+
+        if (newPlan.pending.size() < MIN_COURIERS)
+        {
+            return null;
+        }
+
+        // Stable sort, equal priorities keep their current relative order.
+        newPlan.pending.sort(Comparator.comparingInt((Task task) -> task.priority).reversed());
+        newPlan.capacity = (newPlan.pending.size() + couriers.size() - 1) / couriers.size() + CAPACITY_SLACK;
+        return newPlan;
+    }
+
+    /**
+     * Apply a finished plan to the courier queues.
+     * Tasks which finished or started in the meantime are left out, tasks added in the meantime stay with their courier, behind the planned ones.
+     *
+     * @param finishedPlan the plan.
+     * @return false if the plan could not be applied because the couriers changed.
+     */
+    private boolean apply(final Plan finishedPlan)
+    {
+        final List<JobDeliveryman> jobs = new ArrayList<>();
+        for (final ICitizenData courier : finishedPlan.couriers)
+        {
+            if (!courier.isWorking() || !(courier.getJob() instanceof JobDeliveryman))
+            {
+                return false;
+            }
+            jobs.add((JobDeliveryman) courier.getJob());
+        }
+
+        double lengthAfter = 0;
+        for (int i = 0; i < jobs.size(); i++)
+        {
+            lengthAfter += getRouteLength(finishedPlan.starts.get(i), finishedPlan.routes.get(i));
+        }
+
+        lastLengthBefore = finishedPlan.lengthBefore;
+        lastLengthAfter = lengthAfter;
+        final boolean improved = lengthAfter < finishedPlan.lengthBefore * MIN_IMPROVEMENT;
+        if (MineColonies.getConfig().getServer().enableDebugLogging.get())
+        {
+            Log.getLogger().info(String.format("Courier dispatch for warehouse %s of colony %d: %d tasks over %d couriers, route length %.0f -> %.0f%s",
+              wareHouse.getPosition().toShortString(),
+              wareHouse.getColony().getID(),
+              finishedPlan.pending.size(),
+              jobs.size(),
+              finishedPlan.lengthBefore,
+              lengthAfter,
+              improved ? "" : " (not applied)"));
+        }
+
+        if (!improved)
+        {
+            return true;
+        }
+
+        final Set<IToken<?>> stillPlannable = new HashSet<>();
+        for (final JobDeliveryman job : jobs)
+        {
+            stillPlannable.addAll(job.getPlannableTasks());
+        }
+
+        final Set<IToken<?>> planned = new HashSet<>();
+        for (final List<Task> route : finishedPlan.routes)
+        {
+            for (final Task task : route)
+            {
+                planned.add(task.token);
+            }
+        }
+
+        for (int i = 0; i < jobs.size(); i++)
+        {
+            final List<IToken<?>> newQueue = new ArrayList<>();
+            for (final Task task : finishedPlan.routes.get(i))
+            {
+                if (stillPlannable.contains(task.token))
+                {
+                    newQueue.add(task.token);
+                }
+            }
+
+            for (final IToken<?> token : jobs.get(i).getPlannableTasks())
+            {
+                if (!planned.contains(token))
+                {
+                    newQueue.add(token);
+                }
+            }
+
+            jobs.get(i).replacePlannableTasks(newQueue);
+        }
+        return true;
+    }
+
+    /**
+     * Create the planning data of a queued request.
+     *
+     * @param request the request.
+     * @return the task, or null if it can't be planned.
+     */
+    private Task createTask(final IRequest<?> request)
+    {
+        if (request == null || !(request.getRequest() instanceof IDeliverymanRequestable))
+        {
+            return null;
+        }
+
+        final BlockPos source;
+        if (request.getRequest() instanceof Delivery)
+        {
+            source = ((Delivery) request.getRequest()).getStart().getInDimensionLocation();
+        }
+        else if (request.getRequest() instanceof Pickup)
+        {
+            source = request.getRequester().getLocation().getInDimensionLocation();
+        }
+        else
+        {
+            return null;
+        }
+
+        final BlockPos target = getTaskTarget(request);
+        if (target == null)
+        {
+            return null;
+        }
+
+        return new Task(request.getId(), source, target, ((IDeliverymanRequestable) request.getRequest()).getPriority());
+    }
+
+    /**
+     * Get the position a courier ends up at after finishing a request.
+     *
+     * @param request the request.
+     * @return the position, or null if unknown.
+     */
+    private BlockPos getTaskTarget(final IRequest<?> request)
+    {
+        if (request.getRequest() instanceof Delivery)
+        {
+            return ((Delivery) request.getRequest()).getTarget().getInDimensionLocation();
+        }
+
+        if (request.getRequest() instanceof Pickup)
+        {
+            return wareHouse.getPosition();
+        }
+
+        return null;
+    }
+
+    /**
+     * Calculate the length of a route.
+     *
+     * @param start the position the courier starts at.
+     * @param route the tasks.
+     * @return the length in blocks.
+     */
+    private static double getRouteLength(final BlockPos start, final List<Task> route)
+    {
+        double length = 0;
+        BlockPos position = start;
+        for (final Task task : route)
+        {
+            length += BlockPosUtil.getDistance(position, task.source) + task.length;
+            position = task.target;
+        }
+        return length;
+    }
+
+    /**
+     * A single delivery or pickup.
+     */
+    private static final class Task
+    {
+        private final IToken<?> token;
+        private final BlockPos  source;
+        private final BlockPos  target;
+        private final int       priority;
+        private final double    length;
+
+        private Task(final IToken<?> token, final BlockPos source, final BlockPos target, final int priority)
+        {
+            this.token = token;
+            this.source = source;
+            this.target = target;
+            this.priority = priority;
+            this.length = BlockPosUtil.getDistance(source, target);
+        }
+    }
+
+    /**
+     * A plan in progress.
+     */
+    private static final class Plan
+    {
+        /**
+         * The planned couriers, and per courier the start position and new route.
+         */
+        private final List<ICitizenData> couriers;
+        private final List<BlockPos>     starts = new ArrayList<>();
+        private final List<List<Task>>   routes = new ArrayList<>();
+
+        /**
+         * All tasks to insert, in insertion order.
+         */
+        private final List<Task> pending = new ArrayList<>();
+
+        /**
+         * Index of the next task to insert.
+         */
+        private int nextTask = 0;
+
+        /**
+         * Maximum amount of tasks per courier.
+         */
+        private int capacity = 0;
+
+        /**
+         * Total route length of the snapshot.
+         */
+        private double lengthBefore = 0;
+
+        private Plan(final List<ICitizenData> couriers)
+        {
+            this.couriers = couriers;
+        }
+
+        /**
+         * Insert tasks until all are placed or the deadline passed, at least one task is inserted per call.
+         *
+         * @param deadline the {@link System#nanoTime()} deadline.
+         * @return true if all tasks are placed.
+         */
+        private boolean step(final long deadline)
+        {
+            do
+            {
+                insert(pending.get(nextTask++));
+            }
+            while (nextTask < pending.size() && System.nanoTime() < deadline);
+
+            return nextTask >= pending.size();
+        }
+
+        /**
+         * Insert a task at the cheapest position of all routes.
+         * Tasks are inserted in order of descending priority, so routes stay sorted by priority as long as a task never goes ahead of one with a higher priority.
+         *
+         * @param task the task.
+         */
+        private void insert(final Task task)
+        {
+            List<Task> bestRoute = null;
+            int bestIndex = 0;
+            double bestCost = Double.MAX_VALUE;
+
+            for (int r = 0; r < routes.size(); r++)
+            {
+                final List<Task> route = routes.get(r);
+                if (route.size() >= capacity)
+                {
+                    continue;
+                }
+
+                int index = 0;
+                while (index < route.size() && route.get(index).priority > task.priority)
+                {
+                    index++;
+                }
+
+                for (; index <= route.size(); index++)
+                {
+                    final BlockPos previous = index == 0 ? starts.get(r) : route.get(index - 1).target;
+                    double cost = BlockPosUtil.getDistance(previous, task.source) + task.length;
+                    if (index < route.size())
+                    {
+                        final BlockPos next = route.get(index).source;
+                        cost += BlockPosUtil.getDistance(task.target, next) - BlockPosUtil.getDistance(previous, next);
+                    }
+
+                    if (cost < bestCost)
+                    {
+                        bestCost = cost;
+                        bestRoute = route;
+                        bestIndex = index;
+                    }
+                }
+            }
+
+            if (bestRoute != null)
+            {
+                bestRoute.add(bestIndex, task);
+            }
+        }
+    }
+}
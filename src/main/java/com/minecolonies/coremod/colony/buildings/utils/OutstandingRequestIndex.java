@@ -0,0 +1,244 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.RequestTag;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.StackList;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the deliverable requests a building still waits on per citizen, open ones and completed ones not yet picked up.
+ * <p>
+ * The index of a citizen is built from the request system data store on first use and dropped by the building whenever the requests of that citizen change,
+ * so answering if a citizen already requested a stack only looks at the requests which can match it.
+ * Requests are keyed by item when they can only match that item, by tag for tag requests, all other deliverables are always checked.
+ */
+public class OutstandingRequestIndex
+{
+    /**
+     * The index per citizen id.
+     */
+    private final Int2ObjectMap<CitizenRequests> citizens = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Drop the index of a citizen after its requests changed.
+     *
+     * @param citizenId the citizen id.
+     */
+    public void invalidate(final int citizenId)
+    {
+        citizens.remove(citizenId);
+    }
+
+    /**
+     * Drop the whole index, after the data store was replaced.
+     */
+    public void clear()
+    {
+        citizens.clear();
+    }
+
+    /**
+     * Check if a citizen has an outstanding deliverable request matching a stack.
+     *
+     * @param citizenId the citizen id.
+     * @param open      the open request tokens of the citizen, used to build the index.
+     * @param completed the completed request tokens of the citizen, used to build the index.
+     * @param manager   the request manager.
+     * @param stack     the stack.
+     * @return true if a request matches.
+     */
+    public boolean hasMatchingRequest(
+      final int citizenId,
+      @NotNull final Collection<IToken<?>> open,
+      @NotNull final Collection<IToken<?>> completed,
+      @NotNull final IRequestManager manager,
+      @NotNull final ItemStack stack)
+    {
+        final CitizenRequests requests = get(citizenId, open, completed, manager);
+        if (anyMatches(requests.byItem.getOrDefault(stack.getItem(), Collections.emptyList()), manager, stack)
+              || anyMatches(requests.unkeyed, manager, stack))
+        {
+            return true;
+        }
+
+        for (final Map.Entry<TagKey<Item>, List<IToken<?>>> entry : requests.byTag.entrySet())
+        {
+            if (stack.is(entry.getKey()) && anyMatches(entry.getValue(), manager, stack))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a citizen has an outstanding request for a tag.
+     *
+     * @param citizenId the citizen id.
+     * @param open      the open request tokens of the citizen, used to build the index.
+     * @param completed the completed request tokens of the citizen, used to build the index.
+     * @param manager   the request manager.
+     * @param tag       the tag.
+     * @return true if a tag request for it exists.
+     */
+    public boolean hasTagRequest(
+      final int citizenId,
+      @NotNull final Collection<IToken<?>> open,
+      @NotNull final Collection<IToken<?>> completed,
+      @NotNull final IRequestManager manager,
+      @NotNull final TagKey<Item> tag)
+    {
+        for (final IToken<?> token : get(citizenId, open, completed, manager).byTag.getOrDefault(tag, Collections.emptyList()))
+        {
+            if (manager.getRequestForToken(token) != null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a citizen has an outstanding deliverable request of a class.
+     *
+     * @param citizenId the citizen id.
+     * @param open      the open request tokens of the citizen, used to build the index.
+     * @param completed the completed request tokens of the citizen, used to build the index.
+     * @param manager   the request manager.
+     * @param type      the class of the deliverable.
+     * @return true if a request of that class exists.
+     */
+    public boolean hasRequestOfClass(
+      final int citizenId,
+      @NotNull final Collection<IToken<?>> open,
+      @NotNull final Collection<IToken<?>> completed,
+      @NotNull final IRequestManager manager,
+      @NotNull final Class<?> type)
+    {
+        for (final IToken<?> token : get(citizenId, open, completed, manager).byClass.getOrDefault(type, Collections.emptyList()))
+        {
+            if (manager.getRequestForToken(token) != null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the index of a citizen, building it if needed.
+     *
+     * @param citizenId the citizen id.
+     * @param open      the open request tokens.
+     * @param completed the completed request tokens.
+     * @param manager   the request manager.
+     * @return the index.
+     */
+    private CitizenRequests get(final int citizenId, final Collection<IToken<?>> open, final Collection<IToken<?>> completed, final IRequestManager manager)
+    {
+        CitizenRequests requests = citizens.get(citizenId);
+        if (requests == null)
+        {
+            requests = new CitizenRequests();
+            requests.addAll(open, manager);
+            requests.addAll(completed, manager);
+            citizens.put(citizenId, requests);
+        }
+        return requests;
+    }
+
+    /**
+     * Check if any of the candidate requests still exists and matches the stack.
+     *
+     * @param tokens  the candidate tokens.
+     * @param manager the request manager.
+     * @param stack   the stack.
+     * @return true if one matches.
+     */
+    private static boolean anyMatches(final List<IToken<?>> tokens, final IRequestManager manager, final ItemStack stack)
+    {
+        for (final IToken<?> token : tokens)
+        {
+            final IRequest<?> request = manager.getRequestForToken(token);
+            if (request != null && request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The outstanding deliverable requests of one citizen.
+     */
+    private static final class CitizenRequests
+    {
+        private final Map<Item, List<IToken<?>>>         byItem  = new Reference2ObjectOpenHashMap<>();
+        private final Map<TagKey<Item>, List<IToken<?>>> byTag   = new Object2ObjectOpenHashMap<>();
+        private final List<IToken<?>>                    unkeyed = new ArrayList<>();
+        private final Map<Class<?>, List<IToken<?>>>     byClass = new Reference2ObjectOpenHashMap<>();
+
+        /**
+         * Add the deliverable requests of the given tokens.
+         *
+         * @param tokens  the tokens.
+         * @param manager the request manager.
+         */
+        private void addAll(final Collection<IToken<?>> tokens, final IRequestManager manager)
+        {
+            for (final IToken<?> token : tokens)
+            {
+                final IRequest<?> request = manager.getRequestForToken(token);
+                if (request == null || !(request.getRequest() instanceof IDeliverable))
+                {
+                    continue;
+                }
+
+                final Object requestable = request.getRequest();
+                byClass.computeIfAbsent(requestable.getClass(), key -> new ArrayList<>()).add(token);
+                if (requestable.getClass() == Stack.class && !((Stack) requestable).matchOreDic())
+                {
+                    byItem.computeIfAbsent(((Stack) requestable).getStack().getItem(), key -> new ArrayList<>()).add(token);
+                }
+                else if (requestable.getClass() == StackList.class && !((StackList) requestable).matchOreDic())
+                {
+                    final Set<Item> items = new ReferenceOpenHashSet<>();
+                    for (final ItemStack stack : ((StackList) requestable).getStacks())
+                    {
+                        if (items.add(stack.getItem()))
+                        {
+                            byItem.computeIfAbsent(stack.getItem(), key -> new ArrayList<>()).add(token);
+                        }
+                    }
+                }
+                else if (requestable.getClass() == RequestTag.class)
+                {
+                    byTag.computeIfAbsent(((RequestTag) requestable).getTag(), key -> new ArrayList<>()).add(token);
+                }
+                else
+                {
+                    unkeyed.add(token);
+                }
+            }
+        }
+    }
+}
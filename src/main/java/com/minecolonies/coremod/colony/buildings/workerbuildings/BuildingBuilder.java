@@ -232,7 +232,6 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
         if (citizen.getJob(JobBuilder.class).hasWorkOrder())
         {
             wo.setClaimedBy(citizen);
-            getColony().getWorkManager().setDirty(true);
             return;
         }
 
@@ -240,7 +239,6 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
         {
             citizen.getJob(JobBuilder.class).setWorkOrder(wo);
             wo.setClaimedBy(citizen);
-            getColony().getWorkManager().setDirty(true);
             markDirty();
         }
     }
@@ -15,6 +15,7 @@ import com.minecolonies.coremod.client.gui.WindowHutMinPlaceholder;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.modules.CourierAssignmentModule;
 import com.minecolonies.coremod.colony.buildings.modules.WarehouseModule;
+import com.minecolonies.coremod.colony.buildings.utils.CourierDispatcher;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.DeliveryRequestResolver;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PickupRequestResolver;
@@ -49,6 +50,11 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
      */
     public static final int MAX_STORAGE_UPGRADE = 3;
 
+    /**
+     * Re-plans the routes of the couriers of this warehouse.
+     */
+    private final CourierDispatcher courierDispatcher = new CourierDispatcher(this);
+
     /**
      * Instantiates a new warehouse building.
      *
@@ -60,6 +66,16 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
         super(c, l);
     }
 
+    /**
+     * Get the courier dispatcher of this warehouse.
+     *
+     * @return the dispatcher.
+     */
+    public CourierDispatcher getCourierDispatcher()
+    {
+        return courierDispatcher;
+    }
+
     @Override
     public void requestRepair(final BlockPos builder)
     {
@@ -5,7 +5,6 @@ import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.colony.ColonyState;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.colonyEvents.EventStatus;
-import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.colony.colonyEvents.IColonyStructureSpawnEvent;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.entity.mobs.RaiderMobUtils;
@@ -46,7 +45,7 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 /**
  * The Ship based raid event, spawns a ship with raider spawners onboard.
  */
-public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColonyStructureSpawnEvent
+public abstract class AbstractShipRaidEvent implements IFlowFieldRaidEvent, IColonyStructureSpawnEvent
 {
     /**
      * Spacing between waypoints
@@ -149,6 +148,16 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
      */
     private List<BlockPos> wayPoints = new ArrayList<>();
 
+    /**
+     * Flow field shared by the raiders, not saved.
+     */
+    private RaiderFlowField flowField;
+
+    /**
+     * Number of colony buildings when the flow field could last not be created, -1 if it did not fail.
+     */
+    private int flowFieldFailedBuildings = -1;
+
     /**
      * Create a new ship based raid event.
      *
@@ -239,6 +248,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
     @Override
     public void onUpdate()
     {
+        updateFlowField();
         status = EventStatus.PROGRESSING;
         colony.getRaiderManager().setNightsSinceLastRaid(0);
 
@@ -526,6 +536,33 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
         return wayPoints;
     }
 
+    @Override
+    public RaiderFlowField getFlowField()
+    {
+        return flowField;
+    }
+
+    /**
+     * Create the flow field of the raid once and repair it for changed blocks.
+     * A failed creation is only retried once the number of buildings changes, as it rescans all of them.
+     */
+    private void updateFlowField()
+    {
+        if (flowField == null)
+        {
+            final int buildings = colony.getBuildingManager().getBuildings().size();
+            if (buildings != flowFieldFailedBuildings)
+            {
+                flowField = RaiderFlowField.create(colony, spawnPoint);
+                flowFieldFailedBuildings = flowField == null ? buildings : -1;
+            }
+        }
+        else
+        {
+            flowField.update();
+        }
+    }
+
     /**
      * Set the pathing for this raids spawnpoint
      *
@@ -5,7 +5,6 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.colonyEvents.EventStatus;
 import com.minecolonies.api.colony.colonyEvents.IColonyCampFireRaidEvent;
 import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
-import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.entity.mobs.RaiderMobUtils;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.sounds.RaidSounds;
@@ -49,7 +48,7 @@ import static com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEven
 /**
  * Horde raid event for the colony, triggers a horde that spawn and attack the colony.
  */
-public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFireRaidEvent
+public abstract class HordeRaidEvent implements IFlowFieldRaidEvent, IColonyCampFireRaidEvent
 {
     /**
      * Spacing between waypoints
@@ -138,6 +137,16 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
      */
     private List<BlockPos> wayPoints = new ArrayList<>();
 
+    /**
+     * Flow field shared by the raiders, not saved.
+     */
+    private RaiderFlowField flowField;
+
+    /**
+     * Number of colony buildings when the flow field could last not be created, -1 if it did not fail.
+     */
+    private int flowFieldFailedBuildings = -1;
+
     public HordeRaidEvent(IColony colony)
     {
         this.colony = colony;
@@ -391,6 +400,7 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
     @Override
     public void onUpdate()
     {
+        updateFlowField();
         if (status == EventStatus.PREPARING)
         {
             prepareEvent();
@@ -540,6 +550,33 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
         return wayPoints;
     }
 
+    @Override
+    public RaiderFlowField getFlowField()
+    {
+        return flowField;
+    }
+
+    /**
+     * Create the flow field of the raid once and repair it for changed blocks.
+     * A failed creation is only retried once the number of buildings changes, as it rescans all of them.
+     */
+    private void updateFlowField()
+    {
+        if (flowField == null)
+        {
+            final int buildings = colony.getBuildingManager().getBuildings().size();
+            if (buildings != flowFieldFailedBuildings)
+            {
+                flowField = RaiderFlowField.create(colony, spawnPoint);
+                flowFieldFailedBuildings = flowField == null ? buildings : -1;
+            }
+        }
+        else
+        {
+            flowField.update();
+        }
+    }
+
     /**
      * Set the pathing for this raids spawnpoint
      *
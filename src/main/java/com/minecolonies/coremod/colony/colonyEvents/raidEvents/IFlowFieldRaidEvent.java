@@ -0,0 +1,18 @@
+package com.minecolonies.coremod.colony.colonyEvents.raidEvents;
+
+import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Raid event whose raiders follow a shared flow field towards the colony.
+ */
+public interface IFlowFieldRaidEvent extends IColonyRaidEvent
+{
+    /**
+     * Get the flow field of the raid.
+     *
+     * @return the field, or null if it was not created (yet).
+     */
+    @Nullable
+    RaiderFlowField getFlowField();
+}
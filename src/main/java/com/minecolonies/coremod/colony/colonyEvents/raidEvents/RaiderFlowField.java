@@ -0,0 +1,709 @@
+package com.minecolonies.coremod.colony.colonyEvents.raidEvents;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Distance field towards the buildings of a colony, shared by all raiders of one raid.
+ * <p>
+ * The surface height of every column between the raid spawn point and the colony is sampled from a chunk snapshot on a pathfinding thread, then a Dijkstra
+ * search from all buildings stores the walking cost to the colony and the next column towards it per column. Raiders follow those columns without running
+ * own path jobs. Steps which need climbing are expensive but allowed, a raider reaching one falls back to a short path job over the obstacle.
+ * <p>
+ * Block changes inside the field mark their column; the next update re-samples only those columns and repairs the part of the field routed through them.
+ */
+public class RaiderFlowField
+{
+    /**
+     * Blocks added around the spawn point and the buildings.
+     */
+    private static final int MARGIN = 24;
+
+    /**
+     * Maximum width and depth of a field, larger colonies keep using waypoints.
+     */
+    private static final int MAX_SIZE = 384;
+
+    /**
+     * Blocks scanned above and below the spawn point and the buildings for the surface.
+     */
+    private static final int SCAN_RANGE = 48;
+
+    /**
+     * Costs of a step, in tenths of a block.
+     */
+    private static final int STEP_COST     = 10;
+    private static final int DIAGONAL_COST = 14;
+
+    /**
+     * Extra cost per block climbed above a normal step, the same weight as breaking through blocks in raider spawn pathing.
+     */
+    private static final int CLIMB_COST = 300;
+
+    /**
+     * Extra cost per block dropped below a safe fall.
+     */
+    private static final int DROP_COST = 20;
+
+    /**
+     * Cost multiplier for swimming.
+     */
+    private static final int SWIM_FACTOR = 3;
+
+    /**
+     * Height differences raiders walk without help.
+     */
+    private static final int MAX_STEP_UP   = 1;
+    private static final int MAX_STEP_DOWN = 3;
+
+    /**
+     * Distance at which raiders count as arrived at the colony.
+     */
+    private static final int ARRIVED_DISTANCE = 16 * STEP_COST;
+
+    /**
+     * Markers for unreachable columns, columns without ground and columns without parent.
+     */
+    private static final int   UNREACHABLE = Integer.MAX_VALUE;
+    private static final short NO_GROUND   = Short.MIN_VALUE;
+    private static final byte  NO_PARENT   = -1;
+
+    /**
+     * Neighbour offsets, the orthogonal ones first.
+     */
+    private static final int[] DX         = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DZ         = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final int   ORTHOGONAL = 4;
+
+    /**
+     * The world.
+     */
+    private final Level world;
+
+    /**
+     * Field bounds.
+     */
+    private final int minX;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeZ;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * Columns holding a building.
+     */
+    private final int[] targets;
+
+    /**
+     * Working state, only touched by the running job.
+     */
+    private final short[]   heights;
+    private final boolean[] water;
+    private final int[]     distances;
+    private final byte[]    parents;
+
+    /**
+     * Columns changed since the last update.
+     */
+    private final IntSet changed = new IntOpenHashSet();
+
+    /**
+     * The last finished field, read by the raiders.
+     */
+    private volatile View view;
+
+    /**
+     * The running job.
+     */
+    private CompletableFuture<Void> job;
+
+    /**
+     * Create a field.
+     *
+     * @param world   the world.
+     * @param minX    the lowest x.
+     * @param minZ    the lowest z.
+     * @param sizeX   the width.
+     * @param sizeZ   the depth.
+     * @param minY    the lowest scanned y.
+     * @param maxY    the highest scanned y.
+     * @param targets the columns holding a building.
+     */
+    private RaiderFlowField(
+      final Level world,
+      final int minX,
+      final int minZ,
+      final int sizeX,
+      final int sizeZ,
+      final int minY,
+      final int maxY,
+      final int[] targets)
+    {
+        this.world = world;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.targets = targets;
+        this.heights = new short[sizeX * sizeZ];
+        this.water = new boolean[sizeX * sizeZ];
+        this.distances = new int[sizeX * sizeZ];
+        this.parents = new byte[sizeX * sizeZ];
+    }
+
+    /**
+     * Create the field of a raid and start computing it, has to be called on the server thread.
+     *
+     * @param colony     the raided colony.
+     * @param spawnPoint the raid spawn point.
+     * @return the field, or null if the colony has no buildings or is too large.
+     */
+    @Nullable
+    public static RaiderFlowField create(@NotNull final IColony colony, @NotNull final BlockPos spawnPoint)
+    {
+        final Level world = colony.getWorld();
+        if (world == null || colony.getBuildingManager().getBuildings().isEmpty())
+        {
+            return null;
+        }
+
+        int lowX = spawnPoint.getX();
+        int lowY = spawnPoint.getY();
+        int lowZ = spawnPoint.getZ();
+        int highX = lowX;
+        int highY = lowY;
+        int highZ = lowZ;
+        for (final BlockPos pos : colony.getBuildingManager().getBuildings().keySet())
+        {
+            lowX = Math.min(lowX, pos.getX());
+            lowY = Math.min(lowY, pos.getY());
+            lowZ = Math.min(lowZ, pos.getZ());
+            highX = Math.max(highX, pos.getX());
+            highY = Math.max(highY, pos.getY());
+            highZ = Math.max(highZ, pos.getZ());
+        }
+
+        final int sizeX = highX - lowX + 1 + 2 * MARGIN;
+        final int sizeZ = highZ - lowZ + 1 + 2 * MARGIN;
+        if (sizeX > MAX_SIZE || sizeZ > MAX_SIZE)
+        {
+            return null;
+        }
+
+        final int minX = lowX - MARGIN;
+        final int minZ = lowZ - MARGIN;
+        final IntArrayList targets = new IntArrayList();
+        for (final BlockPos pos : colony.getBuildingManager().getBuildings().keySet())
+        {
+            targets.add((pos.getZ() - minZ) * sizeX + pos.getX() - minX);
+        }
+
+        final RaiderFlowField field = new RaiderFlowField(world,
+          minX,
+          minZ,
+          sizeX,
+          sizeZ,
+          Math.max(world.getMinBuildHeight(), lowY - SCAN_RANGE),
+          Math.min(world.getMaxBuildHeight() - 1, highY + SCAN_RANGE),
+          targets.toIntArray());
+        field.start(field.snapshot(minX, minZ, minX + sizeX - 1, minZ + sizeZ - 1), null);
+        return field;
+    }
+
+    /**
+     * Notify the fields of all raids on a colony of a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony == null || !colony.getRaiderManager().isRaided())
+        {
+            return;
+        }
+
+        for (final IColonyEvent event : colony.getEventManager().getEvents().values())
+        {
+            if (event instanceof IFlowFieldRaidEvent && ((IFlowFieldRaidEvent) event).getFlowField() != null)
+            {
+                ((IFlowFieldRaidEvent) event).getFlowField().markChanged(pos);
+            }
+        }
+    }
+
+    /**
+     * Mark the column of a changed block.
+     *
+     * @param pos the changed position.
+     */
+    public void markChanged(@NotNull final BlockPos pos)
+    {
+        final int index = getIndex(pos.getX(), pos.getZ());
+        if (index >= 0 && pos.getY() >= minY && pos.getY() <= maxY)
+        {
+            changed.add(index);
+        }
+    }
+
+    /**
+     * Repair the field for the changed columns, has to be called on the server thread.
+     */
+    public void update()
+    {
+        if (job != null && !job.isDone())
+        {
+            return;
+        }
+
+        if (changed.isEmpty())
+        {
+            return;
+        }
+        final int[] cells = changed.toIntArray();
+        changed.clear();
+
+        int lowX = Integer.MAX_VALUE;
+        int lowZ = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE;
+        int highZ = Integer.MIN_VALUE;
+        for (final int cell : cells)
+        {
+            lowX = Math.min(lowX, minX + cell % sizeX);
+            lowZ = Math.min(lowZ, minZ + cell / sizeX);
+            highX = Math.max(highX, minX + cell % sizeX);
+            highZ = Math.max(highZ, minZ + cell / sizeX);
+        }
+        start(snapshot(lowX, lowZ, highX, highZ), cells);
+    }
+
+    /**
+     * Check if a position is close enough to the colony to stop following the field.
+     *
+     * @param pos the position.
+     * @return true if so, false as well if the position is outside the field.
+     */
+    public boolean hasArrived(@NotNull final BlockPos pos)
+    {
+        final View current = view;
+        final int index = getIndex(pos.getX(), pos.getZ());
+        return current != null && index >= 0 && current.distances[index] <= ARRIVED_DISTANCE;
+    }
+
+    /**
+     * Get a path following the field from a position, as long as the steps are walkable.
+     *
+     * @param from   the start position.
+     * @param length the maximum number of steps.
+     * @return the path, or null if the field is not ready, the position is outside of it or the first step needs climbing.
+     */
+    @Nullable
+    public Path getPath(@NotNull final BlockPos from, final int length)
+    {
+        final View current = view;
+        int index = getIndex(from.getX(), from.getZ());
+        if (current == null || index < 0 || current.distances[index] == UNREACHABLE)
+        {
+            return null;
+        }
+
+        final List<Node> nodes = new ArrayList<>();
+        nodes.add(new Node(from.getX(), from.getY(), from.getZ()));
+        for (int step = 0; step < length && current.parents[index] != NO_PARENT; step++)
+        {
+            final int next = getNeighbour(index, current.parents[index]);
+            if (!isWalkable(current.heights, index, next))
+            {
+                break;
+            }
+            index = next;
+            nodes.add(new Node(minX + index % sizeX, current.heights[index], minZ + index / sizeX));
+        }
+
+        if (nodes.size() < 2)
+        {
+            return null;
+        }
+        final Node end = nodes.get(nodes.size() - 1);
+        return new Path(nodes, new BlockPos(end.x, end.y, end.z), true);
+    }
+
+    /**
+     * Get the column some steps further along the field, used as target of a normal path job where the field needs climbing.
+     *
+     * @param from  the start position.
+     * @param steps the number of steps.
+     * @return the target, or null if the field is not ready or the position is outside of it.
+     */
+    @Nullable
+    public BlockPos getFallbackTarget(@NotNull final BlockPos from, final int steps)
+    {
+        final View current = view;
+        int index = getIndex(from.getX(), from.getZ());
+        if (current == null || index < 0 || current.distances[index] == UNREACHABLE)
+        {
+            return null;
+        }
+
+        for (int step = 0; step < steps && current.parents[index] != NO_PARENT; step++)
+        {
+            index = getNeighbour(index, current.parents[index]);
+        }
+        return new BlockPos(minX + index % sizeX, current.heights[index], minZ + index / sizeX);
+    }
+
+    /**
+     * Capture the chunks of an area, on the server thread.
+     *
+     * @param lowX  the lowest x.
+     * @param lowZ  the lowest z.
+     * @param highX the highest x.
+     * @param highZ the highest z.
+     * @return the snapshot.
+     */
+    private ChunkCache snapshot(final int lowX, final int lowZ, final int highX, final int highZ)
+    {
+        return new ChunkCache(world, new BlockPos(lowX, minY, lowZ), new BlockPos(highX, maxY, highZ), 0, world.dimensionType());
+    }
+
+    /**
+     * Start a job computing the whole field or repairing it.
+     *
+     * @param snapshot the captured chunks.
+     * @param cells    the changed columns, or null to compute the whole field.
+     */
+    private void start(final ChunkCache snapshot, @Nullable final int[] cells)
+    {
+        job = CompletableFuture.runAsync(() -> {
+            final long start = System.nanoTime();
+            if (cells == null)
+            {
+                computeAll(snapshot);
+            }
+            else
+            {
+                repair(snapshot, cells);
+            }
+            view = new View(distances.clone(), heights.clone(), parents.clone());
+            Log.getLogger()
+              .debug("Raider flow field of " + sizeX + "x" + sizeZ + " " + (cells == null ? "computed" : "repaired for " + cells.length + " columns") + " in "
+                       + (System.nanoTime() - start) / 1000 + " us");
+        }, Pathfinding.getExecutor()).exceptionally(throwable -> {
+            Log.getLogger().error("Failed to compute raider flow field", throwable);
+            return null;
+        });
+    }
+
+    /**
+     * Sample all columns and search from all buildings.
+     *
+     * @param snapshot the captured chunks.
+     */
+    private void computeAll(final ChunkCache snapshot)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int z = 0; z < sizeZ; z++)
+        {
+            int hint = maxY;
+            for (int x = 0; x < sizeX; x++)
+            {
+                final int index = z * sizeX + x;
+                sample(snapshot, index, hint, pos);
+                if (heights[index] != NO_GROUND)
+                {
+                    hint = heights[index];
+                }
+            }
+        }
+
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(parents, NO_PARENT);
+        final LongHeapPriorityQueue queue = new LongHeapPriorityQueue();
+        for (final int target : targets)
+        {
+            if (heights[target] != NO_GROUND)
+            {
+                distances[target] = 0;
+                queue.enqueue(target);
+            }
+        }
+        search(queue);
+    }
+
+    /**
+     * Re-sample changed columns and repair the field for them.
+     * Every column whose route leads through a changed column is reset, then the search continues from the columns around the reset area.
+     *
+     * @param snapshot the captured chunks.
+     * @param cells    the changed columns.
+     */
+    private void repair(final ChunkCache snapshot, final int[] cells)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final IntSet reset = new IntOpenHashSet();
+        final IntArrayList open = new IntArrayList();
+        for (final int cell : cells)
+        {
+            sample(snapshot, cell, heights[cell] == NO_GROUND ? maxY : heights[cell], pos);
+            if (reset.add(cell))
+            {
+                open.add(cell);
+            }
+        }
+
+        while (!open.isEmpty())
+        {
+            final int cell = open.popInt();
+            for (int dir = 0; dir < DX.length; dir++)
+            {
+                final int child = getNeighbour(cell, dir);
+                if (child >= 0 && parents[child] != NO_PARENT && getNeighbour(child, parents[child]) == cell && reset.add(child))
+                {
+                    open.add(child);
+                }
+            }
+        }
+
+        final LongHeapPriorityQueue queue = new LongHeapPriorityQueue();
+        for (final int cell : reset)
+        {
+            distances[cell] = UNREACHABLE;
+            parents[cell] = NO_PARENT;
+        }
+        for (final int target : targets)
+        {
+            if (reset.contains(target) && heights[target] != NO_GROUND)
+            {
+                distances[target] = 0;
+                queue.enqueue(target);
+            }
+        }
+        for (final int cell : reset)
+        {
+            for (int dir = 0; dir < DX.length; dir++)
+            {
+                final int neighbour = getNeighbour(cell, dir);
+                if (neighbour >= 0 && !reset.contains(neighbour) && distances[neighbour] != UNREACHABLE)
+                {
+                    queue.enqueue(((long) distances[neighbour] << Integer.SIZE) | neighbour);
+                }
+            }
+        }
+        search(queue);
+    }
+
+    /**
+     * Run the search until the queue is empty, entries are the distance in the upper and the column in the lower half.
+     *
+     * @param queue the queue.
+     */
+    private void search(final LongHeapPriorityQueue queue)
+    {
+        while (!queue.isEmpty())
+        {
+            final long entry = queue.dequeueLong();
+            final int cell = (int) entry;
+            final int distance = (int) (entry >>> Integer.SIZE);
+            if (distance != distances[cell])
+            {
+                continue;
+            }
+
+            for (int dir = 0; dir < DX.length; dir++)
+            {
+                final int from = getNeighbour(cell, dir);
+                if (from < 0 || heights[from] == NO_GROUND)
+                {
+                    continue;
+                }
+
+                // Moving from the neighbour onto this column, the opposite of dir.
+                final int back = dir < ORTHOGONAL ? dir ^ 1 : DX.length + ORTHOGONAL - 1 - dir;
+                if (dir >= ORTHOGONAL && !canCutCorner(from, back))
+                {
+                    continue;
+                }
+
+                final int next = distance + getCost(from, cell, dir >= ORTHOGONAL);
+                if (next < distances[from])
+                {
+                    distances[from] = next;
+                    parents[from] = (byte) back;
+                    queue.enqueue(((long) next << Integer.SIZE) | from);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sample the surface height of a column.
+     *
+     * @param snapshot the captured chunks.
+     * @param index    the column.
+     * @param hint     a nearby surface height to start scanning at.
+     * @param pos      a position to reuse.
+     */
+    private void sample(final ChunkCache snapshot, final int index, final int hint, final BlockPos.MutableBlockPos pos)
+    {
+        final int x = minX + index % sizeX;
+        final int z = minZ + index / sizeX;
+        if (snapshot.getChunk(x >> 4, z >> 4, ChunkStatus.FULL, false) == null)
+        {
+            heights[index] = NO_GROUND;
+            return;
+        }
+
+        int y = Mth.clamp(hint, minY + 1, maxY);
+        while (y < maxY && isGround(snapshot, pos.set(x, y, z)))
+        {
+            y++;
+        }
+        while (y > minY && !isGround(snapshot, pos.set(x, y - 1, z)))
+        {
+            y--;
+        }
+
+        heights[index] = y <= minY ? NO_GROUND : (short) y;
+        water[index] = y > minY && !snapshot.getFluidState(pos.set(x, y - 1, z)).isEmpty();
+    }
+
+    /**
+     * Check if a raider can stand on a block.
+     *
+     * @param snapshot the captured chunks.
+     * @param pos      the position.
+     * @return true if the block blocks motion or is a fluid, leaves are walked through.
+     */
+    private static boolean isGround(final ChunkCache snapshot, final BlockPos pos)
+    {
+        final BlockState state = snapshot.getBlockState(pos);
+        return (state.getMaterial().blocksMotion() && !state.is(BlockTags.LEAVES)) || !state.getFluidState().isEmpty();
+    }
+
+    /**
+     * Check if a diagonal step may be taken, both orthogonal columns next to it have to be walkable.
+     *
+     * @param from the column stepped from.
+     * @param dir  the diagonal direction.
+     * @return true if so.
+     */
+    private boolean canCutCorner(final int from, final int dir)
+    {
+        final int sideX = getNeighbour(from, DX[dir] > 0 ? 0 : 1);
+        final int sideZ = getNeighbour(from, DZ[dir] > 0 ? 2 : 3);
+        return sideX >= 0 && sideZ >= 0 && isWalkable(heights, from, sideX) && isWalkable(heights, from, sideZ);
+    }
+
+    /**
+     * Get the cost of a step between two neighbouring columns.
+     *
+     * @param from     the column stepped from.
+     * @param to       the column stepped onto.
+     * @param diagonal if the step is diagonal.
+     * @return the cost.
+     */
+    private int getCost(final int from, final int to, final boolean diagonal)
+    {
+        int cost = diagonal ? DIAGONAL_COST : STEP_COST;
+        final int dy = heights[to] - heights[from];
+        if (dy > MAX_STEP_UP)
+        {
+            cost += CLIMB_COST * (dy - MAX_STEP_UP);
+        }
+        else if (dy < -MAX_STEP_DOWN)
+        {
+            cost += DROP_COST * (-dy - MAX_STEP_DOWN);
+        }
+        return water[to] ? cost * SWIM_FACTOR : cost;
+    }
+
+    /**
+     * Check if a raider walks between two neighbouring columns without help.
+     *
+     * @param heights the surface heights.
+     * @param from    the column stepped from.
+     * @param to      the column stepped onto.
+     * @return true if so.
+     */
+    private static boolean isWalkable(final short[] heights, final int from, final int to)
+    {
+        if (heights[from] == NO_GROUND || heights[to] == NO_GROUND)
+        {
+            return false;
+        }
+        final int dy = heights[to] - heights[from];
+        return dy <= MAX_STEP_UP && dy >= -MAX_STEP_DOWN;
+    }
+
+    /**
+     * Get the neighbour of a column.
+     *
+     * @param index the column.
+     * @param dir   the direction.
+     * @return the neighbour, or -1 if outside the field.
+     */
+    private int getNeighbour(final int index, final int dir)
+    {
+        final int x = index % sizeX + DX[dir];
+        final int z = index / sizeX + DZ[dir];
+        return x < 0 || z < 0 || x >= sizeX || z >= sizeZ ? -1 : z * sizeX + x;
+    }
+
+    /**
+     * Get the column of a position.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return the column, or -1 if outside the field.
+     */
+    private int getIndex(final int x, final int z)
+    {
+        final int localX = x - minX;
+        final int localZ = z - minZ;
+        return localX < 0 || localZ < 0 || localX >= sizeX || localZ >= sizeZ ? -1 : localZ * sizeX + localX;
+    }
+
+    /**
+     * A finished field, copied from the working state.
+     */
+    private static final class View
+    {
+        private final int[]   distances;
+        private final short[] heights;
+        private final byte[]  parents;
+
+        private View(final int[] distances, final short[] heights, final byte[] parents)
+        {
+            this.distances = distances;
+            this.heights = heights;
+            this.parents = parents;
+        }
+    }
+}
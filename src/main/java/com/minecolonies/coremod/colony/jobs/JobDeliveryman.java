@@ -339,6 +339,61 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         return ImmutableList.copyOf(getTaskQueueFromDataStore());
     }
 
+    /**
+     * Get the queued tasks which may still be moved around, everything except the current task and deliveries which are already being carried.
+     *
+     * @return the tokens, in queue order.
+     */
+    public List<IToken<?>> getPlannableTasks()
+    {
+        final List<IToken<?>> plannable = new ArrayList<>();
+        final LinkedList<IToken<?>> taskQueue = getTaskQueueFromDataStore();
+        for (int i = 1; i < taskQueue.size(); i++)
+        {
+            final IToken<?> token = taskQueue.get(i);
+            if (!getDataStore().getOngoingDeliveries().contains(token))
+            {
+                plannable.add(token);
+            }
+        }
+        return plannable;
+    }
+
+    /**
+     * Replace the plannable part of the queue, see {@link #getPlannableTasks()}.
+     * The current task and carried deliveries stay at the front of the queue.
+     *
+     * @param plannedTasks the new plannable tasks, in order.
+     */
+    public void replacePlannableTasks(@NotNull final List<IToken<?>> plannedTasks)
+    {
+        final LinkedList<IToken<?>> taskQueue = getTaskQueueFromDataStore();
+        final List<IToken<?>> kept = new ArrayList<>();
+        for (int i = 0; i < taskQueue.size(); i++)
+        {
+            final IToken<?> token = taskQueue.get(i);
+            if (i == 0 || getDataStore().getOngoingDeliveries().contains(token))
+            {
+                kept.add(token);
+            }
+        }
+
+        taskQueue.clear();
+        taskQueue.addAll(kept);
+        for (final IToken<?> token : plannedTasks)
+        {
+            if (!kept.contains(token))
+            {
+                taskQueue.add(token);
+            }
+        }
+
+        if (getCitizen().getWorkBuilding() != null)
+        {
+            getCitizen().getWorkBuilding().markDirty();
+        }
+    }
+
     private void cancelAssignedRequests()
     {
         for (final IToken<?> t : getTaskQueue())
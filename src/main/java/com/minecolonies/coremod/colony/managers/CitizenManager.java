@@ -24,8 +24,10 @@ import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.CitizenSpawned
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobUndertaker;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewCitizenViewMessage;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveCitizenMessage;
+import com.minecolonies.coremod.util.ColonyTickProfiler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -41,6 +43,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_CAP;
+import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZENS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
@@ -94,6 +97,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * The happiness of all citizens, summed up incrementally.
+     */
+    private final ColonyHappinessAggregate happiness;
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -102,6 +110,9 @@ public class CitizenManager implements ICitizenManager
     public CitizenManager(final Colony colony)
     {
         this.colony = colony;
+        this.happiness = new ColonyHappinessAggregate(
+          id -> citizens.containsKey(id) ? (CitizenHappinessHandler) citizens.get(id).getCitizenHappinessHandler() : null,
+          () -> colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
     }
 
     @Override
@@ -172,6 +183,8 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getList(TAG_CITIZENS, Tag.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
+        happiness.markAllChanged();
+        citizens.keySet().forEach(happiness::markChanged);
 
         // Update child state after loading citizen data
         colony.updateHasChilds();
@@ -214,7 +227,7 @@ public class CitizenManager implements ICitizenManager
             {
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewCitizenViewMessage(colony, citizen), players);
                 }
             }
         }
@@ -315,6 +328,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        happiness.markChanged(citizenData.getId());
 
         Compatibility.updateColonyCitizenCount(colony);
 
@@ -343,6 +357,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        happiness.markChanged(citizenData.getId());
         spawnOrCreateCitizen(citizenData, world, spawnPos);
 
         Compatibility.updateColonyCitizenCount(colony);
@@ -360,6 +375,7 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        happiness.markChanged(citizen.getId());
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -372,10 +388,7 @@ public class CitizenManager implements ICitizenManager
         colony.getWorkManager().clearWorkForCitizen((ICitizenData) citizen);
 
         //  Inform Subscribers of removed citizen
-        for (final ServerPlayer player : colony.getPackageManager().getCloseSubscribers())
-        {
-            Network.getNetwork().sendToPlayer(new ColonyViewRemoveCitizenMessage(colony, citizen.getId()), player);
-        }
+        Network.getNetwork().sendToPlayers(new ColonyViewRemoveCitizenMessage(colony, citizen.getId()), colony.getPackageManager().getCloseSubscribers());
 
         calculateMaxCitizens();
         markDirty();
@@ -523,10 +536,40 @@ public class CitizenManager implements ICitizenManager
     {
         for (final ICitizenData citizenData : citizens.values())
         {
-            citizenData.getCitizenHappinessHandler().getModifier(id).reset();
+            citizenData.getCitizenHappinessHandler().resetModifier(id);
         }
     }
 
+    @Override
+    public void onCitizenHappinessChanged(final int citizenId)
+    {
+        happiness.markChanged(citizenId);
+    }
+
+    @Override
+    public void updateHappiness()
+    {
+        happiness.update();
+    }
+
+    @Override
+    public boolean hasHappinessChanges()
+    {
+        return happiness.hasChanges();
+    }
+
+    @Override
+    public double getOverallHappiness(final double fallback)
+    {
+        return happiness.getOverallHappiness(fallback);
+    }
+
+    @Override
+    public double getAverageHappinessFactor(final String id)
+    {
+        return happiness.getAverageFactor(id);
+    }
+
     @Override
     public void checkCitizensForHappiness()
     {
@@ -534,12 +577,18 @@ public class CitizenManager implements ICitizenManager
         {
             citizenData.getCitizenHappinessHandler().processDailyHappiness(citizenData);
         }
+        happiness.markAllChanged();
     }
 
     @Override
     public boolean tickCitizenData()
     {
+        final long start = ColonyTickProfiler.begin();
         this.getCitizens().forEach(ICitizenData::tick);
+        if (start != 0)
+        {
+            ColonyTickProfiler.end(ColonyTickProfiler.Section.CITIZEN_DATA, colony.getDimension().location() + " #" + colony.getID(), start);
+        }
         return false;
     }
 
@@ -0,0 +1,202 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessHandler;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.IntFunction;
+
+/**
+ * Keeps the happiness of a colony summed up over all citizens, so the overall happiness does not evaluate every citizen again on each call.
+ * <p>
+ * Per citizen the last happiness and modifier factors are kept. When a citizen is marked changed, its old values are subtracted from the sums and the new
+ * ones added on the next read. All sums are rebuilt from scratch when everything is marked changed, which keeps rounding errors from adding up.
+ */
+public class ColonyHappinessAggregate
+{
+    /**
+     * Looks up the happiness handler of a citizen, null if the citizen does not exist anymore.
+     */
+    private final IntFunction<CitizenHappinessHandler> handlers;
+
+    /**
+     * Supplies the happiness research bonus of the colony.
+     */
+    private final DoubleSupplier researchBonus;
+
+    /**
+     * The last evaluated values per citizen.
+     */
+    private final Int2ObjectOpenHashMap<Entry> entries = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * The citizens to evaluate again on the next read.
+     */
+    private final IntOpenHashSet changed = new IntOpenHashSet();
+
+    /**
+     * Sum of the happiness of all evaluated citizens.
+     */
+    private double happinessSum = 0;
+
+    /**
+     * Sum of the factors per modifier over all evaluated citizens.
+     */
+    private final Object2DoubleOpenHashMap<String> factorSums = new Object2DoubleOpenHashMap<>();
+
+    /**
+     * Number of evaluated citizens per modifier.
+     */
+    private final Object2IntOpenHashMap<String> factorCounts = new Object2IntOpenHashMap<>();
+
+    /**
+     * Create a new aggregate.
+     *
+     * @param handlers      looks up the happiness handler of a citizen, null if the citizen does not exist anymore.
+     * @param researchBonus supplies the happiness research bonus of the colony.
+     */
+    public ColonyHappinessAggregate(@NotNull final IntFunction<CitizenHappinessHandler> handlers, @NotNull final DoubleSupplier researchBonus)
+    {
+        this.handlers = handlers;
+        this.researchBonus = researchBonus;
+    }
+
+    /**
+     * Mark a citizen to be evaluated again, after its modifiers changed or it was added or removed.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    public void markChanged(final int citizenId)
+    {
+        changed.add(citizenId);
+    }
+
+    /**
+     * Mark all citizens to be evaluated again, rebuilding the sums.
+     */
+    public void markAllChanged()
+    {
+        changed.addAll(entries.keySet());
+        entries.clear();
+        happinessSum = 0;
+        factorSums.clear();
+        factorCounts.clear();
+    }
+
+    /**
+     * Get the average happiness over all citizens.
+     *
+     * @param fallback the happiness of a colony without citizens.
+     * @return the average happiness.
+     */
+    public double getOverallHappiness(final double fallback)
+    {
+        update();
+        return entries.isEmpty() ? fallback : happinessSum / entries.size();
+    }
+
+    /**
+     * Get the average factor of a modifier over all citizens.
+     *
+     * @param modifier the id of the modifier.
+     * @return the average factor, 1 if no citizen has the modifier.
+     */
+    public double getAverageFactor(@NotNull final String modifier)
+    {
+        update();
+        final int count = factorCounts.getInt(modifier);
+        return count == 0 ? 1.0 : factorSums.getDouble(modifier) / count;
+    }
+
+    /**
+     * Check if any citizen is waiting to be evaluated again.
+     *
+     * @return true if the next update has work to do.
+     */
+    public boolean hasChanges()
+    {
+        return !changed.isEmpty();
+    }
+
+    /**
+     * Evaluate the changed citizens and adjust the sums by the difference, reads do this on their own.
+     */
+    public void update()
+    {
+        if (changed.isEmpty())
+        {
+            return;
+        }
+
+        final double bonus = researchBonus.getAsDouble();
+        for (final IntIterator iterator = changed.iterator(); iterator.hasNext(); )
+        {
+            final int citizenId = iterator.nextInt();
+            final Entry old = entries.remove(citizenId);
+            if (old != null)
+            {
+                apply(old, -1);
+            }
+
+            @Nullable final CitizenHappinessHandler handler = handlers.apply(citizenId);
+            if (handler != null)
+            {
+                final Entry entry = new Entry(handler.getHappiness(bonus), handler.getCachedFactors());
+                apply(entry, 1);
+                entries.put(citizenId, entry);
+            }
+        }
+        changed.clear();
+    }
+
+    /**
+     * Add the values of a citizen to the sums, or subtract them.
+     *
+     * @param entry the values.
+     * @param sign  1 to add, -1 to subtract.
+     */
+    private void apply(@NotNull final Entry entry, final int sign)
+    {
+        happinessSum += sign * entry.happiness;
+        for (final Object2DoubleMap.Entry<String> factor : entry.factors.object2DoubleEntrySet())
+        {
+            factorSums.addTo(factor.getKey(), sign * factor.getDoubleValue());
+            factorCounts.addTo(factor.getKey(), sign);
+        }
+    }
+
+    /**
+     * The evaluated values of a citizen.
+     */
+    private static class Entry
+    {
+        /**
+         * The happiness of the citizen.
+         */
+        private final double happiness;
+
+        /**
+         * The factor per modifier.
+         */
+        private final Object2DoubleOpenHashMap<String> factors;
+
+        /**
+         * Create a new entry.
+         *
+         * @param happiness the happiness of the citizen.
+         * @param factors   the factor per modifier, copied.
+         */
+        private Entry(final double happiness, @NotNull final Object2DoubleMap<String> factors)
+        {
+            this.happiness = happiness;
+            this.factors = new Object2DoubleOpenHashMap<>(factors);
+        }
+    }
+}
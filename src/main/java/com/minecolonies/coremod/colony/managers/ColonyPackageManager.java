@@ -214,10 +214,12 @@ public class ColonyPackageManager implements IColonyPackageManager
             if (isDirty)
             {
                 players.addAll(closeSubscribers);
+                players.removeAll(newSubscribers);
             }
-            players.addAll(newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyFriendlyByteBuf, newSubscribers.contains(player)), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyFriendlyByteBuf, false), players);
+            Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyFriendlyByteBuf, true), newSubscribers);
+            colonyFriendlyByteBuf.release();
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -242,18 +244,29 @@ public class ColonyPackageManager implements IColonyPackageManager
     public void sendWorkOrderPackets()
     {
         final IWorkManager workManager = colony.getWorkManager();
-        if (workManager.isDirty() || !newSubscribers.isEmpty())
+        if (workManager.isDirty())
         {
-            final Set<ServerPlayer> players = new HashSet<>();
-
-            players.addAll(closeSubscribers);
-            players.addAll(newSubscribers);
+            final Set<ServerPlayer> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
 
-            List<IWorkOrder> workOrders = new ArrayList<>(workManager.getWorkOrders().values());
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            // Removed work orders are sent right away, this only adds and updates the changed ones.
+            final List<IWorkOrder> changed = workManager.getChangedWorkOrders();
+            if (changed == null)
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, new ArrayList<>(workManager.getWorkOrders().values()), true), players);
+            }
+            else if (!changed.isEmpty())
+            {
+                Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, changed, false), players);
+            }
 
             workManager.setDirty(false);
         }
+
+        if (!newSubscribers.isEmpty())
+        {
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, new ArrayList<>(workManager.getWorkOrders().values()), true), newSubscribers);
+        }
     }
 
     @Override
@@ -267,7 +280,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyStylesMessage(), player));
+            Network.getNetwork().sendToPlayers(new ColonyStylesMessage(), players);
         }
         Structures.clearDirty();
     }
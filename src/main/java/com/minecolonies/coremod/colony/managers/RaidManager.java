@@ -165,6 +165,11 @@ public class RaidManager implements IRaiderManager
      */
     private final Colony colony;
 
+    /**
+     * Spawn points found ahead of time.
+     */
+    private final RaidSpawnCandidates spawnCandidates;
+
     /**
      * Whether the spies are currently active, active spies mark enemies with glow.
      */
@@ -208,6 +213,7 @@ public class RaidManager implements IRaiderManager
     public RaidManager(final Colony colony)
     {
         this.colony = colony;
+        this.spawnCandidates = new RaidSpawnCandidates(colony, this);
     }
 
     @Override
@@ -414,6 +420,33 @@ public class RaidManager implements IRaiderManager
      */
     @Override
     public BlockPos calculateSpawnLocation()
+    {
+        final BlockPos candidate = spawnCandidates.pick(colony.getWorld().random);
+        if (candidate != null)
+        {
+            return candidate;
+        }
+        return findSpawnLocation(colony.getWorld().random.nextInt(360));
+    }
+
+    /**
+     * Search ahead of time for spawn points around the colony, one direction per call.
+     */
+    public void updateSpawnCandidates()
+    {
+        if (canRaid())
+        {
+            spawnCandidates.update();
+        }
+    }
+
+    /**
+     * Find a spawn point along the colony's border in a direction.
+     *
+     * @param degree the direction, in degrees.
+     * @return the spawn point, or null if none was found.
+     */
+    BlockPos findSpawnLocation(final int degree)
     {
         BlockPos locationSum = new BlockPos(0, 0, 0);
         int amount = 0;
@@ -436,8 +469,7 @@ public class RaidManager implements IRaiderManager
         // Calculate center on loaded buildings, to find a nice distance for raiders
         final BlockPos calcCenter = new BlockPos(locationSum.getX() / amount, locationSum.getY() / amount, locationSum.getZ() / amount);
 
-        // Get a random point on a circle around the colony,far out for the direction
-        final int degree = colony.getWorld().random.nextInt(360);
+        // Get a point on a circle around the colony,far out for the direction
         int x = (int) Math.round(500 * Math.cos(Math.toRadians(degree)));
         int z = (int) Math.round(500 * Math.sin(Math.toRadians(degree)));
         final BlockPos advanceTowards = calcCenter.offset(x, 0, z);
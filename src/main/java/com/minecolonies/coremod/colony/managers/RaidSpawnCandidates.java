@@ -0,0 +1,160 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Raid spawn points around a colony, one per direction, found ahead of time so starting a raid at nightfall only picks one.
+ * <p>
+ * One direction is searched per update, spreading the search over many ticks. All directions are searched again after buildings were added, removed or
+ * upgraded, as those change which points are valid. A picked point is checked once more and its direction searched again afterwards.
+ */
+public class RaidSpawnCandidates
+{
+    /**
+     * Number of directions around the colony.
+     */
+    private static final int DIRECTIONS = 24;
+
+    /**
+     * Degrees per direction.
+     */
+    private static final int DEGREES_PER_DIRECTION = 360 / DIRECTIONS;
+
+    /**
+     * The colony.
+     */
+    private final IColony colony;
+
+    /**
+     * The raid manager searching the spawn points.
+     */
+    private final RaidManager raidManager;
+
+    /**
+     * Found spawn point per direction, null if none was found.
+     */
+    private final BlockPos[] candidates = new BlockPos[DIRECTIONS];
+
+    /**
+     * Directions which were searched since the last reset.
+     */
+    private final boolean[] searched = new boolean[DIRECTIONS];
+
+    /**
+     * Next direction to search.
+     */
+    private int nextDirection = 0;
+
+    /**
+     * Summary of the building positions and levels the candidates were searched for.
+     */
+    private long buildingSignature = 0;
+
+    /**
+     * Create the candidates of a colony.
+     *
+     * @param colony      the colony.
+     * @param raidManager the raid manager of the colony.
+     */
+    public RaidSpawnCandidates(final IColony colony, final RaidManager raidManager)
+    {
+        this.colony = colony;
+        this.raidManager = raidManager;
+    }
+
+    /**
+     * Search the next direction which was not searched yet, resetting all directions if the buildings changed.
+     */
+    public void update()
+    {
+        final long signature = getBuildingSignature();
+        if (signature != buildingSignature)
+        {
+            buildingSignature = signature;
+            reset();
+        }
+
+        for (int i = 0; i < DIRECTIONS; i++)
+        {
+            final int direction = (nextDirection + i) % DIRECTIONS;
+            if (!searched[direction])
+            {
+                final int degree = direction * DEGREES_PER_DIRECTION + colony.getWorld().random.nextInt(DEGREES_PER_DIRECTION);
+                candidates[direction] = raidManager.findSpawnLocation(degree);
+                searched[direction] = true;
+                nextDirection = (direction + 1) % DIRECTIONS;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pick a random found spawn point which is still loaded and free, and search its direction again afterwards.
+     *
+     * @param random the random to pick with.
+     * @return the spawn point, or null if none is available.
+     */
+    @Nullable
+    public BlockPos pick(final Random random)
+    {
+        final Level world = colony.getWorld();
+        final IntArrayList found = new IntArrayList(DIRECTIONS);
+        for (int direction = 0; direction < DIRECTIONS; direction++)
+        {
+            if (candidates[direction] != null)
+            {
+                found.add(direction);
+            }
+        }
+
+        while (!found.isEmpty())
+        {
+            final int direction = found.removeInt(random.nextInt(found.size()));
+            final BlockPos candidate = candidates[direction];
+            candidates[direction] = null;
+            searched[direction] = false;
+
+            if (WorldUtil.isEntityBlockLoaded(world, candidate)
+                  && (BlockPosUtil.SOLID_AIR_POS_SELECTOR.test(world, candidate) || BlockPosUtil.DOUBLE_AIR_POS_SELECTOR.test(world, candidate)))
+            {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forget all found spawn points.
+     */
+    public void reset()
+    {
+        Arrays.fill(candidates, null);
+        Arrays.fill(searched, false);
+    }
+
+    /**
+     * Summarize the positions and levels of all buildings.
+     *
+     * @return the summary.
+     */
+    private long getBuildingSignature()
+    {
+        long signature = colony.getBuildingManager().getBuildings().size();
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            signature += HashCommon.mix(building.getPosition().asLong() * 31 + building.getBuildingLevel());
+        }
+        return signature;
+    }
+}
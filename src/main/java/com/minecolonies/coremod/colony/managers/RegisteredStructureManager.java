@@ -34,6 +34,7 @@ import com.minecolonies.coremod.network.messages.client.colony.ColonyViewBuildin
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveBuildingMessage;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.ColonyTickProfiler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -259,7 +260,12 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             if (WorldUtil.isBlockLoaded(colony.getWorld(), building.getPosition()))
             {
+                final long start = ColonyTickProfiler.begin();
                 building.onColonyTick(colony);
+                if (start != 0)
+                {
+                    ColonyTickProfiler.end(ColonyTickProfiler.Section.BUILDING, building.getBuildingType().getRegistryName(), start);
+                }
             }
         }
     }
@@ -268,6 +274,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        colony.markFileDirty();
     }
 
     @Override
@@ -635,10 +642,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
             buildings = builder.build();
 
-            for (final ServerPlayer player : subscribers)
-            {
-                Network.getNetwork().sendToPlayer(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
-            }
+            Network.getNetwork().sendToPlayers(new ColonyViewRemoveBuildingMessage(colony, building.getID()), subscribers);
 
             Log.getLogger().info(String.format("Colony %d - removed AbstractBuilding %s of type %s",
               colony.getID(),
@@ -854,7 +858,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -880,7 +884,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
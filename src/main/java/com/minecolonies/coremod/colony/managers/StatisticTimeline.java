@@ -0,0 +1,393 @@
+package com.minecolonies.coremod.colony.managers;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tiered, bounded history of a single colony statistic.
+ * <p>
+ * The most recent days are kept in a daily ring buffer, older days are rolled into a ring of weekly buckets and everything older than that ends up in monthly buckets.
+ * Every tier stores running totals (prefix sums) instead of plain counts, so the number of occurrences in any period is the difference of two lookups.
+ * Periods reaching further back than the daily ring are resolved at the granularity of the tier they fall into.
+ */
+public class StatisticTimeline
+{
+    /**
+     * Tier sizes.
+     */
+    public static final int DAYS_TRACKED    = 128;
+    public static final int DAYS_PER_WEEK   = 7;
+    public static final int WEEKS_TRACKED   = 64;
+    public static final int WEEKS_PER_MONTH = 4;
+
+    /**
+     * NBT tags.
+     */
+    private static final String TAG_TOTAL  = "total";
+    private static final String TAG_LATEST = "latest";
+    private static final String TAG_DAYS   = "days";
+    private static final String TAG_WEEKS  = "weeks";
+    private static final String TAG_MONTHS = "months";
+
+    /**
+     * The total since colony creation.
+     */
+    private int total = 0;
+
+    /**
+     * The most recent day this timeline has been advanced to.
+     */
+    private int latestDay = 0;
+
+    /**
+     * Running totals at the end of each of the most recent days, indexed by day modulo the ring size.
+     */
+    private final int[] dailyCumulative = new int[DAYS_TRACKED];
+
+    /**
+     * Running totals at the end of each rolled up week, indexed by week modulo the ring size.
+     */
+    private final int[] weeklyCumulative = new int[WEEKS_TRACKED];
+
+    /**
+     * Running totals at the end of each rolled up month, indexed by month.
+     */
+    private final IntArrayList monthlyCumulative = new IntArrayList();
+
+    /**
+     * Add a quantity to the given day.
+     * Days older than the latest day are folded into the oldest day still held in the daily ring.
+     *
+     * @param day the colony day.
+     * @param qty the quantity.
+     */
+    public void add(final int day, final int qty)
+    {
+        if (day > latestDay)
+        {
+            advanceTo(day);
+        }
+
+        total += qty;
+        for (int d = Math.max(day, getOldestDay()); d <= latestDay; d++)
+        {
+            dailyCumulative[dayIndex(d)] += qty;
+        }
+    }
+
+    /**
+     * Get the total since colony creation.
+     *
+     * @return the total.
+     */
+    public int getTotal()
+    {
+        return total;
+    }
+
+    /**
+     * Get the number of occurrences between two days, both inclusive.
+     *
+     * @param startDay the start day.
+     * @param endDay   the end day.
+     * @return the count.
+     */
+    public int getInPeriod(final int startDay, final int endDay)
+    {
+        if (endDay < startDay)
+        {
+            return 0;
+        }
+        return getCumulativeThrough(endDay) - getCumulativeThrough(startDay - 1);
+    }
+
+    /**
+     * Get the running total at the end of the given day.
+     *
+     * @param day the day.
+     * @return the running total.
+     */
+    private int getCumulativeThrough(final int day)
+    {
+        if (day >= latestDay)
+        {
+            return total;
+        }
+        if (day < 0)
+        {
+            return 0;
+        }
+
+        final int oldestDay = getOldestDay();
+        if (day >= oldestDay)
+        {
+            return dailyCumulative[dayIndex(day)];
+        }
+
+        final int week = day / DAYS_PER_WEEK;
+        if (week > getLatestRolledWeek() - WEEKS_TRACKED)
+        {
+            return weeklyCumulative[weekIndex(week)];
+        }
+
+        final int month = week / WEEKS_PER_MONTH;
+        return month < monthlyCumulative.size() ? monthlyCumulative.getInt(month) : 0;
+    }
+
+    /**
+     * Move the daily ring forward to the given day, rolling evicted days into the coarser tiers.
+     *
+     * @param day the new latest day.
+     */
+    private void advanceTo(final int day)
+    {
+        if (total == 0)
+        {
+            // Every tier is still zero, nothing to roll up.
+            latestDay = day;
+            return;
+        }
+
+        for (int d = latestDay + 1; d <= day; d++)
+        {
+            final int evictedDay = d - DAYS_TRACKED;
+            if (evictedDay >= 0)
+            {
+                rollDay(evictedDay);
+            }
+            dailyCumulative[dayIndex(d)] = total;
+        }
+        latestDay = day;
+    }
+
+    /**
+     * Roll a day that leaves the daily ring into its weekly bucket.
+     *
+     * @param day the evicted day.
+     */
+    private void rollDay(final int day)
+    {
+        final int week = day / DAYS_PER_WEEK;
+        if (day % DAYS_PER_WEEK == 0 && week >= WEEKS_TRACKED)
+        {
+            rollWeek(week - WEEKS_TRACKED);
+        }
+        weeklyCumulative[weekIndex(week)] = dailyCumulative[dayIndex(day)];
+    }
+
+    /**
+     * Roll a week that leaves the weekly ring into its monthly bucket.
+     *
+     * @param week the evicted week.
+     */
+    private void rollWeek(final int week)
+    {
+        final int month = week / WEEKS_PER_MONTH;
+        while (monthlyCumulative.size() <= month)
+        {
+            monthlyCumulative.add(monthlyCumulative.isEmpty() ? 0 : monthlyCumulative.getInt(monthlyCumulative.size() - 1));
+        }
+        monthlyCumulative.set(month, weeklyCumulative[weekIndex(week)]);
+    }
+
+    /**
+     * Get the oldest day still held in the daily ring.
+     *
+     * @return the day.
+     */
+    private int getOldestDay()
+    {
+        return latestDay - DAYS_TRACKED + 1;
+    }
+
+    /**
+     * Get the most recent week that (partially) left the daily ring.
+     *
+     * @return the week.
+     */
+    private int getLatestRolledWeek()
+    {
+        return Math.floorDiv(getOldestDay() - 1, DAYS_PER_WEEK);
+    }
+
+    private static int dayIndex(final int day)
+    {
+        return Math.floorMod(day, DAYS_TRACKED);
+    }
+
+    private static int weekIndex(final int week)
+    {
+        return Math.floorMod(week, WEEKS_TRACKED);
+    }
+
+    /**
+     * Serialize to bytebuf, every tier in chronological order and delta encoded.
+     *
+     * @param buf the buffer to write to.
+     */
+    public void serialize(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeVarInt(total);
+        buf.writeVarInt(latestDay);
+        writeDeltas(buf, getDays());
+        writeDeltas(buf, getWeeks());
+        buf.writeVarInt(monthlyCumulative.size());
+        writeDeltas(buf, monthlyCumulative.toIntArray());
+    }
+
+    /**
+     * Deserialize from bytebuf.
+     *
+     * @param buf the buffer to read from.
+     * @return the read timeline.
+     */
+    public static StatisticTimeline deserialize(@NotNull final FriendlyByteBuf buf)
+    {
+        final StatisticTimeline timeline = new StatisticTimeline();
+        timeline.total = buf.readVarInt();
+        timeline.latestDay = buf.readVarInt();
+        timeline.setDays(readDeltas(buf, DAYS_TRACKED));
+        timeline.setWeeks(readDeltas(buf, WEEKS_TRACKED));
+        timeline.monthlyCumulative.addElements(0, readDeltas(buf, buf.readVarInt()));
+        return timeline;
+    }
+
+    /**
+     * Write the timeline to NBT.
+     *
+     * @param compound the compound to write to.
+     */
+    public void writeToNBT(@NotNull final CompoundTag compound)
+    {
+        compound.putInt(TAG_TOTAL, total);
+        compound.putInt(TAG_LATEST, latestDay);
+        compound.putIntArray(TAG_DAYS, getDays());
+        compound.putIntArray(TAG_WEEKS, getWeeks());
+        compound.putIntArray(TAG_MONTHS, monthlyCumulative.toIntArray());
+    }
+
+    /**
+     * Read a timeline from NBT.
+     *
+     * @param compound the compound to read from.
+     * @return the read timeline.
+     */
+    public static StatisticTimeline readFromNBT(@NotNull final CompoundTag compound)
+    {
+        final StatisticTimeline timeline = new StatisticTimeline();
+        timeline.total = compound.getInt(TAG_TOTAL);
+        timeline.latestDay = compound.getInt(TAG_LATEST);
+
+        final int[] days = compound.getIntArray(TAG_DAYS);
+        if (days.length == DAYS_TRACKED)
+        {
+            timeline.setDays(days);
+        }
+
+        final int[] weeks = compound.getIntArray(TAG_WEEKS);
+        if (weeks.length == WEEKS_TRACKED)
+        {
+            timeline.setWeeks(weeks);
+        }
+
+        timeline.monthlyCumulative.addElements(0, compound.getIntArray(TAG_MONTHS));
+        return timeline;
+    }
+
+    /**
+     * Get the daily ring in chronological order.
+     *
+     * @return the running totals, oldest first.
+     */
+    private int[] getDays()
+    {
+        final int[] days = new int[DAYS_TRACKED];
+        final int oldestDay = getOldestDay();
+        for (int i = 0; i < DAYS_TRACKED; i++)
+        {
+            days[i] = dailyCumulative[dayIndex(oldestDay + i)];
+        }
+        return days;
+    }
+
+    /**
+     * Fill the daily ring from chronological order.
+     *
+     * @param days the running totals, oldest first.
+     */
+    private void setDays(final int[] days)
+    {
+        final int oldestDay = getOldestDay();
+        for (int i = 0; i < DAYS_TRACKED; i++)
+        {
+            dailyCumulative[dayIndex(oldestDay + i)] = days[i];
+        }
+    }
+
+    /**
+     * Get the weekly ring in chronological order.
+     *
+     * @return the running totals, oldest first.
+     */
+    private int[] getWeeks()
+    {
+        final int[] weeks = new int[WEEKS_TRACKED];
+        final int oldestWeek = getLatestRolledWeek() - WEEKS_TRACKED + 1;
+        for (int i = 0; i < WEEKS_TRACKED; i++)
+        {
+            weeks[i] = weeklyCumulative[weekIndex(oldestWeek + i)];
+        }
+        return weeks;
+    }
+
+    /**
+     * Fill the weekly ring from chronological order.
+     *
+     * @param weeks the running totals, oldest first.
+     */
+    private void setWeeks(final int[] weeks)
+    {
+        final int oldestWeek = getLatestRolledWeek() - WEEKS_TRACKED + 1;
+        for (int i = 0; i < WEEKS_TRACKED; i++)
+        {
+            weeklyCumulative[weekIndex(oldestWeek + i)] = weeks[i];
+        }
+    }
+
+    /**
+     * Write running totals as var int deltas, which keeps quiet periods at a single byte per entry.
+     *
+     * @param buf    the buffer to write to.
+     * @param values the running totals.
+     */
+    private static void writeDeltas(final FriendlyByteBuf buf, final int[] values)
+    {
+        int previous = 0;
+        for (final int value : values)
+        {
+            buf.writeVarInt(value - previous);
+            previous = value;
+        }
+    }
+
+    /**
+     * Read running totals written by {@link #writeDeltas(FriendlyByteBuf, int[])}.
+     *
+     * @param buf   the buffer to read from.
+     * @param count the number of entries.
+     * @return the running totals.
+     */
+    private static int[] readDeltas(final FriendlyByteBuf buf, final int count)
+    {
+        final int[] values = new int[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++)
+        {
+            previous += buf.readVarInt();
+            values[i] = previous;
+        }
+        return values;
+    }
+}
@@ -2,7 +2,9 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.managers.interfaces.IStatisticsManager;
-import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
+import com.minecolonies.coremod.colony.Colony;
+import it.unimi.dsi.fastutil.ints.Int2IntAVLTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -23,6 +25,7 @@ public class StatisticsManager implements IStatisticsManager
      */
     private static final String TAG_STAT_MANAGER    = "stat_manager";
     private static final String TAG_STAT            = "stat";
+    private static final String TAG_TIMELINE        = "timeline";
 
     /**
      * Colony reference
@@ -32,7 +35,7 @@ public class StatisticsManager implements IStatisticsManager
     /**
      * The current stats of the colony.
      */
-    private final Map<String, Int2IntLinkedOpenHashMap> stats = new HashMap<>();
+    private final Map<String, StatisticTimeline> stats = new HashMap<>();
 
     /**
      * Create a new stat manager.
@@ -52,32 +55,25 @@ public class StatisticsManager implements IStatisticsManager
     @Override
     public void incrementBy(final @NotNull String id, int qty)
     {
-        final Int2IntLinkedOpenHashMap innerMap = stats.computeIfAbsent(id, k -> new Int2IntLinkedOpenHashMap());
-        innerMap.addTo(colony.getDay(), qty);
+        stats.computeIfAbsent(id, k -> new StatisticTimeline()).add(colony.getDay(), qty);
+        if (colony instanceof Colony)
+        {
+            ((Colony) colony).markFileDirty();
+        }
     }
 
     @Override
     public int getStatTotal(final @NotNull String id)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int totalCount = 0;
-        for (final int count : stats.values())
-        {
-            totalCount += count;
-        }
-        return totalCount;
+        final StatisticTimeline timeline = stats.get(id);
+        return timeline == null ? 0 : timeline.getTotal();
     }
 
     @Override
     public int getStatsInPeriod(final @NotNull String id, final int startDay, final int endDay)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int count = 0;
-        for (int day = startDay; day <= endDay; day++)
-        {
-            count += stats.get(day);
-        }
-        return count;
+        final StatisticTimeline timeline = stats.get(id);
+        return timeline == null ? 0 : timeline.getInPeriod(startDay, endDay);
     }
 
     @Override
@@ -89,38 +85,38 @@ public class StatisticsManager implements IStatisticsManager
     @Override
     public void serialize(@NotNull final FriendlyByteBuf buf)
     {
-        final CompoundTag statsCompound = new CompoundTag();
-        writeToNBT(statsCompound);
-        buf.writeNbt(statsCompound);
+        buf.writeVarInt(stats.size());
+        for (final Map.Entry<String, StatisticTimeline> stat : stats.entrySet())
+        {
+            buf.writeUtf(stat.getKey());
+            stat.getValue().serialize(buf);
+        }
     }
 
     @Override
     public void deserialize(@NotNull final FriendlyByteBuf buf)
     {
-        readFromNBT(buf.readNbt());
+        final int size = buf.readVarInt();
+        for (int i = 0; i < size; i++)
+        {
+            final String id = buf.readUtf();
+            stats.put(id, StatisticTimeline.deserialize(buf));
+        }
     }
 
     @Override
     public void writeToNBT(@NotNull final CompoundTag compound)
     {
         final ListTag statManagerNBT = new ListTag();
-        for (final Map.Entry<String, Int2IntLinkedOpenHashMap> stat : stats.entrySet())
+        for (final Map.Entry<String, StatisticTimeline> stat : stats.entrySet())
         {
             final CompoundTag statCompound = new CompoundTag();
             statCompound.putString(TAG_ID, stat.getKey());
 
-            final ListTag statNBT = new ListTag();
-            for (final Map.Entry<Integer, Integer> dailyStats : stat.getValue().entrySet())
-            {
-                final CompoundTag timeStampTag = new CompoundTag();
-
-                timeStampTag.putInt(TAG_TIME, dailyStats.getKey());
-                timeStampTag.putInt(TAG_QUANTITY, dailyStats.getValue());
+            final CompoundTag timelineCompound = new CompoundTag();
+            stat.getValue().writeToNBT(timelineCompound);
+            statCompound.put(TAG_TIMELINE, timelineCompound);
 
-                statNBT.add(timeStampTag);
-            }
-
-            statCompound.put(TAG_STAT, statNBT);
             statManagerNBT.add(statCompound);
         }
 
@@ -137,18 +133,27 @@ public class StatisticsManager implements IStatisticsManager
             {
                 final CompoundTag statCompound = statsNbts.getCompound(i);
                 final String id = statCompound.getString(TAG_ID);
+                if (statCompound.contains(TAG_TIMELINE))
+                {
+                    stats.put(id, StatisticTimeline.readFromNBT(statCompound.getCompound(TAG_TIMELINE)));
+                    continue;
+                }
+
+                // Legacy format, one entry per day. Replay it in chronological order.
                 final ListTag timeStampNbts = statCompound.getList(TAG_STAT, Tag.TAG_COMPOUND);
-                final Int2IntLinkedOpenHashMap timeStamps = new Int2IntLinkedOpenHashMap();
+                final Int2IntAVLTreeMap timeStamps = new Int2IntAVLTreeMap();
                 for (int j = 0; j < timeStampNbts.size(); j++)
                 {
                     final CompoundTag compoundTag = timeStampNbts.getCompound(j);
-                    final int day = compoundTag.getInt(TAG_TIME);
-                    final int qty = compoundTag.getInt(TAG_QUANTITY);
-
-                    timeStamps.put(day, qty);
+                    timeStamps.addTo(compoundTag.getInt(TAG_TIME), compoundTag.getInt(TAG_QUANTITY));
                 }
 
-                stats.put(id, timeStamps);
+                final StatisticTimeline timeline = new StatisticTimeline();
+                for (final Int2IntMap.Entry entry : timeStamps.int2IntEntrySet())
+                {
+                    timeline.add(entry.getIntKey(), entry.getIntValue());
+                }
+                stats.put(id, timeline);
             }
         }
     }
@@ -14,6 +14,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.util.RequestSystemMetrics;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.TextComponent;
 import org.jetbrains.annotations.NotNull;
@@ -21,15 +22,25 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 
+/**
+ * Resolver which takes requests nobody else could resolve and retries them after a delay.
+ * <p>
+ * Requests whose delay ran out are queued, oldest first, and retried within a time budget per request system tick. What does not fit into the budget stays
+ * queued for the next tick, so a burst of due requests is spread over several ticks instead of stalling one.
+ */
 public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 {
 
     private static final Integer CONST_RETRYING_ID_SCALE = -20000;
 
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final long NANOS_PER_MICRO = 1_000L;
+
     private       IRequestManager             manager;
     private final ILocation                   location;
     private final IToken<?>                   id;
@@ -37,6 +48,11 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * Requests due for a retry, in the order they became due, with the {@link System#nanoTime()} they became due at.
+     */
+    private final LinkedHashMap<IToken<?>, Long> due = new LinkedHashMap<>();
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -106,6 +122,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
         delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
+        due.remove(request.getId());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
     }
 
@@ -125,6 +142,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         {
             delays.remove(request.getId());
             assignedRequests.remove(request.getId());
+            due.remove(request.getId());
         }
     }
 
@@ -145,52 +163,94 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void tick()
     {
         manager.getLogger().debug("Starting reassignment.");
+        final long start = System.nanoTime();
 
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
-
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
-
-            Integer currentAttempt = assignedRequests.get(t);
-
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        //Lets decrement all delays, queueing the ones which ran out
+        for (final IToken<?> token : getAllAssignedRequests())
+        {
+            final Integer delay = delays.get(token);
+            if (delay == null || due.containsKey(token))
+            {
+                continue;
+            }
 
-            try
+            if (delay <= 1)
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
+                delays.put(token, 0);
+                due.put(token, start);
             }
-            catch (Exception ex)
+            else
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                delays.put(token, delay - 1);
             }
+        }
 
-            this.setCurrent(null);
-
-            assignedRequests.put(t, ++currentAttempt);
+        //Retry the oldest due requests first, at least one per tick
+        final long deadline = start + MineColonies.getConfig().getServer().requestSystemTickBudget.get() * NANOS_PER_MICRO;
+        boolean first = true;
+        while (!due.isEmpty())
+        {
+            if (!first && System.nanoTime() >= deadline)
+            {
+                RequestSystemMetrics.onBudgetExhausted();
+                manager.getLogger().debug("Tick budget used up, " + due.size() + " retryable requests left for the next tick.");
+                break;
+            }
+            first = false;
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
+            final Map.Entry<IToken<?>, Long> next = due.entrySet().iterator().next();
+            due.remove(next.getKey());
+            if (assignedRequests.containsKey(next.getKey()))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
+                if (!retry(next.getKey()))
+                {
+                    manager.getLogger().debug("Failed to reassign a retryable request: " + next.getKey());
+                }
+                RequestSystemMetrics.onRetried(System.nanoTime() - next.getValue());
             }
+        }
+
+        manager.getLogger().debug("Finished reassignment.");
+    }
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+    /**
+     * Try to reassign a due request to another resolver.
+     *
+     * @param token the request.
+     * @return true if a resolver took it, which may be this one again.
+     */
+    private boolean retry(@NotNull final IToken<?> token)
+    {
+        final Set<IToken<?>> blackList = assignedRequests.get(token) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
-        successfully.forEach(t -> {
-            manager.getLogger().debug("Failed to reassign a retryable request: " + id);
-        });
+        Integer currentAttempt = assignedRequests.get(token);
 
-        manager.getLogger().debug("Finished reassignment.");
+        this.setCurrent(token);
+        final IToken<?> resultingResolver;
+
+        try
+        {
+            resultingResolver = manager.reassignRequest(token, blackList);
+        }
+        catch (Exception ex)
+        {
+            this.setCurrent(null);
+            assignedRequests.remove(token);
+            delays.remove(token);
+            return false;
+        }
+
+        this.setCurrent(null);
+
+        assignedRequests.put(token, ++currentAttempt);
+
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(token);
+            delays.remove(token);
+        }
+
+        return resultingResolver != null;
     }
 
     @Override
@@ -204,6 +264,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         assignedRequests.clear();
         delays.clear();
+        due.clear();
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -250,6 +311,8 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
         this.delays.clear();
         this.delays.putAll(newDelays);
+
+        this.due.clear();
     }
 
     public Map<IToken<?>, Integer> getDelays()
@@ -262,6 +325,16 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         return assignedRequests;
     }
 
+    /**
+     * Get the amount of requests which are due for a retry but did not fit into the budget yet.
+     *
+     * @return the amount.
+     */
+    public int getBacklog()
+    {
+        return due.size();
+    }
+
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
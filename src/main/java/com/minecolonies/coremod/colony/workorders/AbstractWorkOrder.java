@@ -165,6 +165,12 @@ public abstract class AbstractWorkOrder implements IWorkOrder
      */
     private boolean changed;
 
+    /**
+     * The manager indexing this work order, told about every change.
+     */
+    @Nullable
+    private WorkManager manager;
+
     /**
      * Add a given Work Order mapping.
      *
@@ -349,6 +355,7 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     public final void setPriority(int priority)
     {
         this.priority = priority;
+        markChanged();
     }
 
     @Override
@@ -361,13 +368,14 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     public final void setClaimedBy(BlockPos claimedBy)
     {
         this.claimedBy = claimedBy;
+        markChanged();
     }
 
     @Override
     public final void setClaimedBy(@Nullable ICitizenData citizen)
     {
-        changed = true;
         claimedBy = (citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getPosition() : null;
+        markChanged();
     }
 
     @Override
@@ -389,8 +397,8 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void clearClaimedBy()
     {
-        changed = true;
         claimedBy = null;
+        markChanged();
     }
 
     @Override
@@ -450,8 +458,8 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setAmountOfResources(int newQuantity)
     {
-        changed = true;
         this.amountOfResources = newQuantity;
+        markChanged();
     }
 
     @Override
@@ -463,8 +471,8 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setIteratorType(String iteratorType)
     {
-        changed = true;
         this.iteratorType = iteratorType;
+        markChanged();
     }
 
     @Override
@@ -476,8 +484,8 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setCleared(boolean cleared)
     {
-        changed = true;
         this.cleared = cleared;
+        markChanged();
     }
 
     @Override
@@ -489,8 +497,8 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setRequested(final boolean requested)
     {
-        changed = true;
         this.requested = requested;
+        markChanged();
     }
 
     @Override
@@ -505,6 +513,28 @@ public abstract class AbstractWorkOrder implements IWorkOrder
         this.changed = false;
     }
 
+    /**
+     * Mark this work order changed and tell its manager, so it is re-indexed and synced to the views.
+     */
+    protected final void markChanged()
+    {
+        changed = true;
+        if (manager != null)
+        {
+            manager.onWorkOrderChanged(this);
+        }
+    }
+
+    /**
+     * Set the manager indexing this work order.
+     *
+     * @param manager the manager, null once removed.
+     */
+    final void setWorkManager(@Nullable final WorkManager manager)
+    {
+        this.manager = manager;
+    }
+
     /**
      * Get the name of the work order, provides the custom name or the work order name when no custom name is given
      *
@@ -33,10 +33,20 @@ import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 
 /**
  * Handles work orders for a colony.
+ * <p>
+ * Work orders are indexed by claim state, unclaimed ones per work order class and claimed ones per claiming building, each sorted by priority. The index is
+ * kept up to date by the work orders themselves, which report every change, so builders looking for work only walk the orders they could take.
  */
 public class WorkManager implements IWorkManager
 {
     private static final String                   TAG_WORK_ORDERS = "workOrders";
+
+    /**
+     * Index order, highest priority first and then in the order the work orders were added.
+     */
+    private static final Comparator<IndexedOrder> INDEX_ORDER =
+      Comparator.<IndexedOrder>comparingInt(o -> o.priority).reversed().thenComparingLong(o -> o.sequence);
+
     //  Once a second
     //private static final int    WORK_ORDER_FULFILL_INCREMENT = 1 * 20;
     /**
@@ -51,6 +61,42 @@ public class WorkManager implements IWorkManager
      */
     private              boolean                  dirty           = false;
 
+    /**
+     * Unclaimed work orders per work order class.
+     */
+    private final Map<Class<?>, NavigableSet<IndexedOrder>> unclaimedByType = new HashMap<>();
+
+    /**
+     * Claimed work orders per claiming building.
+     */
+    private final Map<BlockPos, NavigableSet<IndexedOrder>> claimedByBuilding = new HashMap<>();
+
+    /**
+     * The index entry of each work order by id.
+     */
+    private final Map<Integer, IndexedOrder> indexedOrders = new HashMap<>();
+
+    /**
+     * Ids of the work orders which changed since the manager was last marked clean.
+     */
+    private final Set<Integer> changedWorkOrders = new LinkedHashSet<>();
+
+    /**
+     * Set when the manager was marked dirty from outside, without knowing which work orders changed.
+     */
+    private boolean changesUnknown = false;
+
+    /**
+     * Sequence number handed to the next indexed work order, keeps equal priorities in the order they were added.
+     */
+    private long nextSequence = 0;
+
+    /**
+     * Ids of the work orders found invalid by the last validation, null if no validation is waiting to be applied.
+     */
+    @Nullable
+    private List<Integer> invalidWorkOrders = null;
+
     /**
      * Constructor, saves reference to the colony.
      *
@@ -84,6 +130,7 @@ public class WorkManager implements IWorkManager
         if (workOrder != null)
         {
             workOrders.remove(orderId);
+            unindex(workOrder);
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
             colony.markDirty();
@@ -178,8 +225,16 @@ public class WorkManager implements IWorkManager
     @Override
     public void clearWorkForCitizen(@NotNull final ICitizenData citizen)
     {
-        dirty = true;
-        workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(IWorkOrder::clearClaimedBy);
+        if (citizen.getWorkBuilding() == null)
+        {
+            return;
+        }
+
+        final NavigableSet<IndexedOrder> claimed = claimedByBuilding.get(citizen.getWorkBuilding().getPosition());
+        if (claimed != null)
+        {
+            new ArrayList<>(claimed).forEach(indexed -> indexed.order.clearClaimedBy());
+        }
     }
 
     /**
@@ -210,6 +265,10 @@ public class WorkManager implements IWorkManager
     public void read(@NotNull final CompoundTag compound)
     {
         workOrders.clear();
+        unclaimedByType.clear();
+        claimedByBuilding.clear();
+        indexedOrders.clear();
+        changedWorkOrders.clear();
         //  Work Orders
         final ListTag list = compound.getList(TAG_WORK_ORDERS, Tag.TAG_COMPOUND);
         for (int i = 0; i < list.size(); ++i)
@@ -242,8 +301,6 @@ public class WorkManager implements IWorkManager
     @Override
     public void addWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
     {
-        dirty = true;
-
         if (!(order instanceof WorkOrderMiner))
         {
             for (final IWorkOrder or : workOrders.values())
@@ -285,9 +342,94 @@ public class WorkManager implements IWorkManager
         }
 
         workOrders.put(order.getID(), order);
+        if (order instanceof AbstractWorkOrder)
+        {
+            ((AbstractWorkOrder) order).setWorkManager(this);
+        }
+        index(order);
+        changedWorkOrders.add(order.getID());
+        dirty = true;
         order.onAdded(colony, readingFromNbt);
     }
 
+    /**
+     * Called by a work order of this manager after it changed, to move it in the index and sync it to the views.
+     *
+     * @param order the changed work order.
+     */
+    void onWorkOrderChanged(@NotNull final IWorkOrder order)
+    {
+        if (workOrders.get(order.getID()) != order)
+        {
+            return;
+        }
+
+        index(order);
+        changedWorkOrders.add(order.getID());
+        dirty = true;
+    }
+
+    /**
+     * Add a work order to the index, or move it if it is indexed already.
+     *
+     * @param order the work order.
+     */
+    private void index(@NotNull final IWorkOrder order)
+    {
+        final IndexedOrder previous = indexedOrders.remove(order.getID());
+        if (previous != null)
+        {
+            removeFromIndex(previous);
+        }
+
+        final IndexedOrder indexed = new IndexedOrder(order, previous == null ? nextSequence++ : previous.sequence);
+        indexedOrders.put(order.getID(), indexed);
+        if (indexed.claimedBy == null)
+        {
+            unclaimedByType.computeIfAbsent(order.getClass(), k -> new TreeSet<>(INDEX_ORDER)).add(indexed);
+        }
+        else
+        {
+            claimedByBuilding.computeIfAbsent(indexed.claimedBy, k -> new TreeSet<>(INDEX_ORDER)).add(indexed);
+        }
+    }
+
+    /**
+     * Remove a work order from the index and stop listening to its changes.
+     *
+     * @param order the work order.
+     */
+    private void unindex(@NotNull final IWorkOrder order)
+    {
+        if (order instanceof AbstractWorkOrder)
+        {
+            ((AbstractWorkOrder) order).setWorkManager(null);
+        }
+
+        final IndexedOrder indexed = indexedOrders.remove(order.getID());
+        if (indexed != null)
+        {
+            removeFromIndex(indexed);
+        }
+        changedWorkOrders.remove(order.getID());
+    }
+
+    /**
+     * Remove an index entry from the set it is sorted into.
+     *
+     * @param indexed the index entry.
+     */
+    private void removeFromIndex(@NotNull final IndexedOrder indexed)
+    {
+        final Map<?, NavigableSet<IndexedOrder>> index = indexed.claimedBy == null ? unclaimedByType : claimedByBuilding;
+        final Object key = indexed.claimedBy == null ? indexed.order.getClass() : indexed.claimedBy;
+        final NavigableSet<IndexedOrder> orders = index.get(key);
+        if (orders != null && orders.remove(indexed) && orders.isEmpty())
+        {
+            index.remove(key);
+        }
+    }
+
     /**
      * Check if the workOrder is within a colony.
      *
@@ -340,19 +482,55 @@ public class WorkManager implements IWorkManager
     @Override
     public void onColonyTick(@NotNull final IColony colony)
     {
-        @NotNull final Iterator<IWorkOrder> iter = workOrders.values().iterator();
-        while (iter.hasNext())
+        validateWorkOrders();
+        applyWorkOrderValidation();
+    }
+
+    /**
+     * Find the work orders which are not valid anymore, without changing anything. Only reads the state of the colony, so it can run off the main thread
+     * while the colony is not ticking.
+     */
+    public void validateWorkOrders()
+    {
+        final List<Integer> invalid = new ArrayList<>();
+        for (final IWorkOrder order : workOrders.values())
         {
-            final IWorkOrder o = iter.next();
-            if (!o.isValid(this.colony))
+            if (!order.isValid(this.colony))
             {
-                iter.remove();
-                dirty = true;
+                invalid.add(order.getID());
             }
-            else if (o.isDirty())
+        }
+        invalidWorkOrders = invalid;
+    }
+
+    /**
+     * Remove the work orders found invalid by the last validation and collect the changed ones for the views, on the main thread.
+     */
+    public void applyWorkOrderValidation()
+    {
+        if (invalidWorkOrders == null)
+        {
+            return;
+        }
+
+        for (final int id : invalidWorkOrders)
+        {
+            final IWorkOrder order = workOrders.remove(id);
+            if (order != null)
             {
+                unindex(order);
+                this.colony.removeWorkOrderInView(id);
+            }
+        }
+        invalidWorkOrders = null;
+
+        for (final IWorkOrder order : workOrders.values())
+        {
+            if (order.isDirty())
+            {
+                changedWorkOrders.add(order.getID());
                 dirty = true;
-                o.resetChange();
+                order.resetChange();
             }
         }
     }
@@ -368,9 +546,9 @@ public class WorkManager implements IWorkManager
     @Override
     public <W extends IWorkOrder> List<W> getOrderedList(Class<W> type, BlockPos builder)
     {
-        return getOrderedList(type::isInstance, builder)
+        return collectOrdered(type::isAssignableFrom, order -> true, builder)
           .stream()
-          .map(m -> (W) m)
+          .map(type::cast)
           .collect(Collectors.toList());
     }
 
@@ -384,11 +562,54 @@ public class WorkManager implements IWorkManager
     @Override
     public List<IWorkOrder> getOrderedList(@NotNull Predicate<IWorkOrder> predicate, final BlockPos builder)
     {
-        return workOrders.values().stream()
-          .filter(o -> (!o.isClaimed() || o.getClaimedBy().equals(builder)))
-          .filter(predicate)
-          .sorted(Comparator.comparingInt(IWorkOrder::getPriority).reversed())
-          .collect(Collectors.toList());
+        return collectOrdered(type -> true, predicate, builder);
+    }
+
+    /**
+     * Collect the unclaimed work orders and the ones claimed by the builder from the index, ordered by priority.
+     *
+     * @param typeFilter the work order classes to look at.
+     * @param predicate  a predicate to check each work order against.
+     * @param builder    the builder wanting to claim it.
+     * @return the list.
+     */
+    private List<IWorkOrder> collectOrdered(@NotNull final Predicate<Class<?>> typeFilter, @NotNull final Predicate<IWorkOrder> predicate, final BlockPos builder)
+    {
+        final List<IndexedOrder> matches = new ArrayList<>();
+        for (final Map.Entry<Class<?>, NavigableSet<IndexedOrder>> entry : unclaimedByType.entrySet())
+        {
+            if (typeFilter.test(entry.getKey()))
+            {
+                for (final IndexedOrder indexed : entry.getValue())
+                {
+                    if (predicate.test(indexed.order))
+                    {
+                        matches.add(indexed);
+                    }
+                }
+            }
+        }
+
+        final NavigableSet<IndexedOrder> claimed = builder == null ? null : claimedByBuilding.get(builder);
+        if (claimed != null)
+        {
+            for (final IndexedOrder indexed : claimed)
+            {
+                if (typeFilter.test(indexed.order.getClass()) && predicate.test(indexed.order))
+                {
+                    matches.add(indexed);
+                }
+            }
+        }
+
+        // Every source is sorted already, so this only merges their runs.
+        matches.sort(INDEX_ORDER);
+        final List<IWorkOrder> result = new ArrayList<>(matches.size());
+        for (final IndexedOrder indexed : matches)
+        {
+            result.add(indexed.order);
+        }
+        return result;
     }
 
     /**
@@ -411,6 +632,36 @@ public class WorkManager implements IWorkManager
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (dirty)
+        {
+            changesUnknown = true;
+        }
+        else
+        {
+            changesUnknown = false;
+            changedWorkOrders.clear();
+        }
+    }
+
+    @Override
+    @Nullable
+    public List<IWorkOrder> getChangedWorkOrders()
+    {
+        if (changesUnknown)
+        {
+            return null;
+        }
+
+        final List<IWorkOrder> changed = new ArrayList<>(changedWorkOrders.size());
+        for (final int id : changedWorkOrders)
+        {
+            final IWorkOrder order = workOrders.get(id);
+            if (order != null)
+            {
+                changed.add(order);
+            }
+        }
+        return changed;
     }
 
     @Override
@@ -418,4 +669,45 @@ public class WorkManager implements IWorkManager
     {
         return colony;
     }
+
+    /**
+     * A work order in the index, with the priority and claim it was sorted in by.
+     */
+    private static final class IndexedOrder
+    {
+        /**
+         * The work order.
+         */
+        private final IWorkOrder order;
+
+        /**
+         * The priority at the time it was indexed.
+         */
+        private final int priority;
+
+        /**
+         * The claiming building at the time it was indexed, null if unclaimed.
+         */
+        @Nullable
+        private final BlockPos claimedBy;
+
+        /**
+         * The sequence number of the work order.
+         */
+        private final long sequence;
+
+        /**
+         * Create an index entry.
+         *
+         * @param order    the work order.
+         * @param sequence the sequence number of the work order.
+         */
+        private IndexedOrder(@NotNull final IWorkOrder order, final long sequence)
+        {
+            this.order = order;
+            this.priority = order.getPriority();
+            this.claimedBy = order.getClaimedBy();
+            this.sequence = sequence;
+        }
+    }
 }
@@ -153,6 +153,7 @@ public class WorkOrderBuilding extends AbstractWorkOrder
                 this.parentTranslationKey = parentBuilding.getBuildingType().getTranslationKey();
             }
         }
+        markChanged();
     }
 
     @Override
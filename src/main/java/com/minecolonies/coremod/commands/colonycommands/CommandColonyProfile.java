@@ -0,0 +1,207 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.buildings.utils.CourierDispatcher;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
+import com.minecolonies.coremod.colony.requestsystem.resolvers.StandardRetryingRequestResolver;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.ai.util.AILevelOfDetail;
+import com.minecolonies.coremod.util.BlueprintCache;
+import com.minecolonies.coremod.util.ColonyTickProfiler;
+import com.minecolonies.coremod.util.RequestSystemMetrics;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.TranslatableComponent;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+
+/**
+ * Command to record and show where colonies spend their tick time.
+ */
+public class CommandColonyProfile implements IMCOPCommand
+{
+    /**
+     * Number of entries shown per section.
+     */
+    private static final int SHOWN_ENTRIES = 5;
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final double recordedMillis = ColonyTickProfiler.getRecordedNanos() / NANOS_PER_MILLI;
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_HEADER,
+          ColonyTickProfiler.isEnabled(),
+          String.format("%.0f", recordedMillis)), false);
+
+        for (final ColonyTickProfiler.Section section : ColonyTickProfiler.Section.values())
+        {
+            final List<Map.Entry<String, ColonyTickProfiler.Entry>> entries = ColonyTickProfiler.getSorted(section);
+            if (entries.isEmpty())
+            {
+                continue;
+            }
+
+            context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_SECTION, section.name().toLowerCase()), false);
+            for (final Map.Entry<String, ColonyTickProfiler.Entry> entry : entries.subList(0, Math.min(SHOWN_ENTRIES, entries.size())))
+            {
+                context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_ENTRY,
+                  entry.getKey(),
+                  String.format("%.2f", entry.getValue().getNanos() / NANOS_PER_MILLI),
+                  entry.getValue().getCalls(),
+                  String.format("%.2f", entry.getValue().getMaxNanos() / NANOS_PER_MILLI)), false);
+            }
+        }
+
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_LOD,
+          AILevelOfDetail.getCitizensInTier(AILevelOfDetail.Tier.NEAR),
+          AILevelOfDetail.getCitizensInTier(AILevelOfDetail.Tier.MID),
+          AILevelOfDetail.getCitizensInTier(AILevelOfDetail.Tier.FAR),
+          AILevelOfDetail.getTicksSaved()), false);
+
+        final BlueprintCache blueprints = BlueprintCache.get(context.getSource().getLevel());
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_BLUEPRINTS,
+          blueprints.size(),
+          blueprints.getAccountedBytes() / BYTES_PER_MB,
+          blueprints.getHits(),
+          blueprints.getMisses(),
+          blueprints.getEvictions()), false);
+
+        int backlog = 0;
+        int maxBacklog = 0;
+        int maxBacklogColony = 0;
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            if (colony.getRequestManager() != null && colony.getRequestManager().getRetryingRequestResolver() instanceof StandardRetryingRequestResolver)
+            {
+                final int colonyBacklog = ((StandardRetryingRequestResolver) colony.getRequestManager().getRetryingRequestResolver()).getBacklog();
+                backlog += colonyBacklog;
+                if (colonyBacklog > maxBacklog)
+                {
+                    maxBacklog = colonyBacklog;
+                    maxBacklogColony = colony.getID();
+                }
+            }
+        }
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_REQUESTS,
+          backlog,
+          maxBacklogColony,
+          RequestSystemMetrics.getRetried(),
+          String.format("%.2f", RequestSystemMetrics.getAverageLatencyNanos() / NANOS_PER_MILLI),
+          String.format("%.2f", RequestSystemMetrics.getMaxLatencyNanos() / NANOS_PER_MILLI),
+          RequestSystemMetrics.getBudgetExhausted()), false);
+
+        int plannedWareHouses = 0;
+        double lengthBefore = 0;
+        double lengthAfter = 0;
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+            {
+                if (wareHouse instanceof BuildingWareHouse)
+                {
+                    final CourierDispatcher dispatcher = ((BuildingWareHouse) wareHouse).getCourierDispatcher();
+                    if (dispatcher.getLastLengthBefore() > 0)
+                    {
+                        plannedWareHouses++;
+                        lengthBefore += dispatcher.getLastLengthBefore();
+                        lengthAfter += dispatcher.getLastLengthAfter();
+                    }
+                }
+            }
+        }
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_COURIERS,
+          MineColonies.getConfig().getServer().courierDispatchEnabled.get(),
+          plannedWareHouses,
+          String.format("%.0f", lengthBefore),
+          String.format("%.0f", lengthAfter)), false);
+        return 1;
+    }
+
+    /**
+     * Start recording.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int onStart(final CommandContext<CommandSourceStack> context)
+    {
+        ColonyTickProfiler.start();
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_START), true);
+        return 1;
+    }
+
+    /**
+     * Stop recording.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int onStop(final CommandContext<CommandSourceStack> context)
+    {
+        ColonyTickProfiler.stop();
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_STOP), true);
+        return 1;
+    }
+
+    /**
+     * Dump all results to a json file.
+     *
+     * @param context the context of the command execution
+     * @return 1 if the file was written.
+     */
+    private int onDump(final CommandContext<CommandSourceStack> context)
+    {
+        final File file = ColonyTickProfiler.dump();
+        if (file == null)
+        {
+            context.getSource().sendFailure(new TranslatableComponent(COMMAND_COLONY_PROFILE_DUMP_FAILED));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(new TranslatableComponent(COMMAND_COLONY_PROFILE_DUMP_SUCCESS, file.getName()), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "profile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newLiteral("start").executes(executePreConditionCheck().then(this::onStart)))
+                 .then(IMCCommand.newLiteral("stop").executes(executePreConditionCheck().then(this::onStop)))
+                 .then(IMCCommand.newLiteral("dump").executes(executePreConditionCheck().then(this::onDump)))
+                 .executes(this::checkPreConditionAndExecute);
+    }
+}
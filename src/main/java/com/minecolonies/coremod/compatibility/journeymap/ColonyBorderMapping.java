@@ -6,15 +6,17 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.util.ChunkOutline;
+import com.minecolonies.api.util.Log;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import journeymap.client.api.display.Context;
 import journeymap.client.api.display.DisplayType;
 import journeymap.client.api.display.PolygonOverlay;
+import journeymap.client.api.model.MapPolygon;
 import journeymap.client.api.model.MapPolygonWithHoles;
 import journeymap.client.api.model.ShapeProperties;
 import journeymap.client.api.model.TextProperties;
-import journeymap.client.api.util.PolygonHelper;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
@@ -28,6 +30,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 import static com.minecolonies.api.util.constant.Constants.MOD_ID;
@@ -178,6 +181,8 @@ public class ColonyBorderMapping
         private final int id;
         private final String name;
         private final Set<ChunkPos> chunks;
+        private final ChunkOutline outline = new ChunkOutline();
+        private CompletableFuture<List<ChunkOutline.Shape>> pendingShapes;
         private final List<PolygonOverlay> overlays = new ArrayList<>();
         private final ShapeProperties fill;
         private final ShapeProperties stroke;
@@ -213,6 +218,7 @@ public class ColonyBorderMapping
         {
             this(dimension, id);
             this.chunks.addAll(chunks);
+            this.outline.setChunks(chunks);
             updateInfo(colonyName, colour, permitted, true);
             this.dirty = true;
         }
@@ -247,13 +253,27 @@ public class ColonyBorderMapping
                     .setActiveUIs(EnumSet.noneOf(Context.UI.class));
         }
 
-        /** Add or remove chunks from this overlay */
+        /** Add or remove chunks from this overlay, only the changed chunks touch the outline */
         public boolean updateChunks(@NotNull final Set<ChunkPos> addChunks,
                                     @NotNull final Set<ChunkPos> removeChunks)
         {
-            boolean changed;
-            changed = this.chunks.addAll(addChunks);                // new owned chunks
-            changed |= this.chunks.removeAll(removeChunks);         // new disowned chunks
+            boolean changed = false;
+            for (final ChunkPos chunk : addChunks)                  // new owned chunks
+            {
+                if (this.chunks.add(chunk))
+                {
+                    this.outline.add(chunk);
+                    changed = true;
+                }
+            }
+            for (final ChunkPos chunk : removeChunks)               // new disowned chunks
+            {
+                if (this.chunks.remove(chunk))
+                {
+                    this.outline.remove(chunk);
+                    changed = true;
+                }
+            }
             this.dirty |= changed;
             return changed;
         }
@@ -311,57 +331,100 @@ public class ColonyBorderMapping
                             && JourneymapOptions.BorderStyle.HIDDEN.equals(minimapStyle));
 
             this.dirty |= !enabled && !this.overlays.isEmpty();                         // freshly disabled; remove
-            this.dirty |= enabled && this.overlays.isEmpty() && !this.chunks.isEmpty(); // freshly enabled; add
+            this.dirty |= enabled && this.overlays.isEmpty() && this.pendingShapes == null
+                    && !this.chunks.isEmpty();                                          // freshly enabled; add
             this.dirty |= !fullscreenStyle.equals(this.fullscreenStyle);
             this.dirty |= !minimapStyle.equals(this.minimapStyle);
 
-            if (this.dirty)
+            // the outline is traced off-thread, the overlays are replaced once it is done
+            if (this.pendingShapes != null && this.pendingShapes.isDone())
             {
-                this.fullscreenStyle = fullscreenStyle;
-                this.minimapStyle = minimapStyle;
+                final CompletableFuture<List<ChunkOutline.Shape>> done = this.pendingShapes;
+                this.pendingShapes = null;
 
                 unload(jmap);
+                if (enabled && !done.isCompletedExceptionally())
+                {
+                    showShapes(jmap, done.join());
+                }
+            }
+
+            if (this.dirty && this.pendingShapes == null)
+            {
+                this.fullscreenStyle = fullscreenStyle;
+                this.minimapStyle = minimapStyle;
 
                 if (!this.chunks.isEmpty() && enabled && jmap.getApi().playerAccepts(MOD_ID, DisplayType.Polygon))
                 {
                     this.dirty = false;
-
-                    final List<MapPolygonWithHoles> polygons = PolygonHelper.createChunksPolygon(this.chunks, 256);
-
-                    int index = 0;
-                    for (final MapPolygonWithHoles polygon : polygons)
-                    {
-                        // fullscreen map
-                        if (!JourneymapOptions.BorderStyle.HIDDEN.equals(fullscreenStyle))
+                    this.pendingShapes = this.outline.traceAsync().whenComplete((shapes, throwable) -> {
+                        if (throwable != null)
                         {
-                            final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(fullscreenStyle)
-                                    ? this.fill : this.stroke;
-
-                            final PolygonOverlay overlay = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
-                            overlay.setOverlayGroupName(this.name)
-                                    .setActiveUIs(EnumSet.of(Context.UI.Fullscreen, Context.UI.Webmap))
-                                    .setTextProperties(this.text)
-                                    .setLabel(this.colonyName);
-                            this.overlays.add(overlay);
-                            jmap.show(overlay);
+                            Log.getLogger().error("Failed to trace colony border " + this.name, throwable);
                         }
+                    });
+                }
+                else
+                {
+                    unload(jmap);
+                }
+            }
+        }
 
-                        // minimap
-                        if (!JourneymapOptions.BorderStyle.HIDDEN.equals(minimapStyle))
-                        {
-                            final ShapeProperties shape = JourneymapOptions.BorderStyle.FILLED.equals(minimapStyle)
-                                    ? this.fill : this.stroke;
-
-                            final PolygonOverlay mini = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, shape, polygon.hull, polygon.holes);
-                            mini.setOverlayGroupName(this.name)
-                                    .setActiveUIs(EnumSet.of(Context.UI.Minimap))
-                                    .setTextProperties(this.noText);
-                            this.overlays.add(mini);
-                            jmap.show(mini);
-                        }
-                    }
+        /** Shows the traced outline with the current styles. */
+        private void showShapes(@NotNull final Journeymap jmap,
+                                @NotNull final List<ChunkOutline.Shape> shapes)
+        {
+            int index = 0;
+            for (final ChunkOutline.Shape shape : shapes)
+            {
+                final List<MapPolygon> holes = new ArrayList<>(shape.getHoles().size());
+                for (final ChunkOutline.Loop hole : shape.getHoles())
+                {
+                    holes.add(toPolygon(hole));
                 }
+                final MapPolygonWithHoles polygon = new MapPolygonWithHoles(toPolygon(shape.getHull()), holes);
+
+                // fullscreen map
+                if (!JourneymapOptions.BorderStyle.HIDDEN.equals(this.fullscreenStyle))
+                {
+                    final ShapeProperties style = JourneymapOptions.BorderStyle.FILLED.equals(this.fullscreenStyle)
+                            ? this.fill : this.stroke;
+
+                    final PolygonOverlay overlay = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, style, polygon.hull, polygon.holes);
+                    overlay.setOverlayGroupName(this.name)
+                            .setActiveUIs(EnumSet.of(Context.UI.Fullscreen, Context.UI.Webmap))
+                            .setTextProperties(this.text)
+                            .setLabel(this.colonyName);
+                    this.overlays.add(overlay);
+                    jmap.show(overlay);
+                }
+
+                // minimap
+                if (!JourneymapOptions.BorderStyle.HIDDEN.equals(this.minimapStyle))
+                {
+                    final ShapeProperties style = JourneymapOptions.BorderStyle.FILLED.equals(this.minimapStyle)
+                            ? this.fill : this.stroke;
+
+                    final PolygonOverlay mini = new PolygonOverlay(MOD_ID, String.format("%s_%s", this.name, ++index), this.dimension, style, polygon.hull, polygon.holes);
+                    mini.setOverlayGroupName(this.name)
+                            .setActiveUIs(EnumSet.of(Context.UI.Minimap))
+                            .setTextProperties(this.noText);
+                    this.overlays.add(mini);
+                    jmap.show(mini);
+                }
+            }
+        }
+
+        /** Converts a traced border into a map polygon at the same height the chunk polygons used. */
+        private static MapPolygon toPolygon(@NotNull final ChunkOutline.Loop loop)
+        {
+            final List<BlockPos> points = new ArrayList<>(loop.size());
+            for (int i = 0; i < loop.size(); i++)
+            {
+                points.add(new BlockPos(loop.getBlockX(i), 256, loop.getBlockZ(i)));
             }
+            return new MapPolygon(points);
         }
 
         /** Removes any existing overlays (since we're about to make some new ones). */
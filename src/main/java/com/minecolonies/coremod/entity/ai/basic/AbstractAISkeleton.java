@@ -13,6 +13,7 @@ import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.util.ColonyTickProfiler;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.level.Level;
@@ -130,7 +131,14 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> extends Goal
     @Override
     public final void tick()
     {
+        final IAIState state = stateMachine.getState();
+        final long start = ColonyTickProfiler.begin();
         stateMachine.tick();
+        if (start != 0)
+        {
+            ColonyTickProfiler.end(ColonyTickProfiler.Section.JOB, job.getJobRegistryEntry().getRegistryName(), start);
+            ColonyTickProfiler.end(ColonyTickProfiler.Section.AI_STATE, state, start);
+        }
     }
 
     protected void onException(final RuntimeException e)
@@ -1285,7 +1285,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
         @NotNull final InventoryCitizen inventory = worker.getInventoryCitizen();
         final int maxToolLevel = worker.getCitizenColonyHandler().getWorkBuilding().getMaxToolLevel();
 
-        for (int i = 0; i < worker.getInventoryCitizen().getSlots(); i++)
+        for (final int i : inventory.getToolSlots(toolType))
         {
             final ItemStack item = inventory.getStackInSlot(i);
             final int level = ItemStackUtils.getMiningLevel(item, toolType);
@@ -1489,10 +1489,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return true;
         }
 
-        if (building.getOpenRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().matches(stack)).isEmpty()
-              && building.getCompletedRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().matches(stack)).isEmpty())
+        if (!building.hasOutstandingRequestFor(worker.getCitizenData(), stack))
         {
             final Stack stackRequest = new Stack(stack, count, minCount);
             worker.getCitizenData().createRequest(stackRequest);
@@ -1580,10 +1577,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return true;
         }
 
-        if (building.getOpenRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().matches(stack)).isEmpty()
-            && building.getCompletedRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().matches(stack)).isEmpty())
+        if (!building.hasOutstandingRequestFor(worker.getCitizenData(), stack))
         {
             final Stack stackRequest = new Stack(stack, updatedCount, updatedMinCount, matchNBT);
             worker.getCitizenData().createRequestAsync(stackRequest);
@@ -1617,10 +1611,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return true;
         }
 
-        if (building.getOpenRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().getClass().equals(deliverable.getClass())).isEmpty()
-              && building.getCompletedRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.DELIVERABLE,
-          (IRequest<? extends IDeliverable> r) -> r.getRequest().getClass().equals(deliverable.getClass())).isEmpty())
+        if (!building.hasOutstandingRequestOfClass(worker.getCitizenData(), deliverable.getClass()))
         {
             worker.getCitizenData().createRequestAsync(deliverable);
         }
@@ -1651,10 +1642,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return true;
         }
 
-        if (building.getOpenRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.TAG_REQUEST,
-          (IRequest<? extends RequestTag> r) -> r.getRequest().getTag().equals(tag)).isEmpty()
-            && building.getCompletedRequestsOfTypeFiltered(worker.getCitizenData(), TypeConstants.TAG_REQUEST,
-          (IRequest<? extends RequestTag> r) -> r.getRequest().getTag().equals(tag)).isEmpty())
+        if (!building.hasOutstandingTagRequest(worker.getCitizenData(), tag))
         {
             final IDeliverable tagRequest = new RequestTag(tag, count);
             worker.getCitizenData().createRequestAsync(tagRequest);
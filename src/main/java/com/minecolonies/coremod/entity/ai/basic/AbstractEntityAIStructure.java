@@ -34,6 +34,7 @@ import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.level.block.AirBlock;
 import net.minecraft.world.level.block.Block;
@@ -560,6 +561,15 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
+        final PlacementSettings settings = new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes));
+        final Blueprint blueprint = BlueprintCache.get(world).getBlueprint(world, name, settings.getRotation(), settings.getMirror());
+        if (blueprint == null)
+        {
+            handleSpecificCancelActions();
+            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
+            return;
+        }
+
         final BuildingStructureHandler<J, B> structure;
         IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
         final BlockEntity entity = world.getBlockEntity(position);
@@ -568,8 +578,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint,
+              settings,
               this, new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE});
             building.setTotalStages(2);
         }
@@ -578,8 +588,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint,
+              settings,
               this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             building.setTotalStages(5);
         }
@@ -587,21 +597,13 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint,
+              settings,
               this, new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             building.setTotalStages(6);
         }
 
-        if (!structure.hasBluePrint())
-        {
-            handleSpecificCancelActions();
-            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
-            return;
-        }
-
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
@@ -1,9 +1,12 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
 import com.ldtteam.structurize.blocks.interfaces.IBlueprintDataProvider;
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
 import com.ldtteam.structurize.placement.StructurePlacer;
+import com.ldtteam.structurize.placement.structure.IStructureHandler;
+import com.ldtteam.structurize.util.BlueprintPositionInfo;
 import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
@@ -28,13 +31,20 @@ import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderMiner;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
+import com.minecolonies.coremod.entity.ai.util.StructureRequirementsCalculator;
 import com.minecolonies.coremod.entity.ai.util.WorkerLoadOnlyStructureHandler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.util.TriPredicate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
@@ -72,6 +82,37 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     private boolean recalculated = false;
 
+    /**
+     * Background search of the positions which may still need resources, null if none is running.
+     */
+    private CompletableFuture<Set<BlockPos>> requirementsFuture = null;
+
+    /**
+     * The blueprint the requirement candidates belong to.
+     */
+    private Blueprint requirementsBlueprint = null;
+
+    /**
+     * The world position the requirement candidates belong to, blueprints are shared between placements.
+     */
+    private BlockPos requirementsPos = null;
+
+    /**
+     * The world positions which may still need resources, null if every position has to be checked.
+     */
+    private Set<BlockPos> requirementCandidates = null;
+
+    /**
+     * Set when the background search failed, the requirements are then checked for every position until the calculation starts over.
+     */
+    private boolean requirementsSync = false;
+
+    /**
+     * Skips the positions the background search found unchanged.
+     */
+    private final TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> SKIP_UNCHANGED =
+      (info, worldPos, handler) -> requirementCandidates != null && !requirementCandidates.contains(worldPos);
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -238,18 +279,28 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             buildingWorker.resetNeededResources();
             requestProgress = NULL_POS;
             requestState = RequestStage.SOLID;
+            requirementsFuture = null;
+            requirementsBlueprint = null;
+            requirementsPos = null;
+            requirementCandidates = null;
+            requirementsSync = false;
         }
 
         final RequestStage currState = requestState;
         switch (currState)
         {
             case SOLID:
+                if (awaitRequirementCandidates())
+                {
+                    return false;
+                }
+
                 result = placer.executeStructureStep(world,
                   null,
                   requestProgress,
                   StructurePlacer.Operation.GET_RES_REQUIREMENTS,
                   () -> placer.getIterator()
-                    .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> !info.getBlockInfo().getState().getMaterial().isSolid() || isDecoItem(info.getBlockInfo()
+                    .increment(SKIP_UNCHANGED.or(DONT_TOUCH_PREDICATE).or((info, pos, handler) -> !info.getBlockInfo().getState().getMaterial().isSolid() || isDecoItem(info.getBlockInfo()
                       .getState()
                       .getBlock()))),
                   false);
@@ -266,12 +317,17 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                 }
                 return false;
             case DECO:
+                if (awaitRequirementCandidates())
+                {
+                    return false;
+                }
+
                 result = placer.executeStructureStep(world,
                   null,
                   requestProgress,
                   StructurePlacer.Operation.GET_RES_REQUIREMENTS,
                   () -> placer.getIterator()
-                    .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> info.getBlockInfo().getState().getMaterial().isSolid() && !isDecoItem(info.getBlockInfo()
+                    .increment(SKIP_UNCHANGED.or(DONT_TOUCH_PREDICATE).or((info, pos, handler) -> info.getBlockInfo().getState().getMaterial().isSolid() && !isDecoItem(info.getBlockInfo()
                       .getState()
                       .getBlock()))),
                   false);
@@ -311,6 +367,55 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         }
     }
 
+    /**
+     * Search the positions which may still need resources in the background, so the requirement steps on the server thread only check those.
+     * While the search is running the AI keeps returning to its current state.
+     *
+     * @return true if the search is still running, false if the requirement steps can continue.
+     */
+    private boolean awaitRequirementCandidates()
+    {
+        if (requirementsSync)
+        {
+            return false;
+        }
+
+        final Blueprint blueprint = structurePlacer.getB().getBluePrint();
+        final BlockPos worldPos = structurePlacer.getB().getWorldPos();
+        if (requirementsBlueprint != blueprint || !worldPos.equals(requirementsPos))
+        {
+            requirementsBlueprint = blueprint;
+            requirementsPos = worldPos;
+            requirementCandidates = null;
+            requirementsFuture = StructureRequirementsCalculator.start(world, blueprint, worldPos);
+            return true;
+        }
+
+        if (requirementsFuture == null)
+        {
+            return false;
+        }
+
+        if (!requirementsFuture.isDone())
+        {
+            return true;
+        }
+
+        final CompletableFuture<Set<BlockPos>> future = requirementsFuture;
+        requirementsFuture = null;
+        try
+        {
+            requirementCandidates = future.join();
+        }
+        catch (final CompletionException | CancellationException ex)
+        {
+            Log.getLogger().warn("Background requirement search failed, checking every position on the server thread", ex);
+            requirementCandidates = null;
+            requirementsSync = true;
+        }
+        return false;
+    }
+
     @Override
     public void registerBlockAsNeeded(final ItemStack stack)
     {
@@ -17,6 +17,7 @@ import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBeekeep
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.JobBeekeeper;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
+import com.minecolonies.coremod.util.AnimalTracker;
 import net.minecraft.world.level.block.BeehiveBlock;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.animal.Animal;
@@ -568,7 +569,7 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
     }
 
     /**
-     * Find animals in area.
+     * Find animals in area, read from the animals tracked in the level.
      *
      * @return the {@link List} of animals in the area.
      */
@@ -583,8 +584,10 @@ public class EntityAIWorkBeekeeper extends AbstractEntityAIInteract<JobBeekeeper
           .stream()
           .map(AABB::new)
           .map(aabb -> aabb.inflate(HIVE_BEE_RADIUS))
-          .map(aabb -> world.getEntitiesOfClass(Bee.class, aabb))
+          .map(aabb -> AnimalTracker.get(world).getEntitiesWithin(aabb, world.getGameTime()))
           .flatMap(Collection::stream)
+          .filter(Bee.class::isInstance)
+          .map(Bee.class::cast)
           .collect(Collectors.toList());
     }
 
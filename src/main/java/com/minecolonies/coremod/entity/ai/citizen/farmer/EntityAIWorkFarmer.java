@@ -29,6 +29,7 @@ import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAICrafting;
 import com.minecolonies.coremod.network.messages.client.CompostParticleMessage;
+import com.minecolonies.coremod.tileentities.ScarecrowFieldCells;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.util.AdvancementUtils;
 import net.minecraft.tags.BlockTags;
@@ -96,11 +97,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
      */
     private static final double XP_PER_HARVEST = 0.5;
 
-    /**
-     * The maximum depth to search for a surface
-     */
-    private static final int MAX_DEPTH = 5;
-
     /**
      * Farming icon
      */
@@ -408,7 +404,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
      */
     private BlockPos findHoeableSurface(@NotNull BlockPos position, @NotNull final ScarecrowTileEntity field)
     {
-        position = getSurfacePos(position);
+        position = ScarecrowFieldCells.getSurfacePos(world, position);
         if (position == null
             || field.isNoPartOfField(world, position) 
             || (world.getBlockState(position.above()).getBlock() instanceof CropBlock)
@@ -421,51 +417,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
         return position;
     }
 
-    /**
-     * Finds the position of the surface near the specified position
-     *
-     * @param position the location to begin the search
-     * @return the position of the surface block or null if it can't be found
-     */
-    private BlockPos getSurfacePos(final BlockPos position)
-    {
-        return getSurfacePos(position, 0);
-    }
-
-    /**
-    * Finds the position of the surface near the specified position
-    *
-    * @param position the location to begin the search
-    * @param depth the depth of the search for the surface
-    * @return the position of the surface block or null if it can't be found
-    */
-    private BlockPos getSurfacePos(final BlockPos position, final Integer depth)
-    {
-        if (Math.abs(depth) > MAX_DEPTH)
-        {
-            return null;
-        }
-        final BlockState curBlockState = world.getBlockState(position);
-        @Nullable final Block curBlock = curBlockState.getBlock();
-        if ((curBlockState.getMaterial().isSolid() && !(curBlock instanceof PumpkinBlock) && !(curBlock instanceof MelonBlock) && !(curBlock instanceof WebBlock)) || curBlockState.getMaterial().isLiquid())
-        {
-            if (depth < 0)
-            {
-                return position;
-            }
-            return getSurfacePos(position.above(), depth + 1);
-        }
-        else 
-        {
-            if (depth > 0)
-            {
-                return position.below();
-            }
-            return getSurfacePos(position.below(), depth - 1);
-        }
-        
-    }
-
     /**
      * The current index within the current field
      */
@@ -473,6 +424,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
 
     /**
      * Fetch the next available block within the field. Uses mathemajical quadratic equations to determine the coordinates by an index. Considers max radii set in the field gui.
+     * Cells which need no work in the current stage of the field are skipped, based on the cached cell states.
      *
      * @return the new offset position
      */
@@ -486,6 +438,10 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
             cell = -1;
         }
 
+        final ScarecrowFieldCells cells = field instanceof ScarecrowTileEntity ? ((ScarecrowTileEntity) field).getFieldCells() : null;
+        final boolean canFertilize = cells != null && field.getFieldStage() == ScarecrowFieldStage.PLANTED
+                                       && InventoryUtils.getItemCountInItemHandler(worker.getInventoryCitizen(), this::isCompost) > 0;
+
         do
         {
             if (++cell == getLargestCell())
@@ -513,6 +469,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
             || x > field.getRadius(Direction.EAST)
             || z > field.getRadius(Direction.SOUTH)
             || -x > field.getRadius(Direction.WEST)
+            || (cells != null && !cells.needsWork(world, (ScarecrowTileEntity) field, x, z, field.getFieldStage(), canFertilize))
         );
 
         return new BlockPos(x, 0, z);
@@ -604,6 +561,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
                     default:
                         return PREPARING;
                 }
+                scarecrow.getFieldCells().markChanged(scarecrow, position);
                 prevPos = position;
                 setDelay(getLevelDelay());
             }
@@ -726,7 +684,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
      */
     private BlockPos findPlantableSurface(@NotNull BlockPos position, @NotNull final ScarecrowTileEntity field)
     {
-        position = getSurfacePos(position);
+        position = ScarecrowFieldCells.getSurfacePos(world, position);
         if (position == null
             || field.isNoPartOfField(world, position)
             || (world.getBlockState(position.above()).getBlock() instanceof CropBlock)
@@ -782,7 +740,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
      */
     private BlockPos findHarvestableSurface(@NotNull BlockPos position)
     {
-        position = getSurfacePos(position);
+        position = ScarecrowFieldCells.getSurfacePos(world, position);
         if (position == null)
         {
             return null;
@@ -32,6 +32,7 @@ import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIFight;
 import com.minecolonies.coremod.entity.ai.citizen.miner.MinerLevel;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.network.messages.client.SleepingParticleMessage;
+import com.minecolonies.coremod.util.HostileEntityTracker;
 import com.minecolonies.coremod.util.NamedDamageSource;
 import com.minecolonies.coremod.util.TeleportHelper;
 import net.minecraft.core.BlockPos;
@@ -41,9 +42,12 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
@@ -776,6 +780,21 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
         return (Class<B>) AbstractBuildingGuards.class;
     }
 
+    /**
+     * Get the entities a guard may target within an area: the tracked hostiles, players and citizens.
+     *
+     * @param user the guard.
+     * @param area the area.
+     * @return the entities.
+     */
+    public static List<LivingEntity> getTargetCandidates(final AbstractEntityCitizen user, final AABB area)
+    {
+        final List<LivingEntity> entities = new ArrayList<>(HostileEntityTracker.get(user.level).getHostilesWithin(area, user.level.getGameTime()));
+        entities.addAll(user.level.getEntitiesOfClass(Player.class, area));
+        entities.addAll(user.level.getEntitiesOfClass(AbstractEntityCitizen.class, area));
+        return entities;
+    }
+
     /**
      * Check whether the target is attackable
      *
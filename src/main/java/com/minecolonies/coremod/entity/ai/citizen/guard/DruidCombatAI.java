@@ -22,6 +22,7 @@ import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobCanSee;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveAwayFromLocation;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import com.minecolonies.coremod.util.HostileEntityTracker;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -34,6 +35,7 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.PotionItem;
 import net.minecraft.world.item.alchemy.PotionUtils;
 import net.minecraft.world.item.alchemy.Potions;
+import net.minecraft.world.phys.AABB;
 
 import java.util.Collections;
 import java.util.List;
@@ -138,7 +140,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
         boolean gotMaterial = false;
         BiPredicate<LivingEntity, MobEffect> predicate;
         if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS) > 0
-              && InventoryUtils.hasItemInItemHandler(user.getInventoryCitizen(), item -> item.getItem() == ModItems.magicpotion))
+              && InventoryUtils.hasItemInItemHandler(user.getInventoryCitizen(), ModItems.magicpotion))
         {
             gotMaterial = true;
         }
@@ -237,6 +239,12 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
         return COMBAT_SPEED + levelAdjustment;
     }
 
+    @Override
+    protected List<LivingEntity> getEntitiesInSearchArea(final AABB area)
+    {
+        return AbstractEntityAIGuard.getTargetCandidates(user, area);
+    }
+
     @Override
     protected boolean isAttackableTarget(final LivingEntity entity)
     {
@@ -254,7 +262,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = getEntitiesInSearchArea(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -277,7 +285,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
 
             if (isEntityValidTarget(entity))
             {
-                if (user.hasLineOfSight(entity))
+                if (HostileEntityTracker.get(user.level).hasLineOfSight(user, entity))
                 {
                     user.getThreatTable().addThreat(entity, 0);
                     foundTarget = true;
@@ -26,6 +26,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.decoration.ArmorStand;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.SwordItem;
@@ -302,6 +303,12 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
         return COMBAT_SPEED + levelAdjustment;
     }
 
+    @Override
+    protected List<LivingEntity> getEntitiesInSearchArea(final AABB area)
+    {
+        return AbstractEntityAIGuard.getTargetCandidates(user, area);
+    }
+
     @Override
     protected boolean isAttackableTarget(final LivingEntity entity)
     {
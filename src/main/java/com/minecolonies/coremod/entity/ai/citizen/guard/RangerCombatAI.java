@@ -31,6 +31,9 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
 
 import static com.minecolonies.api.research.util.ResearchConstants.*;
 import static com.minecolonies.api.util.constant.GuardConstants.*;
@@ -304,6 +307,12 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         return COMBAT_SPEED + levelAdjustment;
     }
 
+    @Override
+    protected List<LivingEntity> getEntitiesInSearchArea(final AABB area)
+    {
+        return AbstractEntityAIGuard.getTargetCandidates(user, area);
+    }
+
     @Override
     protected boolean isAttackableTarget(final LivingEntity entity)
     {
@@ -5,12 +5,12 @@ import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
-import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
+import com.minecolonies.coremod.util.BuildingEntityRoster;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.server.level.ServerLevel;
@@ -430,13 +430,13 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
     }
 
     /**
-     * Find animals in area.
+     * Find animals in area, read from the entity roster of the building.
      *
      * @return the {@link List} of animals in the area.
      */
     public List<? extends T> searchForAnimals()
     {
-        return WorldUtil.getEntitiesWithinBuilding(world, getAnimalClass(), building, null);
+        return BuildingEntityRoster.get(world, building).getAnimals(getAnimalClass());
     }
 
     public int getMaxAnimalMultiplier()
@@ -445,13 +445,13 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
     }
 
     /**
-     * Find items in hut area.
+     * Find items in hut area, read from the entity roster of the building.
      *
      * @return the {@link List} of {@link ItemEntity} in the area.
      */
     public List<? extends ItemEntity> searchForItemsInArea()
     {
-        return WorldUtil.getEntitiesWithinBuilding(world, ItemEntity.class, building, null);
+        return BuildingEntityRoster.get(world, building).getItems();
     }
 
     /**
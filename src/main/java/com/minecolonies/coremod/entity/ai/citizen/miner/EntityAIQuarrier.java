@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.ai.citizen.miner;
 
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
@@ -24,6 +25,7 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderMiner;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructureWithWorkOrder;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.entity.ai.util.WorkerLoadOnlyStructureHandler;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.TranslatableComponent;
@@ -146,25 +148,23 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
     @Override
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
-        final BuildingStructureHandler<JobQuarrier, BuildingMiner> structure;
-
-        structure = new BuildingStructureHandler<>(world,
-          position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
-              this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, DECORATE, CLEAR});
-            building.setTotalStages(3);
-
-
-        if (!structure.hasBluePrint())
+        final PlacementSettings settings = new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes));
+        final Blueprint blueprint = BlueprintCache.get(world).getBlueprint(world, name, settings.getRotation(), settings.getMirror());
+        if (blueprint == null)
         {
             handleSpecificCancelActions();
             Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
             return;
         }
 
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        final BuildingStructureHandler<JobQuarrier, BuildingMiner> structure = new BuildingStructureHandler<>(world,
+          position,
+          blueprint,
+          settings,
+          this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, DECORATE, CLEAR});
+        building.setTotalStages(3);
+
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
@@ -6,6 +6,7 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingT
 import com.minecolonies.api.entity.combat.CombatAIStates;
 import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.combat.threat.ThreatTableEntry;
+import com.minecolonies.coremod.util.HostileEntityTracker;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.monster.Enemy;
@@ -138,7 +139,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = getEntitiesInSearchArea(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -158,7 +159,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
                 return false;
             }
 
-            if (isEntityValidTarget(entity) && user.getSensing().hasLineOfSight(entity))
+            if (isEntityValidTarget(entity) && HostileEntityTracker.get(user.level).hasLineOfSight(user, entity))
             {
                 user.getThreatTable().addThreat(entity, 0);
                 foundTarget = true;
@@ -168,6 +169,17 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
         return foundTarget;
     }
 
+    /**
+     * Get the entities which may be targeted within the search area.
+     *
+     * @param area the search area.
+     * @return the entities.
+     */
+    protected List<LivingEntity> getEntitiesInSearchArea(final AABB area)
+    {
+        return user.level.getEntitiesOfClass(LivingEntity.class, area);
+    }
+
     /**
      * Skips the search if true
      *
@@ -11,8 +11,10 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHospital;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.util.HostileEntityTracker;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.TranslatableComponent;
@@ -165,18 +167,22 @@ public class EntityAICitizenAvoidEntity extends Goal
         {
             return CompatibilityUtils.getWorldFromCitizen(citizen).getNearestPlayer(citizen, (double) distanceFromEntity);
         }
+        else if (Enemy.class.isAssignableFrom(targetEntityClass))
+        {
+            return HostileEntityTracker.get(citizen.level)
+                     .getClosestVisible(citizen, citizen.getBoundingBox().inflate(distanceFromEntity, 3.0D, distanceFromEntity), targetEntityClass);
+        }
         else
         {
-            final Optional<Entity> entityOptional = CompatibilityUtils.getWorldFromCitizen(citizen).getEntities(
-              citizen,
+            final Optional<? extends Entity> entityOptional = CompatibilityUtils.getWorldFromCitizen(citizen).getEntitiesOfClass(
+              targetEntityClass,
               citizen.getBoundingBox().inflate(
                 (double) distanceFromEntity,
                 3.0D,
                 (double) distanceFromEntity),
-              target -> target.isAlive() && citizen.getSensing().hasLineOfSight(target))
-                                                      .stream()
-                                                      .filter(targetEntityClass::isInstance)
-                                                      .findFirst();
+              target -> target != citizen && target.isAlive() && citizen.getSensing().hasLineOfSight(target))
+                                                                .stream()
+                                                                .findFirst();
 
             return entityOptional.orElse(null);
         }
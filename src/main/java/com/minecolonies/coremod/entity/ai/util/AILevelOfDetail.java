@@ -0,0 +1,187 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.configuration.ServerConfiguration;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Distance based level of detail for citizen work AI.
+ * Citizens far away from any player, or in colonies nobody is currently visiting, have their worker statemachine ticked at a reduced rate.
+ */
+public final class AILevelOfDetail
+{
+    /**
+     * The detail tiers, ordered from full detail to the cheapest one.
+     */
+    public enum Tier
+    {
+        NEAR,
+        MID,
+        FAR
+    }
+
+    /**
+     * Number of citizens currently in each tier.
+     */
+    private static final int[] citizensInTier = new int[Tier.values().length];
+
+    /**
+     * Estimated amount of worker AI ticks skipped since server start.
+     */
+    private static long ticksSaved = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private AILevelOfDetail()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Calculate the tier a citizen should currently run at.
+     *
+     * @param citizen the citizen.
+     * @param colony  the colony of the citizen.
+     * @return the tier.
+     */
+    public static Tier calculateTier(@NotNull final AbstractEntityCitizen citizen, @NotNull final IColony colony)
+    {
+        final ServerConfiguration config = MineColonies.getConfig().getServer();
+        if (!config.aiLodEnabled.get() || colony.getRaiderManager().isRaided())
+        {
+            return Tier.NEAR;
+        }
+
+        final IJob<?> job = citizen.getCitizenJobHandler().getColonyJob();
+        if (job instanceof AbstractJobGuard)
+        {
+            // Guards have to react to threats in time, never throttle them.
+            return Tier.NEAR;
+        }
+
+        if (colony.getPackageManager().getCloseSubscribers().isEmpty())
+        {
+            return Tier.FAR;
+        }
+
+        final Player player = citizen.level.getNearestPlayer(citizen, -1);
+        if (player == null)
+        {
+            return Tier.FAR;
+        }
+
+        final double distanceSq = player.distanceToSqr(citizen);
+        final int near = config.aiLodNearDistance.get();
+        if (distanceSq < near * near)
+        {
+            return Tier.NEAR;
+        }
+
+        final int far = config.aiLodFarDistance.get();
+        return distanceSq < far * far ? Tier.MID : Tier.FAR;
+    }
+
+    /**
+     * Get the tick rate multiplier of a tier.
+     *
+     * @param tier the tier.
+     * @return the multiplier, 1 meaning full rate.
+     */
+    public static int getTickRateMultiplier(@NotNull final Tier tier)
+    {
+        switch (tier)
+        {
+            case MID:
+                return MineColonies.getConfig().getServer().aiLodMidMultiplier.get();
+            case FAR:
+                return MineColonies.getConfig().getServer().aiLodFarMultiplier.get();
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Apply a tier to the worker AI of a citizen, if it has one.
+     *
+     * @param citizen  the citizen.
+     * @param previous the tier the citizen was in before.
+     * @param tier     the new tier.
+     * @param interval the amount of ticks until the next update.
+     */
+    public static void apply(@NotNull final AbstractEntityCitizen citizen, final Tier previous, @NotNull final Tier tier, final int interval)
+    {
+        if (previous != null)
+        {
+            citizensInTier[previous.ordinal()]--;
+        }
+        citizensInTier[tier.ordinal()]++;
+
+        final int multiplier = getTickRateMultiplier(tier);
+        ticksSaved += interval - interval / multiplier;
+
+        final IJob<?> job = citizen.getCitizenJobHandler().getColonyJob();
+        if (job != null && job.getWorkerAI() instanceof AbstractAISkeleton)
+        {
+            final AbstractAISkeleton<?> ai = (AbstractAISkeleton<?>) job.getWorkerAI();
+            final int tickRate = MineColonies.getConfig().getServer().updateRate.get() * multiplier;
+            if (ai.getStateAI().getTickRate() != tickRate)
+            {
+                ai.getStateAI().setTickRate(tickRate);
+            }
+        }
+    }
+
+    /**
+     * Remove a citizen from the tier statistics.
+     *
+     * @param tier the tier the citizen was in.
+     */
+    public static void remove(final Tier tier)
+    {
+        if (tier != null)
+        {
+            citizensInTier[tier.ordinal()]--;
+        }
+    }
+
+    /**
+     * Reset the tier statistics, the static state would otherwise carry over between integrated server sessions.
+     */
+    public static void reset()
+    {
+        Arrays.fill(citizensInTier, 0);
+        ticksSaved = 0;
+    }
+
+    /**
+     * Get the number of citizens currently in a tier.
+     *
+     * @param tier the tier.
+     * @return the number of citizens.
+     */
+    public static int getCitizensInTier(@NotNull final Tier tier)
+    {
+        return citizensInTier[tier.ordinal()];
+    }
+
+    /**
+     * Get the estimated amount of worker AI ticks skipped since server start.
+     *
+     * @return the amount of ticks.
+     */
+    public static long getTicksSaved()
+    {
+        return ticksSaved;
+    }
+}
@@ -0,0 +1,120 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.ldtteam.structurize.blocks.ModBlocks;
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.util.BlockInfo;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Finds the blocks of a structure which may still need resources, on a background thread.
+ * <p>
+ * The chunks covering the structure are captured on the server thread when the calculation is started, the same way pathfinding jobs capture the world,
+ * together with a copy of the blueprint blocks. The background thread only compares states: every position whose world state already is exactly the
+ * blueprint state, without tile entity data, can never need resources and is dropped. The requirements of the remaining positions are then computed by the
+ * structure placer on the server thread as before, with its own filters, equality checks, solid substitution and placement handlers, so the result is the
+ * same as the full pass while the world is never touched off the server thread.
+ */
+public final class StructureRequirementsCalculator
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private StructureRequirementsCalculator()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start a calculation, has to be called on the server thread.
+     *
+     * @param world     the world.
+     * @param blueprint the rotated blueprint, copied before the calculation starts.
+     * @param worldPos  the position the primary block of the blueprint is placed at.
+     * @return the future world positions which may still need resources.
+     */
+    public static CompletableFuture<Set<BlockPos>> start(@NotNull final Level world, @NotNull final Blueprint blueprint, @NotNull final BlockPos worldPos)
+    {
+        final BlockPos zeroPos = worldPos.subtract(blueprint.getPrimaryBlockOffset());
+        final BlockPos endPos = zeroPos.offset(blueprint.getSizeX() - 1, blueprint.getSizeY() - 1, blueprint.getSizeZ() - 1);
+        final ChunkCache snapshot = new ChunkCache(world, zeroPos, endPos, 0, world.dimensionType());
+
+        final List<Entry> entries = new ArrayList<>();
+        for (final BlockInfo info : blueprint.getBlockInfoAsMap().values())
+        {
+            if (info.getState() != null && info.getState().getBlock() != ModBlocks.blockSubstitution.get())
+            {
+                entries.add(new Entry(zeroPos.offset(info.getPos()), info.getState(), info.getTileEntityData() != null));
+            }
+        }
+
+        return CompletableFuture.supplyAsync(() -> calculate(snapshot, entries), Pathfinding.getExecutor());
+    }
+
+    /**
+     * Compare the copied blueprint blocks against the snapshot, runs on the worker thread.
+     *
+     * @param snapshot the captured chunks.
+     * @param entries  the copied blueprint blocks.
+     * @return the world positions which may still need resources.
+     */
+    private static Set<BlockPos> calculate(final ChunkCache snapshot, final List<Entry> entries)
+    {
+        final Set<BlockPos> candidates = new HashSet<>();
+        for (final Entry entry : entries)
+        {
+            if (entry.hasTileEntity || !snapshot.getBlockState(entry.worldPos).equals(entry.state))
+            {
+                candidates.add(entry.worldPos);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * A copied blueprint block.
+     */
+    private static final class Entry
+    {
+        /**
+         * The world position.
+         */
+        private final BlockPos worldPos;
+
+        /**
+         * The blueprint state.
+         */
+        private final BlockState state;
+
+        /**
+         * If the blueprint has tile entity data for it, which only the placer can compare.
+         */
+        private final boolean hasTileEntity;
+
+        /**
+         * Create a new entry.
+         *
+         * @param worldPos      the world position.
+         * @param state         the blueprint state.
+         * @param hasTileEntity if the blueprint has tile entity data for it.
+         */
+        private Entry(final BlockPos worldPos, final BlockState state, final boolean hasTileEntity)
+        {
+            this.worldPos = worldPos;
+            this.state = state;
+            this.hasTileEntity = hasTileEntity;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import com.minecolonies.coremod.entity.SittingEntity;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIBasic;
 import com.minecolonies.coremod.entity.ai.citizen.guard.AbstractEntityAIGuard;
 import com.minecolonies.coremod.entity.ai.minimal.*;
+import com.minecolonies.coremod.entity.ai.util.AILevelOfDetail;
 import com.minecolonies.coremod.entity.citizen.citizenhandlers.*;
 import com.minecolonies.coremod.entity.pathfinding.EntityCitizenWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.MovementHandler;
@@ -231,6 +232,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
      */
     private ChunkPos lastChunk;
 
+    /**
+     * The AI level of detail tier the citizen currently runs at.
+     */
+    private AILevelOfDetail.Tier aiLodTier;
+
     /**
      * Our entities threat list
      */
@@ -303,6 +309,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         entityStatemachine.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onTickDecrements, () -> null, 1));
         entityStatemachine.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::shouldBeInactive, () -> EntityState.INACTIVE, TICKS_20));
         entityStatemachine.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::determineDesiredActivity, () -> null, 100));
+        entityStatemachine.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::updateAILevelOfDetail, () -> null, AI_LOD_UPDATE_INTERVAL));
 
         entityStatemachine.addTransition(new TickingTransition<>(EntityState.INACTIVE, this::isAlive, () -> EntityState.INIT, 100));
     }
@@ -750,6 +757,25 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return false;
     }
 
+    /**
+     * Recalculates the AI level of detail tier and applies it to the worker AI.
+     *
+     * @return false
+     */
+    private boolean updateAILevelOfDetail()
+    {
+        final IColony colony = citizenColonyHandler.getColony();
+        if (colony == null)
+        {
+            return false;
+        }
+
+        final AILevelOfDetail.Tier tier = AILevelOfDetail.calculateTier(this, colony);
+        AILevelOfDetail.apply(this, aiLodTier, tier, AI_LOD_UPDATE_INTERVAL);
+        aiLodTier = tier;
+        return false;
+    }
+
     /**
      * Updates handlers on living tick, each 20 ticks.
      */
@@ -757,7 +783,10 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         // Every 20 ticks
         citizenExperienceHandler.gatherXp();
-        citizenItemHandler.pickupItems();
+        if (aiLodTier == null || (tickCount / TICKS_20) % AILevelOfDetail.getTickRateMultiplier(aiLodTier) == 0)
+        {
+            citizenItemHandler.pickupItems();
+        }
         citizenData.setLastPosition(blockPosition());
         citizenDiseaseHandler.tick();
         onLivingSoundUpdate();
@@ -1677,7 +1706,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             citizenItemHandler.updateArmorDamage(damageInc);
             if (citizenData != null)
             {
-                getCitizenData().getCitizenHappinessHandler().getModifier("damage").reset();
+                getCitizenData().getCitizenHappinessHandler().resetModifier("damage");
             }
         }
 
@@ -1949,6 +1978,15 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         super.remove(reason);
     }
 
+    @Override
+    public void onRemovedFromWorld()
+    {
+        // Also reached when the chunk unloads, which does not go through remove.
+        AILevelOfDetail.remove(aiLodTier);
+        aiLodTier = null;
+        super.onRemovedFromWorld();
+    }
+
     @Override
     public Team getTeam()
     {
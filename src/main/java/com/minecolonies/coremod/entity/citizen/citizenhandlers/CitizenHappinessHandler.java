@@ -10,8 +10,11 @@ import com.minecolonies.api.util.Tuple;
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobPupil;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.TranslatableComponent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,6 +41,17 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double cachedHappiness = -1.0;
 
+    /**
+     * The factor per modifier as of the cached happiness value.
+     */
+    private final Object2DoubleOpenHashMap<String> cachedFactors = new Object2DoubleOpenHashMap<>();
+
+    /**
+     * The citizen whose colony is told about changed modifiers, null on the client side.
+     */
+    @Nullable
+    private final ICitizenData data;
+
     /**
      * Create a new instance of the citizen happiness handler.
      *
@@ -45,6 +59,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public CitizenHappinessHandler(final ICitizenData data)
     {
+        this.data = data;
         add(new TimeBasedHappinessModifier(HOMELESSNESS,
           4.0,
           () -> data.getHomeBuilding() == null ? 0.25 : data.getHomeBuilding().getBuildingLevel() / 2.5,
@@ -79,6 +94,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public CitizenHappinessHandler()
     {
+        this.data = null;
         add(new ClientHappinessModifier(HOMELESSNESS, 4.0));
         add(new ClientHappinessModifier(UNEMPLOYMENT, 2.0));
         add(new ClientHappinessModifier(HEALTH, 2.0));
@@ -103,7 +119,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             happinessFactors.get(name).reset();
         }
-        cachedHappiness = -1;
+        invalidate();
     }
 
     @Override
@@ -127,7 +143,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 citizenData.triggerInteraction(new StandardInteraction(new TranslatableComponent(DEMANDS + happinessModifier.getId()), ChatPriority.CHITCHAT));
             }
         }
-        cachedHappiness = -1;
+        invalidate();
     }
 
     @Override
@@ -135,21 +151,49 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
     {
         if (cachedHappiness == -1)
         {
+            return getHappiness(colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+        }
+        return cachedHappiness;
+    }
+
+    /**
+     * Get the computed happiness of the citizen.
+     *
+     * @param researchBonus the happiness research bonus of the colony, only used if the happiness has to be computed again.
+     * @return the happiness.
+     */
+    public double getHappiness(final double researchBonus)
+    {
+        if (cachedHappiness == -1)
+        {
+            cachedFactors.clear();
             double total = 0.0;
             double totalWeight = 0.0;
             for (final IHappinessModifier happinessModifier : happinessFactors.values())
             {
-                total += happinessModifier.getFactor() * happinessModifier.getWeight();
+                final double factor = happinessModifier.getFactor();
+                cachedFactors.put(happinessModifier.getId(), factor);
+                total += factor * happinessModifier.getWeight();
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + researchBonus);
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
         return cachedHappiness;
     }
 
+    /**
+     * Get the factor per modifier as of the last happiness computation.
+     *
+     * @return the factors, empty if not computed yet.
+     */
+    public Object2DoubleMap<String> getCachedFactors()
+    {
+        return cachedFactors;
+    }
+
     @Override
     public void read(final CompoundTag compound)
     {
@@ -161,6 +205,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 happinessModifier.read(tag.getCompound(happinessModifier.getId()));
             }
         }
+        invalidate();
     }
 
     @Override
@@ -184,6 +229,18 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         return new ArrayList<>(happinessFactors.keySet());
     }
 
+    /**
+     * Drop the cached happiness and tell the colony the citizen has to be evaluated again.
+     */
+    private void invalidate()
+    {
+        cachedHappiness = -1;
+        if (data != null)
+        {
+            data.getColony().getCitizenManager().onCitizenHappinessChanged(data.getId());
+        }
+    }
+
     /**
      * Add the modifier to the handler.
      *
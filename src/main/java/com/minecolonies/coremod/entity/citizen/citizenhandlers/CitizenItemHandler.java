@@ -8,6 +8,8 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.network.messages.client.BlockParticleEffectMessage;
+import com.minecolonies.coremod.util.DroppedItemTracker;
+import com.minecolonies.coremod.util.SectionEntityTracker;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundEvents;
@@ -20,6 +22,7 @@ import net.minecraft.world.item.ArmorItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.item.enchantment.Enchantments;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
@@ -278,10 +281,16 @@ public class CitizenItemHandler implements ICitizenItemHandler
     @Override
     public void pickupItems()
     {
-        for (final ItemEntity item : CompatibilityUtils.getWorldFromCitizen(citizen).getEntitiesOfClass(ItemEntity.class,
-          new AABB(citizen.blockPosition())
+        final Level world = CompatibilityUtils.getWorldFromCitizen(citizen);
+        final SectionEntityTracker<ItemEntity> droppedItems = DroppedItemTracker.get(world);
+        if (droppedItems.isEmpty())
+        {
+            return;
+        }
+
+        for (final ItemEntity item : droppedItems.getEntitiesWithin(new AABB(citizen.blockPosition())
             .expandTowards(2.0F, 1.0F, 2.0F)
-            .expandTowards(-2.0F, -1.0F, -2.0F)))
+            .expandTowards(-2.0F, -1.0F, -2.0F), world.getGameTime()))
         {
             if (item != null && item.isAlive())
             {
@@ -11,8 +11,12 @@ import com.minecolonies.api.entity.combat.CombatAIStates;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.HordeRaidEvent;
+import com.minecolonies.coremod.colony.colonyEvents.raidEvents.IFlowFieldRaidEvent;
+import com.minecolonies.coremod.colony.colonyEvents.raidEvents.RaiderFlowField;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 
@@ -21,6 +25,16 @@ import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
  */
 public class RaiderWalkAI implements IStateAI
 {
+    /**
+     * Steps walked along the flow field per path.
+     */
+    private static final int FLOW_FIELD_STEPS = 32;
+
+    /**
+     * Steps along the flow field a path job targets when the field needs climbing.
+     */
+    private static final int FALLBACK_STEPS = 6;
+
     /**
      * The entity using this AI
      */
@@ -67,19 +81,62 @@ public class RaiderWalkAI implements IStateAI
             {
                 targetBlock = raider.getColony().getRaiderManager().getRandomBuilding();
                 walkTimer = raider.level.getGameTime() + TICKS_SECOND * 240;
-                final BlockPos moveToPos = ShipBasedRaiderUtils.chooseWaypointFor(((IColonyRaidEvent) event).getWayPoints(), raider.blockPosition(), targetBlock);
-                raider.getNavigation().moveToXYZ(moveToPos.getX(), moveToPos.getY(), moveToPos.getZ(), 1.1);
+                walkTowardsColony((IColonyRaidEvent) event);
             }
             else if (raider.getNavigation().isDone() || raider.getNavigation().getDesiredPos() == null)
             {
-                final BlockPos moveToPos = ShipBasedRaiderUtils.chooseWaypointFor(((IColonyRaidEvent) event).getWayPoints(), raider.blockPosition(), targetBlock);
-                raider.getNavigation().moveToXYZ(moveToPos.getX(), moveToPos.getY(), moveToPos.getZ(), 1.1);
+                walkTowardsColony((IColonyRaidEvent) event);
             }
         }
 
         return false;
     }
 
+    /**
+     * Walk along the flow field of the raid while far from the colony, otherwise along the waypoints to the target building.
+     *
+     * @param event the raid event.
+     */
+    private void walkTowardsColony(final IColonyRaidEvent event)
+    {
+        if (event instanceof IFlowFieldRaidEvent && followFlowField(((IFlowFieldRaidEvent) event).getFlowField()))
+        {
+            return;
+        }
+
+        final BlockPos moveToPos = ShipBasedRaiderUtils.chooseWaypointFor(event.getWayPoints(), raider.blockPosition(), targetBlock);
+        raider.getNavigation().moveToXYZ(moveToPos.getX(), moveToPos.getY(), moveToPos.getZ(), 1.1);
+    }
+
+    /**
+     * Follow the flow field with a path built from it, or path over an obstacle on it.
+     *
+     * @param field the field, may be null.
+     * @return false if the field can not be used here.
+     */
+    private boolean followFlowField(@Nullable final RaiderFlowField field)
+    {
+        if (field == null || field.hasArrived(raider.blockPosition()))
+        {
+            return false;
+        }
+
+        final Path path = field.getPath(raider.blockPosition(), FLOW_FIELD_STEPS);
+        if (path != null)
+        {
+            raider.getNavigation().stop();
+            return raider.getNavigation().moveTo(path, 1.1);
+        }
+
+        final BlockPos fallback = field.getFallbackTarget(raider.blockPosition(), FALLBACK_STEPS);
+        if (fallback == null)
+        {
+            return false;
+        }
+        raider.getNavigation().moveToXYZ(fallback.getX(), fallback.getY(), fallback.getZ(), 1.1);
+        return true;
+    }
+
     /**
      * Chooses and walks to a random campfire
      */
@@ -25,6 +25,7 @@ import com.minecolonies.coremod.client.render.RenderBipedCitizen;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.VisitorSpawnedEvent;
+import com.minecolonies.coremod.colony.colonyEvents.raidEvents.RaiderFlowField;
 import com.minecolonies.coremod.colony.interactionhandling.RecruitmentInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -40,8 +41,13 @@ import com.minecolonies.coremod.loot.SupplyLoot;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ScarecrowFieldCells;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.AnimalTracker;
+import com.minecolonies.coremod.util.BuildingEntityRoster;
+import com.minecolonies.coremod.util.DroppedItemTracker;
+import com.minecolonies.coremod.util.HostileEntityTracker;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.TranslatableComponent;
@@ -50,6 +56,8 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.monster.ZombieVillager;
 import net.minecraft.world.entity.player.Player;
@@ -68,6 +76,7 @@ import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.event.*;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
@@ -130,6 +139,24 @@ public class EventHandler
     {
         if (!event.getWorld().isClientSide())
         {
+            if (event.getEntity() instanceof ItemEntity)
+            {
+                DroppedItemTracker.get(event.getWorld()).track((ItemEntity) event.getEntity());
+                BuildingEntityRoster.onEntityJoin(event.getWorld(), event.getEntity());
+                return;
+            }
+
+            if (event.getEntity() instanceof Animal)
+            {
+                AnimalTracker.get(event.getWorld()).track((Animal) event.getEntity());
+                BuildingEntityRoster.onEntityJoin(event.getWorld(), event.getEntity());
+            }
+
+            if (HostileEntityTracker.isHostile(event.getEntity()))
+            {
+                HostileEntityTracker.get(event.getWorld()).track((LivingEntity) event.getEntity());
+            }
+
             if (MineColonies.getConfig().getServer().mobAttackCitizens.get() && (event.getEntity() instanceof Enemy) && !(event.getEntity()
               .getType()
               .is(ModTags.mobAttackBlacklist)))
@@ -140,6 +167,38 @@ public class EventHandler
         }
     }
 
+    /**
+     * On Entity leave do this.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityRemoved(@NotNull final EntityLeaveWorldEvent event)
+    {
+        if (event.getWorld().isClientSide())
+        {
+            return;
+        }
+
+        if (event.getEntity() instanceof ItemEntity)
+        {
+            DroppedItemTracker.get(event.getWorld()).untrack((ItemEntity) event.getEntity());
+            BuildingEntityRoster.onEntityLeave(event.getWorld(), event.getEntity());
+            return;
+        }
+
+        if (event.getEntity() instanceof Animal)
+        {
+            AnimalTracker.get(event.getWorld()).untrack((Animal) event.getEntity());
+            BuildingEntityRoster.onEntityLeave(event.getWorld(), event.getEntity());
+        }
+
+        if (HostileEntityTracker.isHostile(event.getEntity()))
+        {
+            HostileEntityTracker.get(event.getWorld()).untrack((LivingEntity) event.getEntity());
+        }
+    }
+
     /**
      * Event called to attach capabilities on a chunk.
      *
@@ -471,6 +530,8 @@ public class EventHandler
         }
 
         final Level world = (Level) event.getWorld();
+        RaiderFlowField.onBlockChanged(world, event.getPos());
+        ScarecrowFieldCells.onBlockChanged(world, event.getPos());
 
         if (event.getState().getBlock() instanceof SpawnerBlock)
         {
@@ -488,6 +549,51 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when an entity places a block.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockPlace(@NotNull final BlockEvent.EntityPlaceEvent event)
+    {
+        if (event.getWorld().isClientSide() || !(event.getWorld() instanceof Level))
+        {
+            return;
+        }
+
+        RaiderFlowField.onBlockChanged((Level) event.getWorld(), event.getPos());
+        ScarecrowFieldCells.onBlockChanged((Level) event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event called when a crop or stem grew.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onCropGrow(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        if (!event.getWorld().isClientSide() && event.getWorld() instanceof Level)
+        {
+            ScarecrowFieldCells.onBlockChanged((Level) event.getWorld(), event.getPos());
+        }
+    }
+
+    /**
+     * Event called when farmland is trampled.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onFarmlandTrample(@NotNull final BlockEvent.FarmlandTrampleEvent event)
+    {
+        if (!event.getWorld().isClientSide() && event.getWorld() instanceof Level)
+        {
+            ScarecrowFieldCells.onBlockChanged((Level) event.getWorld(), event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
@@ -750,6 +856,10 @@ public class EventHandler
         if (!event.getWorld().isClientSide() && event.getWorld() instanceof Level)
         {
             IColonyManager.getInstance().onWorldUnload((Level) event.getWorld());
+            DroppedItemTracker.remove((Level) event.getWorld());
+            HostileEntityTracker.remove((Level) event.getWorld());
+            AnimalTracker.remove((Level) event.getWorld());
+            BuildingEntityRoster.remove((Level) event.getWorld());
         }
         if (event.getWorld().isClientSide())
         {
@@ -2,13 +2,16 @@ package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
 import com.minecolonies.coremod.datalistener.CitizenNameListener;
 import com.minecolonies.coremod.datalistener.CrafterRecipeListener;
 import com.minecolonies.coremod.datalistener.CustomVisitorListener;
 import com.minecolonies.coremod.datalistener.ResearchListener;
+import com.minecolonies.coremod.entity.ai.util.AILevelOfDetail;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
@@ -68,10 +71,13 @@ public class FMLEventHandler
     public static void onServerAboutToStart(@NotNull final ServerAboutToStartEvent event)
     {
         IColonyManager.getInstance().getRecipeManager().reset();
+        BlueprintCache.clearServerCache();
+        AILevelOfDetail.reset();
     }
 
     public static void onServerStopped(final ServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        ColonyTickScheduler.shutdown();
     }
 }
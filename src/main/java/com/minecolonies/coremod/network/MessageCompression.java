@@ -0,0 +1,135 @@
+package com.minecolonies.coremod.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflates large encoded messages before they are sent and inflates them again on arrival.
+ * <p>
+ * A compressed payload starts with the uncompressed length as var int. The receiver only uses it as an upper bound, the result grows with the actually inflated
+ * output. Only the logical server compresses, compressed payloads arriving there are rejected by the receiving messages.
+ */
+public final class MessageCompression
+{
+    /**
+     * Encoded messages from this size on are compressed.
+     */
+    public static final int COMPRESSION_THRESHOLD = 32 * 1024;
+
+    /**
+     * Largest uncompressed size accepted from a compressed payload.
+     */
+    private static final int MAX_UNCOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Size of the intermediate deflate and inflate output chunks.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private MessageCompression()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Compress the readable bytes of a buffer, without changing its reader index.
+     *
+     * @param data the encoded message.
+     * @return a new pooled buffer holding the compressed payload, to be released by the caller.
+     */
+    public static ByteBuf compress(final ByteBuf data)
+    {
+        final int length = data.readableBytes();
+        final ByteBuf out = PooledByteBufAllocator.DEFAULT.directBuffer(length / 2 + 16);
+        new FriendlyByteBuf(out).writeVarInt(length);
+
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try
+        {
+            deflater.setInput(data.nioBuffer(data.readerIndex(), length));
+            deflater.finish();
+
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            while (!deflater.finished())
+            {
+                out.writeBytes(chunk, 0, deflater.deflate(chunk));
+            }
+        }
+        finally
+        {
+            deflater.end();
+        }
+        return out;
+    }
+
+    /**
+     * Inflate a compressed payload, consuming the readable bytes of the buffer.
+     *
+     * @param data the compressed payload.
+     * @return a new buffer holding the encoded message.
+     * @throws IllegalArgumentException if the payload is damaged or too large.
+     */
+    public static ByteBuf decompress(final ByteBuf data)
+    {
+        final int length = new FriendlyByteBuf(data).readVarInt();
+        if (length < 0 || length > MAX_UNCOMPRESSED_SIZE)
+        {
+            throw new IllegalArgumentException("Compressed message claims an invalid size of " + length + " bytes");
+        }
+
+        // The claimed length is untrusted, so the result only grows with what the payload really inflates to.
+        final ByteBuf result = Unpooled.buffer(Math.min(length, CHUNK_SIZE), length);
+        final Inflater inflater = new Inflater();
+        try
+        {
+            inflater.setInput(data.nioBuffer(data.readerIndex(), data.readableBytes()));
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            while (!inflater.finished())
+            {
+                final int inflated = inflater.inflate(chunk);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                {
+                    break;
+                }
+                if (inflated > result.maxWritableBytes())
+                {
+                    throw new IllegalArgumentException("Compressed message inflates beyond its claimed size of " + length + " bytes");
+                }
+                result.writeBytes(chunk, 0, inflated);
+            }
+
+            if (result.readableBytes() != length)
+            {
+                throw new IllegalArgumentException("Compressed message is truncated, got " + result.readableBytes() + " of " + length + " bytes");
+            }
+        }
+        catch (final DataFormatException e)
+        {
+            result.release();
+            throw new IllegalArgumentException("Compressed message is damaged", e);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            result.release();
+            throw e;
+        }
+        finally
+        {
+            inflater.end();
+        }
+
+        data.skipBytes(data.readableBytes());
+        return result;
+    }
+}
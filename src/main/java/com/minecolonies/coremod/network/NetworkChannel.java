@@ -27,12 +27,14 @@ import com.minecolonies.coremod.network.messages.server.colony.building.warehous
 import com.minecolonies.coremod.network.messages.server.colony.building.warehouse.UpgradeWarehouseMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.worker.*;
 import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
+import com.minecolonies.coremod.network.messages.splitting.SinglePacketMessage;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.network.Connection;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -45,7 +47,9 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -58,6 +62,11 @@ import java.util.function.Supplier;
  */
 public class NetworkChannel
 {
+    /**
+     * Max size of a single packet payload, 90% of the maximum packet size.
+     */
+    private static final int MAX_PACKET_SIZE = 943718;
+
     /**
      * Forge network channel
      */
@@ -259,6 +268,16 @@ public class NetworkChannel
             ctx.setPacketHandled(true);
             msg.onExecute(ctx, packetOrigin.equals(LogicalSide.CLIENT));
         });
+        rawChannel.registerMessage(1, SinglePacketMessage.class, IMessage::toBytes, (buf) -> {
+            final SinglePacketMessage msg = new SinglePacketMessage();
+            msg.fromBytes(buf);
+            return msg;
+        }, (msg, ctxIn) -> {
+            final net.minecraftforge.network.NetworkEvent.Context ctx = ctxIn.get();
+            final LogicalSide packetOrigin = ctx.getDirection().getOriginationSide();
+            ctx.setPacketHandled(true);
+            msg.onExecute(ctx, packetOrigin.equals(LogicalSide.CLIENT));
+        });
     }
 
     /**
@@ -296,6 +315,27 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends to several players, encoding the message only once.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayer> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        final List<Connection> connections = new ArrayList<>(players.size());
+        for (final ServerPlayer player : players)
+        {
+            connections.add(player.connection.connection);
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> connections), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -323,7 +363,7 @@ public class NetworkChannel
      */
     public void sendToDimension(final IMessage msg, final ResourceLocation dim)
     {
-        rawChannel.send(PacketDistributor.DIMENSION.with(() -> ResourceKey.create(Registry.DIMENSION_REGISTRY, dim)), msg);
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.DIMENSION.with(() -> ResourceKey.create(Registry.DIMENSION_REGISTRY, dim)), s));
     }
 
     /**
@@ -394,10 +434,13 @@ public class NetworkChannel
     }
 
     /**
-     * Method that handles the splitting of the message into chunks if need be.
+     * Method that encodes the message once and hands it out as a single packet, or split into chunks if need be.
+     * <p>
+     * The message is written into a pooled direct buffer, compressed if it is large and the parts are slices of that buffer.
+     * The consumer must send synchronously, as the buffer is released afterwards.
      *
      * @param msg                  The message to split in question.
-     * @param splitMessageConsumer The consumer that sends away the split parts of the message.
+     * @param splitMessageConsumer The consumer that sends away the packets of the message.
      */
     private void handleSplitting(final IMessage msg, final Consumer<IMessage> splitMessageConsumer)
     {
@@ -408,41 +451,66 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
-        final ByteBuf buffer = Unpooled.buffer();
-        final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
-        msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
-        buffer.release();
-
-        //Some tracking variables.
-        //Max packet size: 90% of maximum.
-        final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
-        //The current index for the split packets.
-        int packetIndex = 0;
-        //The communication id.
-        final int comId = messageCounter.getAndIncrement();
-
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Write the message into a buffer, only its written bytes are sent.
+        ByteBuf data = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try
         {
-            //Tell the network message entry that we are splitting a packet.
-            this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
+            msg.toBytes(new FriendlyByteBuf(data));
+
+            boolean compressed = false;
+            if (data.readableBytes() >= MessageCompression.COMPRESSION_THRESHOLD)
+            {
+                final ByteBuf deflated = MessageCompression.compress(data);
+                if (deflated.readableBytes() < data.readableBytes())
+                {
+                    data.release();
+                    data = deflated;
+                    compressed = true;
+                }
+                else
+                {
+                    deflated.release();
+                }
+            }
+
+            //Fast path, the message fits into one packet.
+            final int length = data.readableBytes();
+            if (length <= MAX_PACKET_SIZE)
+            {
+                splitMessageConsumer.accept(new SinglePacketMessage(messageId, compressed, data));
+                return;
+            }
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+            //The current index in the data.
+            int currentIndex = data.readerIndex();
+            final int endIndex = currentIndex + length;
+            //The current index for the split packets.
+            int packetIndex = 0;
+            //The communication id.
+            final int comId = messageCounter.getAndIncrement();
+
+            //Loop while data is available.
+            while (currentIndex < endIndex)
+            {
+                //Tell the network message entry that we are splitting a packet.
+                this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+                final int extra = Math.min(MAX_PACKET_SIZE, endIndex - currentIndex);
 
-            //Send the wrapping packet.
-            splitMessageConsumer.accept(splitPacketMessage);
+                //Construct the wrapping packet around a view of the data.
+                final SplitPacketMessage splitPacketMessage =
+                  new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= endIndex, messageId, compressed, data.slice(currentIndex, extra));
 
-            //Move our working index.
-            currentIndex += extra;
+                //Send the wrapping packet.
+                splitMessageConsumer.accept(splitPacketMessage);
+
+                //Move our working index.
+                currentIndex += extra;
+            }
+        }
+        finally
+        {
+            data.release();
         }
     }
 
@@ -40,13 +40,15 @@ public class ColonyViewWorkOrderMessage implements IMessage
      *
      * @param colony        colony of the workOrder.
      * @param workOrderList list of workorders to send to the client
+     * @param replace       true if the list holds all work orders and replaces the known ones, false to only add or update the listed ones.
      */
-    public ColonyViewWorkOrderMessage(@NotNull final Colony colony, @NotNull final List<IWorkOrder> workOrderList)
+    public ColonyViewWorkOrderMessage(@NotNull final Colony colony, @NotNull final List<IWorkOrder> workOrderList, final boolean replace)
     {
         this.colonyId = colony.getID();
         this.workOrderBuffer = new FriendlyByteBuf(Unpooled.buffer());
         this.dimension = colony.getDimension();
 
+        workOrderBuffer.writeBoolean(replace);
         workOrderBuffer.writeInt(workOrderList.size());
         for (final IWorkOrder workOrder : workOrderList)
         {
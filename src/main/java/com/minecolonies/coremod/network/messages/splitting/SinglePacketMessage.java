@@ -0,0 +1,123 @@
+package com.minecolonies.coremod.network.messages.splitting;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.MessageCompression;
+import com.minecolonies.coremod.network.NetworkChannel;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Represents a class that wraps a message which fits into a single packet, in its already encoded form.
+ * <p>
+ * The encoded bytes are shared, so one encoding can be sent to many players. The wrapped message is decoded straight from the received packet, unless it is
+ * compressed, which is only inflated once the message is known to come from the server.
+ */
+public class SinglePacketMessage implements IMessage
+{
+    /**
+     * The id of the message inside the splitting logic. Identical to the index codec system in SimpleChannel.
+     */
+    private int innerMessageId = -1;
+
+    /**
+     * Indicates if the payload is compressed.
+     */
+    private boolean compressed = false;
+
+    /**
+     * The encoded message when sending, its reader index is never moved.
+     */
+    private ByteBuf payload;
+
+    /**
+     * The decoded message when receiving.
+     */
+    private IMessage message;
+
+    /**
+     * The compressed payload when receiving, inflated once the receiving side is known.
+     */
+    private byte[] receivedPayload;
+
+    /**
+     * The network receiving constructor.
+     */
+    public SinglePacketMessage()
+    {
+    }
+
+    /**
+     * Wrap an encoded message.
+     *
+     * @param innerMessageId the id of the message.
+     * @param compressed     if the payload is compressed.
+     * @param payload        the encoded message, must stay valid until this is sent.
+     */
+    public SinglePacketMessage(final int innerMessageId, final boolean compressed, final ByteBuf payload)
+    {
+        this.innerMessageId = innerMessageId;
+        this.compressed = compressed;
+        this.payload = payload;
+    }
+
+    @Override
+    public void toBytes(final FriendlyByteBuf buf)
+    {
+        buf.writeVarInt(this.innerMessageId);
+        buf.writeBoolean(this.compressed);
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
+    }
+
+    @Override
+    public void fromBytes(final FriendlyByteBuf buf)
+    {
+        this.innerMessageId = buf.readVarInt();
+        this.compressed = buf.readBoolean();
+
+        final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
+        if (messageEntry == null)
+        {
+            Log.getLogger().error("Received unknown message id: " + this.innerMessageId);
+            return;
+        }
+
+        this.message = messageEntry.getCreator().get();
+        if (this.compressed)
+        {
+            this.receivedPayload = new byte[buf.readableBytes()];
+            buf.readBytes(this.receivedPayload);
+        }
+        else
+        {
+            this.message.fromBytes(buf);
+        }
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        if (this.message == null)
+        {
+            return;
+        }
+
+        if (this.compressed)
+        {
+            if (isLogicalServer)
+            {
+                //Only the server compresses, so a compressed message from a client is never inflated.
+                Log.getLogger().warn("Rejected compressed message {} from a client.", this.innerMessageId);
+                return;
+            }
+
+            final ByteBuf inflated = MessageCompression.decompress(Unpooled.wrappedBuffer(this.receivedPayload));
+            this.message.fromBytes(new FriendlyByteBuf(inflated));
+            inflated.release();
+        }
+        SplitPacketMessage.executeWrapped(this.message, ctxIn);
+    }
+}
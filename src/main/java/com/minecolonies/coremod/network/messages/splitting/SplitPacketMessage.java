@@ -1,10 +1,10 @@
 package com.minecolonies.coremod.network.messages.splitting;
 
 import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.MessageCompression;
 import com.minecolonies.coremod.network.NetworkChannel;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -41,9 +41,19 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * Indicates if the reassembled message is compressed.
      */
-    private byte[] payload;
+    private boolean compressed = false;
+
+    /**
+     * The part of the encoded message when sending, its reader index is never moved.
+     */
+    private ByteBuf payload;
+
+    /**
+     * The received part of the encoded message.
+     */
+    private byte[] receivedPayload;
 
     /**
      * The network receiving constructor.
@@ -52,12 +62,29 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    /**
+     * Wrap a part of an encoded message.
+     *
+     * @param communicationId the id of the wrapped message.
+     * @param packetIndex     the index of this part.
+     * @param terminator      if this is the last part.
+     * @param innerMessageId  the id of the message inside the splitting logic.
+     * @param compressed      if the reassembled message is compressed.
+     * @param payload         the part of the encoded message, must stay valid until this is sent.
+     */
+    public SplitPacketMessage(
+      final int communicationId,
+      final int packetIndex,
+      final boolean terminator,
+      final int innerMessageId,
+      final boolean compressed,
+      final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
         this.terminator = terminator;
         this.innerMessageId = innerMessageId;
+        this.compressed = compressed;
         this.payload = payload;
     }
 
@@ -68,7 +95,9 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeBoolean(this.compressed);
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -78,18 +107,30 @@ public class SplitPacketMessage implements IMessage
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.compressed = buf.readBoolean();
+        this.receivedPayload = buf.readByteArray();
     }
 
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
+        if (this.compressed && isLogicalServer)
+        {
+            //Only the server compresses, so compressed parts from a client are never buffered or inflated.
+            Network.getNetwork().getMessageCache().invalidate(this.communicationId);
+            if (this.terminator)
+            {
+                Log.getLogger().warn("Rejected compressed split message {} from a client.", this.innerMessageId);
+            }
+            return;
+        }
+
         try
         {
             //Sync on the message cache since this is still on the Netty thread.
             synchronized (Network.getNetwork().getMessageCache())
             {
-                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload);
+                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.receivedPayload);
             }
 
             if (!this.terminator)
@@ -99,12 +140,13 @@ public class SplitPacketMessage implements IMessage
             }
 
             //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
-                                        .stream()
-                                        .sorted(Map.Entry.comparingByKey())
-                                        .map(Map.Entry::getValue)
-                                        .reduce(new byte[0], Bytes::concat);
+            //All data gets sorted and wrapped without copying.
+            final byte[][] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
+                                          .stream()
+                                          .sorted(Map.Entry.comparingByKey())
+                                          .map(Map.Entry::getValue)
+                                          .toArray(byte[][]::new);
+            Network.getNetwork().getMessageCache().invalidate(this.communicationId);
 
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
@@ -113,23 +155,39 @@ public class SplitPacketMessage implements IMessage
             final IMessage message = messageEntry.getCreator().get();
 
             //Create a new buffer that reads from the packet data and then deserialize the inner message.
-            final ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
+            ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
+            if (this.compressed)
+            {
+                final ByteBuf inflated = MessageCompression.decompress(buffer);
+                buffer.release();
+                buffer = inflated;
+            }
             message.fromBytes(new FriendlyByteBuf(buffer));
             buffer.release();
 
-            //Execute the message.
-            final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
-            if (message.getExecutionSide() != null && packetOrigin.equals(message.getExecutionSide()))
-            {
-                Log.getLogger().warn("Receving {} at wrong side!", message.getClass().getName());
-                return;
-            }
-            // boolean param MUST equals true if packet arrived at logical server
-            ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
+            executeWrapped(message, ctxIn);
         }
         catch (ExecutionException e)
         {
             Log.getLogger().error("Failed to handle split packet.", e);
         }
     }
+
+    /**
+     * Execute a message which arrived wrapped, on the side it is meant for.
+     *
+     * @param message the unwrapped message.
+     * @param ctxIn   the network context of the wrapper.
+     */
+    static void executeWrapped(final IMessage message, final NetworkEvent.Context ctxIn)
+    {
+        final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
+        if (message.getExecutionSide() != null && packetOrigin.equals(message.getExecutionSide()))
+        {
+            Log.getLogger().warn("Receving {} at wrong side!", message.getClass().getName());
+            return;
+        }
+        // boolean param MUST equals true if packet arrived at logical server
+        ctxIn.enqueueWork(() -> message.onExecute(ctxIn, packetOrigin.equals(LogicalSide.CLIENT)));
+    }
 }
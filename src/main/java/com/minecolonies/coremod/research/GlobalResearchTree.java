@@ -57,6 +57,11 @@ public class GlobalResearchTree implements IGlobalResearchTree
      */
     private final Map<ResourceLocation, Set<IGlobalResearch>> researchEffectsIds = new HashMap<>();
 
+    /**
+     * Version of the tree, changed whenever research or branches are added or removed.
+     */
+    private int version = 0;
+
     @Override
     public IGlobalResearch getResearch(final ResourceLocation branch, final ResourceLocation id) { return researchTree.get(branch).get(id); }
 
@@ -113,6 +118,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
 
         branchMap.put(research.getId(), research);
         researchTree.put(branch, branchMap);
+        version++;
 
         if (isReloadedWithWorld)
         {
@@ -132,6 +138,13 @@ public class GlobalResearchTree implements IGlobalResearchTree
     public void addBranchData(final ResourceLocation branchId, final IGlobalResearchBranch branchData)
     {
         this.branchDatas.put(branchId, branchData);
+        version++;
+    }
+
+    @Override
+    public int getVersion()
+    {
+        return version;
     }
 
     @Override
@@ -192,6 +205,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
             }
         }
         reloadableResearch.clear();
+        version++;
         // Autostart is only accessible as a dynamically-assigned trait, so we can reset all of it.
         autostartResearch.clear();
         branchDatas.clear();
@@ -269,6 +283,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
             ResourceLocation branchId = buf.readResourceLocation();
             branchDatas.put(branchId, new GlobalResearchBranch(buf.readNbt()));
         }
+        version++;
         return null;
     }
 
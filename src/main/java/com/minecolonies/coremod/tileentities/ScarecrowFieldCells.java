@@ -0,0 +1,291 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.tileentities.ScarecrowFieldStage;
+import com.minecolonies.coremod.blocks.BlockScarecrow;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.*;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The state of every cell of a scarecrow field, so farmers can skip cells which need nothing without probing the world.
+ * <p>
+ * A cell is classified the first time it is looked at and kept until a block change or crop growth event in its column marks it unknown again. Changes
+ * which fire no event, like farmland drying out, are picked up when the field finished a full cycle, as all cells are marked unknown then.
+ */
+public class ScarecrowFieldCells
+{
+    /**
+     * Cell states.
+     */
+    public static final byte UNKNOWN = 0;
+    public static final byte IGNORED = 1;
+    public static final byte UNHOED  = 2;
+    public static final byte EMPTY   = 3;
+    public static final byte GROWING = 4;
+    public static final byte MATURE  = 5;
+
+    /**
+     * The maximum depth to search for a surface.
+     */
+    private static final int MAX_DEPTH = 5;
+
+    /**
+     * Vertical distance from the scarecrow in which block changes can affect a cell.
+     */
+    private static final int MAX_HEIGHT_DIFFERENCE = MAX_DEPTH + 3;
+
+    /**
+     * Number of cells along one side of the field.
+     */
+    private static final int SIDE = ScarecrowTileEntity.getMaxRange() * 2 + 1;
+
+    /**
+     * The state per cell.
+     */
+    private final byte[] states = new byte[SIDE * SIDE];
+
+    /**
+     * Get the state of a cell, classifying it if unknown.
+     *
+     * @param world   the world.
+     * @param field   the field.
+     * @param offsetX the east offset of the cell from the scarecrow.
+     * @param offsetZ the south offset of the cell from the scarecrow.
+     * @return the state.
+     */
+    public byte getState(@NotNull final Level world, @NotNull final ScarecrowTileEntity field, final int offsetX, final int offsetZ)
+    {
+        final int index = getIndex(offsetX, offsetZ);
+        if (index < 0)
+        {
+            return IGNORED;
+        }
+
+        if (states[index] == UNKNOWN)
+        {
+            states[index] = classify(world, field, field.getBlockPos().below().south(offsetZ).east(offsetX));
+        }
+        return states[index];
+    }
+
+    /**
+     * Check if a cell needs work in the given stage of the field.
+     *
+     * @param world        the world.
+     * @param field        the field.
+     * @param offsetX      the east offset of the cell from the scarecrow.
+     * @param offsetZ      the south offset of the cell from the scarecrow.
+     * @param stage        the stage of the field.
+     * @param canFertilize if growing crops can be fertilized.
+     * @return true if so.
+     */
+    public boolean needsWork(
+      @NotNull final Level world,
+      @NotNull final ScarecrowTileEntity field,
+      final int offsetX,
+      final int offsetZ,
+      @NotNull final ScarecrowFieldStage stage,
+      final boolean canFertilize)
+    {
+        final byte state = getState(world, field, offsetX, offsetZ);
+        switch (stage)
+        {
+            case EMPTY:
+                return state == UNHOED;
+            case HOED:
+                return state == EMPTY;
+            case PLANTED:
+                return state == MATURE || (canFertilize && state == GROWING);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Mark the cell of a column unknown.
+     *
+     * @param field the field.
+     * @param pos   a changed position.
+     */
+    public void markChanged(@NotNull final ScarecrowTileEntity field, @NotNull final BlockPos pos)
+    {
+        if (Math.abs(pos.getY() - field.getBlockPos().getY()) > MAX_HEIGHT_DIFFERENCE)
+        {
+            return;
+        }
+
+        final int index = getIndex(pos.getX() - field.getBlockPos().getX(), pos.getZ() - field.getBlockPos().getZ());
+        if (index >= 0)
+        {
+            states[index] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Mark all cells unknown.
+     */
+    public void markAllChanged()
+    {
+        Arrays.fill(states, UNKNOWN);
+    }
+
+    /**
+     * Mark the cells of a changed position and its horizontal neighbours unknown in the fields around it.
+     * Neighbours are included, as stems place their fruit next to them.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        final int range = ScarecrowTileEntity.getMaxRange() + 1;
+        for (final BlockPos fieldPos : colony.getBuildingManager().getFields())
+        {
+            if (Math.abs(fieldPos.getX() - pos.getX()) > range || Math.abs(fieldPos.getZ() - pos.getZ()) > range || !world.isLoaded(fieldPos))
+            {
+                continue;
+            }
+
+            final BlockEntity entity = world.getBlockEntity(fieldPos);
+            if (entity instanceof ScarecrowTileEntity)
+            {
+                final ScarecrowFieldCells cells = ((ScarecrowTileEntity) entity).getFieldCells();
+                cells.markChanged((ScarecrowTileEntity) entity, pos);
+                for (final Direction direction : Direction.Plane.HORIZONTAL)
+                {
+                    cells.markChanged((ScarecrowTileEntity) entity, pos.relative(direction));
+                }
+            }
+        }
+    }
+
+    /**
+     * Classify a cell the same way the farmer checks what to do at it.
+     *
+     * @param world    the world.
+     * @param field    the field.
+     * @param position the position below the scarecrow level of the cell.
+     * @return the state.
+     */
+    private static byte classify(@NotNull final Level world, @NotNull final ScarecrowTileEntity field, @NotNull final BlockPos position)
+    {
+        final BlockPos surface = getSurfacePos(world, position);
+        if (surface == null || field.isNoPartOfField(world, surface))
+        {
+            return IGNORED;
+        }
+
+        final BlockState surfaceState = world.getBlockState(surface);
+        final BlockState aboveState = world.getBlockState(surface.above());
+        final Block above = aboveState.getBlock();
+        if (surfaceState.getBlock() instanceof BlockScarecrow || above instanceof BlockScarecrow)
+        {
+            return IGNORED;
+        }
+
+        if (above == Blocks.PUMPKIN || above == Blocks.MELON)
+        {
+            return MATURE;
+        }
+
+        if (above instanceof CropBlock)
+        {
+            return ((CropBlock) above).isMaxAge(aboveState) ? MATURE : GROWING;
+        }
+
+        if (above instanceof StemBlock)
+        {
+            return IGNORED;
+        }
+
+        if (surfaceState.getBlock() instanceof FarmBlock)
+        {
+            return EMPTY;
+        }
+
+        return surfaceState.is(BlockTags.DIRT) ? UNHOED : IGNORED;
+    }
+
+    /**
+     * Finds the position of the surface near the specified position.
+     *
+     * @param world    the world.
+     * @param position the location to begin the search.
+     * @return the position of the surface block or null if it can't be found.
+     */
+    @Nullable
+    public static BlockPos getSurfacePos(@NotNull final Level world, @NotNull final BlockPos position)
+    {
+        return getSurfacePos(world, position, 0);
+    }
+
+    /**
+     * Finds the position of the surface near the specified position.
+     *
+     * @param world    the world.
+     * @param position the location to begin the search.
+     * @param depth    the depth of the search for the surface.
+     * @return the position of the surface block or null if it can't be found.
+     */
+    @Nullable
+    private static BlockPos getSurfacePos(@NotNull final Level world, @NotNull final BlockPos position, final int depth)
+    {
+        if (Math.abs(depth) > MAX_DEPTH)
+        {
+            return null;
+        }
+        final BlockState curBlockState = world.getBlockState(position);
+        final Block curBlock = curBlockState.getBlock();
+        if ((curBlockState.getMaterial().isSolid() && !(curBlock instanceof PumpkinBlock) && !(curBlock instanceof MelonBlock) && !(curBlock instanceof WebBlock))
+              || curBlockState.getMaterial().isLiquid())
+        {
+            if (depth < 0)
+            {
+                return position;
+            }
+            return getSurfacePos(world, position.above(), depth + 1);
+        }
+        else
+        {
+            if (depth > 0)
+            {
+                return position.below();
+            }
+            return getSurfacePos(world, position.below(), depth - 1);
+        }
+    }
+
+    /**
+     * Get the index of a cell.
+     *
+     * @param offsetX the east offset of the cell from the scarecrow.
+     * @param offsetZ the south offset of the cell from the scarecrow.
+     * @return the index, or -1 if outside of the maximum field size.
+     */
+    private static int getIndex(final int offsetX, final int offsetZ)
+    {
+        final int x = offsetX + ScarecrowTileEntity.getMaxRange();
+        final int z = offsetZ + ScarecrowTileEntity.getMaxRange();
+        if (x < 0 || z < 0 || x >= SIDE || z >= SIDE)
+        {
+            return -1;
+        }
+        return x * SIDE + z;
+    }
+}
@@ -100,6 +100,11 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
      */
     private final ItemStackHandler inventory;
 
+    /**
+     * The state of the cells of the field, not saved.
+     */
+    private final ScarecrowFieldCells fieldCells = new ScarecrowFieldCells();
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -222,6 +227,7 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         if (getFieldStage().ordinal() + 1 >= ScarecrowFieldStage.values().length)
         {
             doesNeedWork = false;
+            fieldCells.markAllChanged();
             setFieldStage(ScarecrowFieldStage.values()[0]);
             return;
         }
@@ -274,6 +280,16 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         setChanged();
     }
 
+    /**
+     * Get the state of the cells of the field.
+     *
+     * @return the cell states.
+     */
+    public ScarecrowFieldCells getFieldCells()
+    {
+        return fieldCells;
+    }
+
     /**
      * Getter of the seed of the field.
      *
@@ -193,30 +193,86 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        final long start = System.nanoTime();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
+        int restoredColonies = 0;
+        int failedColonies = 0;
         for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
         {
-            int missingFilesInRow = 0;
-            for (int i = 1; i <= MAX_COLONY_LOAD && missingFilesInRow < 5; i++)
+            for (final int id : getColonyFileIds(new File(saveDir, getFolderForDimension(dimensionType.location()))))
             {
-                // Check non-deleted files for colony id + dim
-                @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                if (file.exists())
+                // Load colony if null
+                if (IColonyManager.getInstance().getColonyByDimension(id, dimensionType) == null)
                 {
-                    missingFilesInRow = 0;
-                    // Load colony if null
-                    if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                    loadColonyBackup(id, dimensionType, false, false);
+                    if (IColonyManager.getInstance().getColonyByDimension(id, dimensionType) == null)
+                    {
+                        failedColonies++;
+                    }
+                    else
                     {
-                        loadColonyBackup(i, dimensionType, false, false);
+                        restoredColonies++;
                     }
                 }
-                else
+            }
+        }
+
+        Log.getLogger()
+          .info("Checked colony backups in " + (System.nanoTime() - start) / 1_000_000L + " ms, " + restoredColonies + " missing colonies restored, " + failedColonies
+                  + " failed");
+    }
+
+    /**
+     * Get the ids of the non-deleted colony files in a dimension folder from a single directory listing.
+     * Like probing the files id by id, ids after five missing files in a row are ignored.
+     *
+     * @param folder the dimension folder.
+     * @return the ids, in ascending order.
+     */
+    private static List<Integer> getColonyFileIds(@NotNull final File folder)
+    {
+        final String[] names = folder.list();
+        if (names == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final String prefix = FILENAME_COLONY.substring(0, FILENAME_COLONY.indexOf("%d"));
+        final String suffix = FILENAME_COLONY.substring(FILENAME_COLONY.indexOf("%d") + 2);
+        final List<Integer> ids = new ArrayList<>();
+        for (final String name : names)
+        {
+            if (name.startsWith(prefix) && name.endsWith(suffix) && name.length() > prefix.length() + suffix.length())
+            {
+                try
                 {
-                    missingFilesInRow++;
+                    ids.add(Integer.parseInt(name.substring(prefix.length(), name.length() - suffix.length())));
                 }
+                catch (final NumberFormatException e)
+                {
+                    // Not a colony file
+                }
+            }
+        }
+        Collections.sort(ids);
+
+        final List<Integer> result = new ArrayList<>();
+        int previous = 0;
+        for (final int id : ids)
+        {
+            if (id < 1)
+            {
+                continue;
+            }
+            if (id > MAX_COLONY_LOAD || id - previous - 1 >= 5)
+            {
+                break;
             }
+            result.add(id);
+            previous = id;
         }
+        return result;
     }
 
     /**
@@ -0,0 +1,325 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.placement.structure.IStructureHandler;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.Rotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Shared cache of loaded and rotated blueprints, keyed by structure name, rotation and mirror.
+ * <p>
+ * Blueprints handed out by this cache are shared between all users of the same logical side and must be treated as immutable, they must never be rotated or mirrored.
+ * They may only be read on the thread of their side, work on other threads has to copy what it needs first, like {@code StructureRequirementsCalculator}.
+ * The cache is bounded by an estimate of the memory the blueprints use, least recently used entries are evicted first.
+ * Entries are only softly referenced, so the garbage collector may drop them under memory pressure.
+ */
+public final class BlueprintCache
+{
+    /**
+     * Estimated memory use per block of a blueprint volume: the structure array and the lazily built block info caches.
+     */
+    private static final long BYTES_PER_BLOCK = 64;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    /**
+     * One instance per logical side, blueprints are never shared between the integrated server and the client.
+     */
+    private static final BlueprintCache SERVER = new BlueprintCache();
+    private static final BlueprintCache CLIENT = new BlueprintCache();
+
+    /**
+     * The cached entries, in access order.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Estimated memory used by all entries.
+     */
+    private long accountedBytes = 0;
+
+    /**
+     * Metrics.
+     */
+    private long hits      = 0;
+    private long misses    = 0;
+    private long evictions = 0;
+
+    /**
+     * Private constructor, use {@link #get(Level)}.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the cache of the logical side of a level.
+     *
+     * @param level the level.
+     * @return the cache.
+     */
+    public static BlueprintCache get(@NotNull final Level level)
+    {
+        return level.isClientSide ? CLIENT : SERVER;
+    }
+
+    /**
+     * Drop all blueprints cached by the logical server, called before a server starts.
+     */
+    public static void clearServerCache()
+    {
+        SERVER.clear();
+    }
+
+    /**
+     * Get a rotated and mirrored blueprint, loading it if it is not cached yet.
+     * On the server the cached blueprint is checked against the md5 structurize currently knows for the structure, so a changed structure file is loaded
+     * again instead of serving the old blueprint.
+     *
+     * @param level    the level, used for loading and rotating.
+     * @param name     the structure name.
+     * @param rotation the rotation.
+     * @param mirror   the mirror.
+     * @return the shared blueprint, or null if it does not exist.
+     */
+    @Nullable
+    public Blueprint getBlueprint(@NotNull final Level level, @NotNull final String name, @NotNull final Rotation rotation, @NotNull final Mirror mirror)
+    {
+        return lookup(level, name, rotation, mirror, level.isClientSide ? null : Structures.getMD5(name), false);
+    }
+
+    /**
+     * Get a rotated and mirrored blueprint, loading it if it is not cached yet or does not match the expected md5.
+     *
+     * @param level    the level, used for loading and rotating.
+     * @param name     the structure name.
+     * @param rotation the rotation.
+     * @param mirror   the mirror.
+     * @param md5      the expected md5 of the structure file, null to accept any.
+     * @return the shared blueprint, or null if it does not exist or does not match the md5.
+     */
+    @Nullable
+    public Blueprint getBlueprint(
+      @NotNull final Level level,
+      @NotNull final String name,
+      @NotNull final Rotation rotation,
+      @NotNull final Mirror mirror,
+      @Nullable final String md5)
+    {
+        return lookup(level, name, rotation, mirror, md5, true);
+    }
+
+    /**
+     * Get a cached blueprint matching the md5, or load it.
+     *
+     * @param level    the level, used for loading and rotating.
+     * @param name     the structure name.
+     * @param rotation the rotation.
+     * @param mirror   the mirror.
+     * @param md5      the md5 the cached blueprint has to match, null to accept any.
+     * @param required if a loaded blueprint not matching the md5 is rejected, else it is returned but not trusted for later lookups.
+     * @return the shared blueprint, or null if it does not exist or is rejected.
+     */
+    @Nullable
+    private synchronized Blueprint lookup(
+      @NotNull final Level level,
+      @NotNull final String name,
+      @NotNull final Rotation rotation,
+      @NotNull final Mirror mirror,
+      @Nullable final String md5,
+      final boolean required)
+    {
+        final Key key = new Key(name, rotation, mirror);
+        final Entry entry = entries.get(key);
+        if (entry != null)
+        {
+            final Blueprint blueprint = entry.blueprint.get();
+            if (blueprint != null && (md5 == null || md5.equals(entry.md5)))
+            {
+                hits++;
+                return blueprint;
+            }
+
+            entries.remove(key);
+            accountedBytes -= entry.bytes;
+            if (blueprint == null)
+            {
+                evictions++;
+            }
+        }
+
+        misses++;
+        final IStructureHandler handler = new LoadOnlyStructureHandler(level, BlockPos.ZERO, name, new PlacementSettings(), true);
+        if (!handler.hasBluePrint())
+        {
+            return null;
+        }
+
+        final boolean matches = md5 != null && handler.isCorrectMD5(md5);
+        if (required && md5 != null && !matches)
+        {
+            return null;
+        }
+
+        final Blueprint blueprint = handler.getBluePrint();
+        blueprint.rotateWithMirror(rotation, mirror, level);
+
+        final long bytes = (long) blueprint.getSizeX() * blueprint.getSizeY() * blueprint.getSizeZ() * BYTES_PER_BLOCK;
+        entries.put(key, new Entry(new SoftReference<>(blueprint), matches ? md5 : null, bytes));
+        accountedBytes += bytes;
+        trim();
+        return blueprint;
+    }
+
+    /**
+     * Drop all entries.
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+        accountedBytes = 0;
+    }
+
+    /**
+     * Evict least recently used entries, and entries cleared by the garbage collector, until the cache fits its budget again.
+     */
+    private void trim()
+    {
+        final long budget = MineColonies.getConfig().getServer().blueprintCacheSize.get() * BYTES_PER_MB;
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext())
+        {
+            final Entry entry = iterator.next();
+            if (accountedBytes > budget || entry.blueprint.get() == null)
+            {
+                iterator.remove();
+                accountedBytes -= entry.bytes;
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached blueprints.
+     *
+     * @return the number.
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Get the estimated memory used by all cached blueprints.
+     *
+     * @return the size in bytes.
+     */
+    public synchronized long getAccountedBytes()
+    {
+        return accountedBytes;
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return the number.
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups which had to load a blueprint.
+     *
+     * @return the number.
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Get the number of entries dropped because of the size limit or the garbage collector.
+     *
+     * @return the number.
+     */
+    public synchronized long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Cache key.
+     */
+    private static final class Key
+    {
+        private final String   name;
+        private final Rotation rotation;
+        private final Mirror   mirror;
+
+        private Key(final String name, final Rotation rotation, final Mirror mirror)
+        {
+            this.name = name;
+            this.rotation = rotation;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return name.equals(key.name) && rotation == key.rotation && mirror == key.mirror;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, rotation, mirror);
+        }
+    }
+
+    /**
+     * Cache entry.
+     */
+    private static final class Entry
+    {
+        private final SoftReference<Blueprint> blueprint;
+        private final String                   md5;
+        private final long                     bytes;
+
+        private Entry(final SoftReference<Blueprint> blueprint, final String md5, final long bytes)
+        {
+            this.blueprint = blueprint;
+            this.md5 = md5;
+            this.bytes = bytes;
+        }
+    }
+}
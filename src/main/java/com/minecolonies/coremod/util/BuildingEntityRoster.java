@@ -0,0 +1,228 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The animals and dropped items inside the bounds of a building, so herders can count and pick them without querying the world.
+ * <p>
+ * Entities joining or leaving the level are added and removed right away. Entities walking across the building bounds are dropped on read once they left,
+ * and picked up from the level wide trackers when the roster is refreshed. Rosters are created for the buildings asking for them and dropped once unused.
+ */
+public final class BuildingEntityRoster
+{
+    /**
+     * Interval in ticks at which entities which walked into the building are picked up.
+     */
+    private static final int REFRESH_INTERVAL = 100;
+
+    /**
+     * Ticks after which a roster which was not asked for anymore is dropped.
+     */
+    private static final int UNUSED_TIMEOUT = 1200;
+
+    /**
+     * The rosters per level and building position.
+     */
+    private static final Map<ResourceKey<Level>, Map<BlockPos, BuildingEntityRoster>> rosters = new HashMap<>();
+
+    /**
+     * The animals inside the building.
+     */
+    private final Set<Animal> animals = new ReferenceOpenHashSet<>();
+
+    /**
+     * The dropped items inside the building.
+     */
+    private final Set<ItemEntity> items = new ReferenceOpenHashSet<>();
+
+    /**
+     * The bounds of the building, null until the first refresh.
+     */
+    private AABB bounds;
+
+    /**
+     * Game time of the last refresh.
+     */
+    private long lastRefresh = 0;
+
+    /**
+     * Game time the roster was last asked for.
+     */
+    private long lastAccess = 0;
+
+    /**
+     * Create an empty roster, rosters are handed out per building.
+     */
+    private BuildingEntityRoster()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the roster of a building, refreshing it if needed.
+     *
+     * @param level    the level of the building.
+     * @param building the building.
+     * @return the roster.
+     */
+    public static BuildingEntityRoster get(@NotNull final Level level, @NotNull final IBuilding building)
+    {
+        final long gameTime = level.getGameTime();
+        final Map<BlockPos, BuildingEntityRoster> levelRosters = rosters.computeIfAbsent(level.dimension(), k -> new HashMap<>());
+        final BuildingEntityRoster roster = levelRosters.computeIfAbsent(building.getID(), k -> new BuildingEntityRoster());
+        roster.lastAccess = gameTime;
+
+        final Tuple<BlockPos, BlockPos> corners = building.getCorners();
+        final AABB bounds =
+          new AABB(corners.getA().getX(), corners.getA().getY(), corners.getA().getZ(), corners.getB().getX(), corners.getB().getY(), corners.getB().getZ());
+        if (roster.bounds == null || !roster.bounds.equals(bounds) || gameTime - roster.lastRefresh >= REFRESH_INTERVAL)
+        {
+            roster.refresh(level, bounds, gameTime);
+            levelRosters.values().removeIf(other -> gameTime - other.lastAccess > UNUSED_TIMEOUT);
+        }
+        return roster;
+    }
+
+    /**
+     * Add an entity which joined the level to the rosters of the buildings it is in.
+     *
+     * @param level  the level.
+     * @param entity the entity.
+     */
+    public static void onEntityJoin(@NotNull final Level level, @NotNull final Entity entity)
+    {
+        final Map<BlockPos, BuildingEntityRoster> levelRosters = rosters.get(level.dimension());
+        if (levelRosters == null)
+        {
+            return;
+        }
+
+        for (final BuildingEntityRoster roster : levelRosters.values())
+        {
+            if (roster.bounds == null || !entity.getBoundingBox().intersects(roster.bounds))
+            {
+                continue;
+            }
+
+            if (entity instanceof Animal)
+            {
+                roster.animals.add((Animal) entity);
+            }
+            else if (entity instanceof ItemEntity)
+            {
+                roster.items.add((ItemEntity) entity);
+            }
+        }
+    }
+
+    /**
+     * Remove an entity which left the level from all rosters.
+     *
+     * @param level  the level.
+     * @param entity the entity.
+     */
+    public static void onEntityLeave(@NotNull final Level level, @NotNull final Entity entity)
+    {
+        final Map<BlockPos, BuildingEntityRoster> levelRosters = rosters.get(level.dimension());
+        if (levelRosters == null)
+        {
+            return;
+        }
+
+        for (final BuildingEntityRoster roster : levelRosters.values())
+        {
+            roster.animals.remove(entity);
+            roster.items.remove(entity);
+        }
+    }
+
+    /**
+     * Drop the rosters of a level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        rosters.remove(level.dimension());
+    }
+
+    /**
+     * Get the animals of a type inside the building.
+     *
+     * @param type the type of animal.
+     * @param <T>  the type of animal.
+     * @return the animals, in no particular order.
+     */
+    public <T extends Animal> List<T> getAnimals(@NotNull final Class<T> type)
+    {
+        final List<T> result = new ArrayList<>();
+        final Iterator<Animal> iterator = animals.iterator();
+        while (iterator.hasNext())
+        {
+            final Animal animal = iterator.next();
+            if (!isInside(animal))
+            {
+                iterator.remove();
+            }
+            else if (type.isInstance(animal))
+            {
+                result.add(type.cast(animal));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the dropped items inside the building.
+     *
+     * @return the items, in no particular order.
+     */
+    public List<ItemEntity> getItems()
+    {
+        items.removeIf(item -> !isInside(item));
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Re-read the entities inside the building from the level wide trackers.
+     *
+     * @param level    the level.
+     * @param bounds   the current bounds of the building.
+     * @param gameTime the current game time.
+     */
+    private void refresh(@NotNull final Level level, @NotNull final AABB bounds, final long gameTime)
+    {
+        this.bounds = bounds;
+        this.lastRefresh = gameTime;
+
+        animals.clear();
+        animals.addAll(AnimalTracker.get(level).getEntitiesWithin(bounds, gameTime));
+        items.clear();
+        items.addAll(DroppedItemTracker.get(level).getEntitiesWithin(bounds, gameTime));
+    }
+
+    /**
+     * Check if an entity is still alive and inside the building.
+     *
+     * @param entity the entity.
+     * @return true if so.
+     */
+    private boolean isInside(@NotNull final Entity entity)
+    {
+        return entity.isAlive() && entity.getBoundingBox().intersects(bounds);
+    }
+}
@@ -0,0 +1,229 @@
+package com.minecolonies.coremod.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.minecolonies.api.util.Log;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Low overhead tick time profiler for colonies.
+ * Sections are measured with {@link System#nanoTime()} while the profiler is running and cost a single boolean check while it is not.
+ * The results are not synchronized, so all methods are meant to be called from the server thread. Only the thread which started the recording is measured,
+ * sections begun on any other thread, like the colony tick workers, are ignored.
+ */
+public final class ColonyTickProfiler
+{
+    /**
+     * File name of json dumps.
+     */
+    private static final String FILENAME_PROFILE = "profile-%s.json";
+
+    /**
+     * The measured sections.
+     */
+    public enum Section
+    {
+        COLONY,
+        CITIZEN_DATA,
+        BUILDING,
+        JOB,
+        AI_STATE
+    }
+
+    /**
+     * Time and calls of a single key.
+     */
+    public static final class Entry
+    {
+        private long nanos;
+        private long calls;
+        private long maxNanos;
+
+        public long getNanos()
+        {
+            return nanos;
+        }
+
+        public long getCalls()
+        {
+            return calls;
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos;
+        }
+    }
+
+    /**
+     * Whether the profiler is currently recording.
+     */
+    private static boolean enabled = false;
+
+    /**
+     * Time the current recording was started at.
+     */
+    private static long startedAt = 0;
+
+    /**
+     * The thread which started the recording, the only one measured.
+     */
+    private static Thread recordingThread = null;
+
+    /**
+     * The recorded entries per section and key.
+     */
+    private static final Map<Section, Map<String, Entry>> entries = new EnumMap<>(Section.class);
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyTickProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start recording, clears previous results.
+     */
+    public static void start()
+    {
+        reset();
+        recordingThread = Thread.currentThread();
+        enabled = true;
+    }
+
+    /**
+     * Stop recording, results are kept.
+     */
+    public static void stop()
+    {
+        enabled = false;
+    }
+
+    /**
+     * Clear all results.
+     */
+    public static void reset()
+    {
+        entries.clear();
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * Check if the profiler is recording.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Begin measuring a section. Callers should only build the key of the section when this did not return 0.
+     *
+     * @return the start timestamp, or 0 if the profiler is not recording or this is not the recording thread.
+     */
+    public static long begin()
+    {
+        return enabled && Thread.currentThread() == recordingThread ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Finish measuring a section.
+     *
+     * @param section the section.
+     * @param key     the key within the section, like a job or building type, converted to a string only while recording.
+     * @param start   the timestamp returned by {@link #begin()}.
+     */
+    public static void end(@NotNull final Section section, @NotNull final Object key, final long start)
+    {
+        if (start == 0 || !enabled || Thread.currentThread() != recordingThread)
+        {
+            return;
+        }
+
+        final long time = System.nanoTime() - start;
+        final Entry entry = entries.computeIfAbsent(section, s -> new HashMap<>()).computeIfAbsent(key.toString(), k -> new Entry());
+        entry.nanos += time;
+        entry.calls++;
+        entry.maxNanos = Math.max(entry.maxNanos, time);
+    }
+
+    /**
+     * Get the recorded entries of a section, most expensive first.
+     *
+     * @param section the section.
+     * @return the sorted entries.
+     */
+    public static List<Map.Entry<String, Entry>> getSorted(@NotNull final Section section)
+    {
+        final List<Map.Entry<String, Entry>> sorted = new ArrayList<>(entries.getOrDefault(section, Collections.emptyMap()).entrySet());
+        sorted.sort((e1, e2) -> Long.compare(e2.getValue().nanos, e1.getValue().nanos));
+        return sorted;
+    }
+
+    /**
+     * Get the time passed since the recording started.
+     *
+     * @return the time in nanoseconds.
+     */
+    public static long getRecordedNanos()
+    {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Write all results as json into the minecolonies folder of the world.
+     *
+     * @return the written file, or null if writing failed.
+     */
+    public static File dump()
+    {
+        final JsonObject root = new JsonObject();
+        root.addProperty("recordedNanos", getRecordedNanos());
+        for (final Section section : Section.values())
+        {
+            final JsonArray sectionJson = new JsonArray();
+            for (final Map.Entry<String, Entry> entry : getSorted(section))
+            {
+                final JsonObject entryJson = new JsonObject();
+                entryJson.addProperty("key", entry.getKey());
+                entryJson.addProperty("nanos", entry.getValue().nanos);
+                entryJson.addProperty("calls", entry.getValue().calls);
+                entryJson.addProperty("maxNanos", entry.getValue().maxNanos);
+                sectionJson.add(entryJson);
+            }
+            root.add(section.name().toLowerCase(Locale.US), sectionJson);
+        }
+
+        final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        saveDir.mkdirs();
+        final File file = new File(saveDir, String.format(FILENAME_PROFILE, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date())));
+        try (Writer writer = new FileWriter(file))
+        {
+            new GsonBuilder().setPrettyPrinting().create().toJson(root, writer);
+            return file;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to write colony profile", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.minecolonies.coremod.util;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the dropped items of each server level, so citizens can look for items to pick up without querying the world.
+ */
+public final class DroppedItemTracker
+{
+    /**
+     * Interval in ticks at which moved items are re-bucketed.
+     */
+    private static final int REFRESH_INTERVAL = 20;
+
+    /**
+     * The trackers per level.
+     */
+    private static final Map<ResourceKey<Level>, SectionEntityTracker<ItemEntity>> trackers = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private DroppedItemTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the tracker of a level.
+     *
+     * @param level the level.
+     * @return the tracker.
+     */
+    public static SectionEntityTracker<ItemEntity> get(@NotNull final Level level)
+    {
+        return trackers.computeIfAbsent(level.dimension(), k -> new SectionEntityTracker<>(REFRESH_INTERVAL));
+    }
+
+    /**
+     * Drop the tracker of a level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        trackers.remove(level.dimension());
+    }
+}
@@ -0,0 +1,201 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.items.ModTags;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the hostile entities of each server level, so guards and fleeing citizens can look for threats without querying the world.
+ * <p>
+ * Hostiles are tracked level wide, as they spawn outside of colonies and walk in, lookups only touch the sections around the queried area. Line of sight
+ * checks are cached for a short time per observer and target pair, as a guard or citizen re-checks the same threats on consecutive target searches. Results
+ * are not shared between observers, each one sees from its own eye position.
+ */
+public final class HostileEntityTracker
+{
+    /**
+     * Interval in ticks at which moved hostiles are re-bucketed.
+     */
+    private static final int REFRESH_INTERVAL = 10;
+
+    /**
+     * Ticks a line of sight result is reused.
+     */
+    private static final int SIGHT_CACHE_TICKS = 10;
+
+    /**
+     * The trackers per level.
+     */
+    private static final Map<ResourceKey<Level>, HostileEntityTracker> trackers = new HashMap<>();
+
+    /**
+     * The tracked hostiles.
+     */
+    private final SectionEntityTracker<LivingEntity> hostiles = new SectionEntityTracker<>(REFRESH_INTERVAL);
+
+    /**
+     * Cached line of sight per observer and target id pair, the game time of the check shifted left by one with the result in the lowest bit.
+     * Only repeated checks of the same observer hit this cache.
+     */
+    private final Long2LongOpenHashMap sightCache = new Long2LongOpenHashMap();
+
+    /**
+     * Game time at which outdated line of sight results were last dropped.
+     */
+    private long lastSightPrune = 0;
+
+    /**
+     * Create an empty tracker, trackers are handed out per level.
+     */
+    private HostileEntityTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the tracker of a level.
+     *
+     * @param level the level.
+     * @return the tracker.
+     */
+    public static HostileEntityTracker get(@NotNull final Level level)
+    {
+        return trackers.computeIfAbsent(level.dimension(), k -> new HostileEntityTracker());
+    }
+
+    /**
+     * Drop the tracker of a level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        trackers.remove(level.dimension());
+    }
+
+    /**
+     * Check if an entity is tracked as hostile, the same entity types the compatibility manager lists as monsters.
+     *
+     * @param entity the entity.
+     * @return true if so.
+     */
+    public static boolean isHostile(@NotNull final Entity entity)
+    {
+        return entity instanceof LivingEntity
+                 && (entity instanceof Enemy || entity.getType().getCategory() == MobCategory.MONSTER || entity.getType().is(ModTags.hostile));
+    }
+
+    /**
+     * Start tracking a hostile.
+     *
+     * @param entity the entity.
+     */
+    public void track(@NotNull final LivingEntity entity)
+    {
+        hostiles.track(entity);
+    }
+
+    /**
+     * Stop tracking a hostile.
+     *
+     * @param entity the entity.
+     */
+    public void untrack(@NotNull final LivingEntity entity)
+    {
+        hostiles.untrack(entity);
+    }
+
+    /**
+     * Get all living hostiles within an area.
+     *
+     * @param area     the area.
+     * @param gameTime the current game time.
+     * @return the hostiles, empty if none.
+     */
+    public List<LivingEntity> getHostilesWithin(@NotNull final AABB area, final long gameTime)
+    {
+        return hostiles.getEntitiesWithin(area, gameTime);
+    }
+
+    /**
+     * Get the closest hostile of a type within an area which the observer can see.
+     *
+     * @param observer the observer.
+     * @param area     the area.
+     * @param type     the type of hostile.
+     * @param <E>      the type of hostile.
+     * @return the hostile, or null if none is visible.
+     */
+    @Nullable
+    public <E extends Entity> E getClosestVisible(@NotNull final LivingEntity observer, @NotNull final AABB area, @NotNull final Class<E> type)
+    {
+        final List<LivingEntity> candidates = hostiles.getEntitiesWithin(area, observer.level.getGameTime());
+        candidates.removeIf(candidate -> candidate == observer || !type.isInstance(candidate));
+        candidates.sort((a, b) -> Double.compare(a.distanceToSqr(observer), b.distanceToSqr(observer)));
+
+        for (final LivingEntity candidate : candidates)
+        {
+            if (hasLineOfSight(observer, candidate))
+            {
+                return type.cast(candidate);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if an entity can see another one, reusing a recent result for the same pair.
+     *
+     * @param observer the observer.
+     * @param target   the target.
+     * @return true if the target is visible.
+     */
+    public boolean hasLineOfSight(@NotNull final LivingEntity observer, @NotNull final Entity target)
+    {
+        final long gameTime = observer.level.getGameTime();
+        pruneSightCache(gameTime);
+
+        final long key = ((long) observer.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        if (sightCache.containsKey(key))
+        {
+            final long cached = sightCache.get(key);
+            if (gameTime - (cached >> 1) < SIGHT_CACHE_TICKS)
+            {
+                return (cached & 1) == 1;
+            }
+        }
+
+        final boolean visible = observer.hasLineOfSight(target);
+        sightCache.put(key, (gameTime << 1) | (visible ? 1 : 0));
+        return visible;
+    }
+
+    /**
+     * Drop outdated line of sight results.
+     *
+     * @param gameTime the current game time.
+     */
+    private void pruneSightCache(final long gameTime)
+    {
+        if (gameTime - lastSightPrune < SIGHT_CACHE_TICKS)
+        {
+            return;
+        }
+        lastSightPrune = gameTime;
+        sightCache.long2LongEntrySet().removeIf(entry -> gameTime - (entry.getLongValue() >> 1) >= SIGHT_CACHE_TICKS);
+    }
+}
@@ -0,0 +1,98 @@
+package com.minecolonies.coremod.util;
+
+/**
+ * Counters of the budgeted request system work, shown to admins by the colony profile command.
+ * All methods are meant to be called from the server thread.
+ */
+public final class RequestSystemMetrics
+{
+    /**
+     * Requests retried since the server started.
+     */
+    private static long retried = 0;
+
+    /**
+     * Summed up time the retried requests waited after they were due, in nanoseconds.
+     */
+    private static long totalLatencyNanos = 0;
+
+    /**
+     * Longest time a retried request waited after it was due, in nanoseconds.
+     */
+    private static long maxLatencyNanos = 0;
+
+    /**
+     * Request system ticks which ran out of budget with work left.
+     */
+    private static long budgetExhausted = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private RequestSystemMetrics()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Called when a due request was retried.
+     *
+     * @param latencyNanos the time the request waited after it was due.
+     */
+    public static void onRetried(final long latencyNanos)
+    {
+        retried++;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    }
+
+    /**
+     * Called when a request system tick stopped with due requests left, they are continued on the next tick.
+     */
+    public static void onBudgetExhausted()
+    {
+        budgetExhausted++;
+    }
+
+    /**
+     * Get the amount of retried requests.
+     *
+     * @return the amount.
+     */
+    public static long getRetried()
+    {
+        return retried;
+    }
+
+    /**
+     * Get the average time a retried request waited after it was due.
+     *
+     * @return the time in nanoseconds.
+     */
+    public static long getAverageLatencyNanos()
+    {
+        return retried == 0 ? 0 : totalLatencyNanos / retried;
+    }
+
+    /**
+     * Get the longest time a retried request waited after it was due.
+     *
+     * @return the time in nanoseconds.
+     */
+    public static long getMaxLatencyNanos()
+    {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Get the amount of request system ticks which ran out of budget.
+     *
+     * @return the amount.
+     */
+    public static long getBudgetExhausted()
+    {
+        return budgetExhausted;
+    }
+}
@@ -0,0 +1,226 @@
+package com.minecolonies.coremod.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tracks a set of entities bucketed by the chunk section they are in.
+ * Entities are added and removed by world join and leave events, their buckets are refreshed periodically to follow movement.
+ * Lookups only touch the buckets overlapping the queried area, so an empty neighbourhood costs a few hash lookups.
+ *
+ * @param <E> the tracked entity type.
+ */
+public class SectionEntityTracker<E extends Entity>
+{
+    /**
+     * Tracked entities per section.
+     */
+    private final Long2ObjectMap<Set<E>> buckets = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The section each tracked entity is currently bucketed in.
+     */
+    private final Reference2LongMap<E> entitySections = new Reference2LongOpenHashMap<>();
+
+    /**
+     * Interval in game ticks between bucket refreshes.
+     */
+    private final int refreshInterval;
+
+    /**
+     * Game time of the last bucket refresh.
+     */
+    private long lastRefresh = 0;
+
+    /**
+     * Create a new tracker.
+     *
+     * @param refreshInterval interval in game ticks at which moved entities are re-bucketed.
+     */
+    public SectionEntityTracker(final int refreshInterval)
+    {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Start tracking an entity.
+     *
+     * @param entity the entity.
+     */
+    public void track(@NotNull final E entity)
+    {
+        if (entitySections.containsKey(entity))
+        {
+            return;
+        }
+
+        final long section = SectionPos.asLong(entity.blockPosition());
+        entitySections.put(entity, section);
+        buckets.computeIfAbsent(section, k -> new ReferenceOpenHashSet<>()).add(entity);
+    }
+
+    /**
+     * Stop tracking an entity.
+     *
+     * @param entity the entity.
+     */
+    public void untrack(@NotNull final E entity)
+    {
+        if (!entitySections.containsKey(entity))
+        {
+            return;
+        }
+
+        removeFromBucket(entity, entitySections.removeLong(entity));
+    }
+
+    /**
+     * Check if nothing is tracked at all.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return entitySections.isEmpty();
+    }
+
+    /**
+     * Get the number of tracked entities.
+     *
+     * @return the number.
+     */
+    public int size()
+    {
+        return entitySections.size();
+    }
+
+    /**
+     * Get all living tracked entities whose bounding box intersects the given area.
+     *
+     * @param area     the area.
+     * @param gameTime the current game time, used to refresh buckets of moved entities.
+     * @return the entities, empty if none.
+     */
+    public List<E> getEntitiesWithin(@NotNull final AABB area, final long gameTime)
+    {
+        if (entitySections.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        refreshIfNeeded(gameTime);
+
+        List<E> result = null;
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(area.minX));
+        final int minY = SectionPos.blockToSectionCoord(Mth.floor(area.minY));
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(area.minZ));
+        final int maxX = SectionPos.blockToSectionCoord(Mth.floor(area.maxX));
+        final int maxY = SectionPos.blockToSectionCoord(Mth.floor(area.maxY));
+        final int maxZ = SectionPos.blockToSectionCoord(Mth.floor(area.maxZ));
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final Set<E> bucket = buckets.get(SectionPos.asLong(x, y, z));
+                    if (bucket == null)
+                    {
+                        continue;
+                    }
+
+                    for (final E entity : bucket)
+                    {
+                        if (entity.isAlive() && entity.getBoundingBox().intersects(area))
+                        {
+                            if (result == null)
+                            {
+                                result = new ArrayList<>();
+                            }
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Visit all tracked entities.
+     *
+     * @param consumer the visitor.
+     */
+    public void forEach(@NotNull final Consumer<E> consumer)
+    {
+        new ArrayList<>(entitySections.keySet()).forEach(consumer);
+    }
+
+    /**
+     * Move entities which left their section into their new bucket and drop the ones which are gone.
+     *
+     * @param gameTime the current game time.
+     */
+    private void refreshIfNeeded(final long gameTime)
+    {
+        if (gameTime - lastRefresh < refreshInterval)
+        {
+            return;
+        }
+        lastRefresh = gameTime;
+
+        final Iterator<Reference2LongMap.Entry<E>> iterator = entitySections.reference2LongEntrySet().iterator();
+        final List<E> moved = new ArrayList<>();
+        while (iterator.hasNext())
+        {
+            final Reference2LongMap.Entry<E> entry = iterator.next();
+            final E entity = entry.getKey();
+            if (entity.isRemoved())
+            {
+                removeFromBucket(entity, entry.getLongValue());
+                iterator.remove();
+                continue;
+            }
+
+            final long section = SectionPos.asLong(entity.blockPosition());
+            if (section != entry.getLongValue())
+            {
+                removeFromBucket(entity, entry.getLongValue());
+                iterator.remove();
+                moved.add(entity);
+            }
+        }
+
+        moved.forEach(this::track);
+    }
+
+    /**
+     * Remove an entity from a bucket, dropping the bucket when it becomes empty.
+     *
+     * @param entity  the entity.
+     * @param section the bucket section.
+     */
+    private void removeFromBucket(final E entity, final long section)
+    {
+        final Set<E> bucket = buckets.get(section);
+        if (bucket != null && bucket.remove(entity) && bucket.isEmpty())
+        {
+            buckets.remove(section);
+        }
+    }
+}